@@ -0,0 +1,6 @@
+package com.thiagodd.sakura.application;
+
+public abstract class UseCase<IN, OUT> {
+
+    public abstract OUT execute(IN input);
+}
@@ -0,0 +1,184 @@
+package com.thiagodd.sakura.application.concurrency;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Turns many single-key lookups into a few batch lookups, the way a DataLoader does: keys requested within a short
+ * window, or until {@code maxBatchSize} distinct keys are waiting, go to the batch function together. A key
+ * requested twice in the same window is loaded once. With a {@code copying} function every caller gets its own copy
+ * of a shared value.
+ * <pre>{@code
+ * final var patients = BatchLoader.create(gateway::findAllById).copying(Patient::with);
+ * final Optional<Patient> patient = patients.get(patientID);
+ * }</pre>
+ * Batches run on virtual threads when the JVM has them and on a cached pool of platform threads otherwise.
+ */
+public final class BatchLoader<K, V> implements AutoCloseable {
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final ExecutorService executor;
+    private final ScheduledThreadPoolExecutor timer;
+    private final LongAdder batches = new LongAdder();
+    private final Object lock = new Object();
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private long generation;
+    private boolean closed;
+    private volatile long windowNanos = DEFAULT_WINDOW.toNanos();
+    private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private volatile UnaryOperator<V> copier = UnaryOperator.identity();
+
+    private BatchLoader(final Function<Collection<K>, Map<K, V>> batchFunction) {
+        this.batchFunction = batchFunction;
+        final var virtual = VirtualThreads.newThreadPerTaskExecutor();
+        this.executor = virtual != null
+            ? virtual
+            : Executors.newCachedThreadPool(UseCaseExecutor.daemonThreads("batch-loader"));
+        this.timer = new ScheduledThreadPoolExecutor(1, UseCaseExecutor.daemonThreads("batch-loader-timer"));
+    }
+
+    /** The batch function gets distinct keys and may leave out the ones it found nothing for. */
+    public static <K, V> BatchLoader<K, V> create(final Function<Collection<K>, Map<K, V>> batchFunction) {
+        return new BatchLoader<>(Objects.requireNonNull(batchFunction, "'batchFunction' should not be null"));
+    }
+
+    /** How long the first key of a batch waits for others. Defaults to 2 ms. */
+    public BatchLoader<K, V> window(final Duration window) {
+        Objects.requireNonNull(window, "'window' should not be null");
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("'window' should not be negative");
+        }
+        this.windowNanos = window.toNanos();
+        return this;
+    }
+
+    /** A batch is sent as soon as it has this many distinct keys. Defaults to {@value #DEFAULT_MAX_BATCH_SIZE}. */
+    public BatchLoader<K, V> maxBatchSize(final int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("'maxBatchSize' should be greater than zero");
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /** Applied to the loaded value once per caller, so callers asking for the same key never share an instance. */
+    public BatchLoader<K, V> copying(final UnaryOperator<V> copier) {
+        this.copier = Objects.requireNonNull(copier, "'copier' should not be null");
+        return this;
+    }
+
+    public CompletableFuture<Optional<V>> load(final K key) {
+        Objects.requireNonNull(key, "'key' should not be null");
+        final CompletableFuture<V> future;
+        Map<K, CompletableFuture<V>> full = null;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("BatchLoader is closed");
+            }
+            var slot = pending.get(key);
+            if (slot == null) {
+                slot = new CompletableFuture<>();
+                pending.put(key, slot);
+                if (pending.size() >= maxBatchSize) {
+                    full = takePending();
+                } else if (pending.size() == 1) {
+                    final var scheduled = generation;
+                    timer.schedule(() -> dispatchIfStill(scheduled), windowNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            future = slot;
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        final var copy = copier;
+        return future.thenApply(value -> Optional.ofNullable(value).map(copy));
+    }
+
+    /** Loads the key with whatever batch it lands in and waits for it, rethrowing what the batch function threw. */
+    public Optional<V> get(final K key) {
+        final var future = load(key);
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for " + key);
+        } catch (ExecutionException exception) {
+            throw UseCaseExecutor.propagate(exception.getCause());
+        }
+    }
+
+    /** Number of calls made to the batch function so far. */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /** Sends what is pending right away and stops accepting keys. */
+    @Override
+    public void close() {
+        final Map<K, CompletableFuture<V>> rest;
+        synchronized (lock) {
+            closed = true;
+            rest = takePending();
+        }
+        if (!rest.isEmpty()) {
+            dispatch(rest);
+        }
+        timer.shutdownNow();
+        executor.shutdown();
+    }
+
+    private void dispatchIfStill(final long scheduled) {
+        final Map<K, CompletableFuture<V>> batch;
+        synchronized (lock) {
+            if (generation != scheduled || pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        final var batch = pending;
+        pending = new LinkedHashMap<>();
+        generation++;
+        return batch;
+    }
+
+    private void dispatch(final Map<K, CompletableFuture<V>> batch) {
+        try {
+            executor.execute(() -> run(batch));
+        } catch (RejectedExecutionException exception) {
+            batch.values().forEach(future -> future.completeExceptionally(exception));
+        }
+    }
+
+    private void run(final Map<K, CompletableFuture<V>> batch) {
+        batches.increment();
+        try {
+            final var found = batchFunction.apply(batch.keySet());
+            batch.forEach((key, future) -> future.complete(found == null ? null : found.get(key)));
+        } catch (Throwable throwable) {
+            batch.values().forEach(future -> future.completeExceptionally(throwable));
+        }
+    }
+}
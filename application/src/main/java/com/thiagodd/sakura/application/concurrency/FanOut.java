@@ -0,0 +1,172 @@
+package com.thiagodd.sakura.application.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Scope for running independent steps of a use case in parallel. Each {@link #fork(Callable)} starts right away;
+ * {@link #join()} waits for all of them and fails fast, so the first failure, or reaching the deadline, cancels the
+ * forks still running and is rethrown. Closing the scope cancels what is left and waits for it, so no fork outlives
+ * the scope:
+ * <pre>{@code
+ * try (final var scope = executor.fanOut()) {
+ *     final var patient = scope.fork(() -> patientGateway.findById(patientID));
+ *     final var user = scope.fork(() -> userGateway.findById(userID));
+ *     scope.join();
+ *     return new Output(patient.get(), user.get());
+ * }
+ * }</pre>
+ * A scope belongs to the thread that opened it.
+ */
+public final class FanOut implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final long deadline;
+    private final Thread owner = Thread.currentThread();
+    private final List<Fork<?>> forks = new ArrayList<>();
+    private final Semaphore completions = new Semaphore(0);
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition idle = lock.newCondition();
+    private int running;
+    private volatile boolean joined;
+    private volatile boolean closed;
+
+    FanOut(final ExecutorService executor, final long deadline) {
+        this.executor = executor;
+        this.deadline = deadline;
+    }
+
+    public <T> Supplier<T> fork(final Callable<? extends T> task) {
+        requireOwner();
+        if (joined || closed) {
+            throw new IllegalStateException("Cannot fork after join() or close()");
+        }
+        final var fork = new Fork<T>(task);
+        forks.add(fork);
+        try {
+            fork.future = executor.submit(fork::run);
+        } catch (RejectedExecutionException exception) {
+            failure.compareAndSet(null, exception);
+            completions.release();
+        }
+        return fork;
+    }
+
+    public FanOut join() {
+        requireOwner();
+        try {
+            for (int completed = 0; completed < forks.size() && failure.get() == null; completed++) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !completions.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                    cancel();
+                    throw new UseCaseTimeoutException("Fan-out did not finish before the deadline");
+                }
+            }
+        } catch (InterruptedException exception) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while joining the fan-out");
+        }
+        joined = true;
+        final var failure = this.failure.get();
+        if (failure != null) {
+            cancel();
+            throw UseCaseExecutor.propagate(failure);
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        requireOwner();
+        closed = true;
+        cancel();
+        lock.lock();
+        try {
+            while (running > 0) {
+                idle.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cancel() {
+        for (final var fork : forks) {
+            if (fork.future != null) {
+                fork.future.cancel(true);
+            }
+        }
+    }
+
+    private void requireOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("A fan-out scope can only be used by the thread that opened it");
+        }
+    }
+
+    private final class Fork<T> implements Supplier<T> {
+
+        private final Callable<? extends T> task;
+        private volatile Future<?> future;
+        private volatile boolean succeeded;
+        private T value;
+
+        private Fork(final Callable<? extends T> task) {
+            this.task = task;
+        }
+
+        private void run() {
+            lock.lock();
+            try {
+                running++;
+            } finally {
+                lock.unlock();
+            }
+            UseCaseExecutor.DEADLINE.set(deadline);
+            try {
+                if (closed) {
+                    throw new CancellationException("Fan-out closed before the fork started");
+                }
+                value = task.call();
+                succeeded = true;
+            } catch (Throwable throwable) {
+                failure.compareAndSet(null, throwable);
+            } finally {
+                UseCaseExecutor.DEADLINE.remove();
+                completions.release();
+                lock.lock();
+                try {
+                    if (--running == 0) {
+                        idle.signalAll();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        @Override
+        public T get() {
+            if (!joined) {
+                throw new IllegalStateException("join() should be called before reading a fork");
+            }
+            if (!succeeded) {
+                throw new IllegalStateException("The fork did not complete successfully");
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.thiagodd.sakura.application.concurrency;
+
+import com.thiagodd.sakura.domain.exceptions.ConflictException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs an operation that failed with {@link ConflictException}, sleeping a random time between zero and an
+ * exponentially growing cap before each new attempt (full jitter), so writers that collided spread out instead of
+ * colliding again. The operation must reload the aggregate on every attempt; retrying with the stale copy would
+ * only conflict again.
+ */
+public final class OptimisticRetry {
+
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(5);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMillis(200);
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final LongConsumer sleeper;
+
+    private OptimisticRetry(
+        final int maxAttempts,
+        final long initialBackoffNanos,
+        final long maxBackoffNanos,
+        final LongConsumer sleeper
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.sleeper = sleeper;
+    }
+
+    public static OptimisticRetry create() {
+        return new OptimisticRetry(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF.toNanos(),
+            DEFAULT_MAX_BACKOFF.toNanos(), LockSupport::parkNanos);
+    }
+
+    public OptimisticRetry maxAttempts(final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("'maxAttempts' should be greater than zero");
+        }
+        return new OptimisticRetry(maxAttempts, initialBackoffNanos, maxBackoffNanos, sleeper);
+    }
+
+    public OptimisticRetry backoff(final Duration initial, final Duration max) {
+        Objects.requireNonNull(initial, "'initial' should not be null");
+        Objects.requireNonNull(max, "'max' should not be null");
+        if (initial.isNegative() || max.compareTo(initial) < 0) {
+            throw new IllegalArgumentException("'max' should not be lower than 'initial'");
+        }
+        return new OptimisticRetry(maxAttempts, initial.toNanos(), max.toNanos(), sleeper);
+    }
+
+    OptimisticRetry sleeper(final LongConsumer sleeper) {
+        return new OptimisticRetry(maxAttempts, initialBackoffNanos, maxBackoffNanos, sleeper);
+    }
+
+    public <T> T execute(final Supplier<T> operation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (final ConflictException exception) {
+                if (attempt >= maxAttempts || Thread.currentThread().isInterrupted()) {
+                    throw exception;
+                }
+                sleeper.accept(backoffOf(attempt));
+            }
+        }
+    }
+
+    public void run(final Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private long backoffOf(final int attempt) {
+        final int shift = Math.min(attempt - 1, 62);
+        final var cap = initialBackoffNanos > (maxBackoffNanos >> shift) ? maxBackoffNanos : initialBackoffNanos << shift;
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+}
@@ -0,0 +1,226 @@
+package com.thiagodd.sakura.application.concurrency;
+
+import com.thiagodd.sakura.application.UseCase;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs use cases off the caller's thread: one virtual thread per call when the JVM has them (Java 21 and later), a
+ * fixed pool of platform threads otherwise. On virtual threads a use case blocked on a gateway only parks its
+ * virtual thread, so tens of thousands of calls can wait on I/O without adding platform threads.
+ * <p>
+ * Each use case class can be given a concurrency limit and a timeout. A call over the limit waits for a permit
+ * within its timeout, and a call that does not finish in time is interrupted and fails with
+ * {@link UseCaseTimeoutException}. Inside a use case, {@link #fanOut()} runs independent steps in parallel under
+ * the deadline of the calling use case. On platform threads the forks run on a separate, growing pool: a use case
+ * holding one of the fixed threads while it joins must never wait for a fork queued behind other use cases. That
+ * fallback still overlaps only as many blocking calls as it has threads, not tens of thousands.
+ */
+public final class UseCaseExecutor implements AutoCloseable {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final int DEFAULT_PLATFORM_THREADS = 256;
+    static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private final ExecutorService executor;
+    private final ExecutorService forkExecutor;
+    private final boolean virtual;
+    private final ScheduledThreadPoolExecutor timer;
+    private final Map<Class<?>, Policy> policies = new ConcurrentHashMap<>();
+    private volatile long defaultTimeoutNanos = DEFAULT_TIMEOUT.toNanos();
+
+    private UseCaseExecutor(final ExecutorService executor, final ExecutorService forkExecutor, final boolean virtual) {
+        this.executor = executor;
+        this.forkExecutor = forkExecutor;
+        this.virtual = virtual;
+        this.timer = new ScheduledThreadPoolExecutor(1, daemonThreads("use-case-timer"));
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /** Uses virtual threads when available, falling back to {@value #DEFAULT_PLATFORM_THREADS} platform threads. */
+    public static UseCaseExecutor create() {
+        final var executor = VirtualThreads.newThreadPerTaskExecutor();
+        return executor != null
+            ? new UseCaseExecutor(executor, executor, true)
+            : withPlatformThreads(DEFAULT_PLATFORM_THREADS);
+    }
+
+    public static UseCaseExecutor withPlatformThreads(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("'threads' should be greater than zero");
+        }
+        return new UseCaseExecutor(Executors.newFixedThreadPool(threads, daemonThreads("use-case")),
+            Executors.newCachedThreadPool(daemonThreads("use-case-fork")), false);
+    }
+
+    /** Timeout of the use cases without one of their own. Defaults to 30 seconds. */
+    public UseCaseExecutor timeout(final Duration timeout) {
+        this.defaultTimeoutNanos = requirePositive(timeout);
+        return this;
+    }
+
+    public UseCaseExecutor timeout(final Class<? extends UseCase<?, ?>> useCase, final Duration timeout) {
+        final long nanos = requirePositive(timeout);
+        policies.compute(Objects.requireNonNull(useCase, "'useCase' should not be null"),
+            (type, policy) -> new Policy(policy == null ? null : policy.permits(), nanos));
+        return this;
+    }
+
+    /** At most {@code maxConcurrent} calls of the use case run at once; the others wait within their timeout. */
+    public UseCaseExecutor limit(final Class<? extends UseCase<?, ?>> useCase, final int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("'maxConcurrent' should be greater than zero");
+        }
+        policies.compute(Objects.requireNonNull(useCase, "'useCase' should not be null"),
+            (type, policy) -> new Policy(new Semaphore(maxConcurrent), policy == null ? 0 : policy.timeoutNanos()));
+        return this;
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtual;
+    }
+
+    /** Runs the use case and waits for it, rethrowing what it threw. */
+    public <IN, OUT> OUT execute(final UseCase<IN, OUT> useCase, final IN input) {
+        final var future = submit(useCase, input);
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for " + useCase.getClass().getSimpleName());
+        } catch (ExecutionException exception) {
+            throw propagate(exception.getCause());
+        }
+    }
+
+    public <IN, OUT> CompletableFuture<OUT> submit(final UseCase<IN, OUT> useCase, final IN input) {
+        Objects.requireNonNull(useCase, "'useCase' should not be null");
+        final var policy = policies.get(useCase.getClass());
+        final long timeoutNanos = policy != null && policy.timeoutNanos() > 0 ? policy.timeoutNanos() : defaultTimeoutNanos;
+        final long deadline = System.nanoTime() + timeoutNanos;
+        final var result = new CompletableFuture<OUT>();
+
+        final Future<?> task;
+        try {
+            task = executor.submit(() -> run(useCase, input, policy, deadline, timeoutNanos, result));
+        } catch (RejectedExecutionException exception) {
+            result.completeExceptionally(exception);
+            return result;
+        }
+        final var timeout = timer.schedule(() -> {
+            if (result.completeExceptionally(timedOut(useCase, timeoutNanos))) {
+                task.cancel(true);
+            }
+        }, timeoutNanos, TimeUnit.NANOSECONDS);
+        result.whenComplete((value, failure) -> {
+            timeout.cancel(false);
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Opens a fan-out scope bounded by the deadline of the current use case, or by the default timeout. Its forks
+     * never take threads from the use case pool, so a full pool cannot starve them.
+     */
+    public FanOut fanOut() {
+        final var deadline = DEADLINE.get();
+        return new FanOut(forkExecutor, deadline != null ? deadline : System.nanoTime() + defaultTimeoutNanos);
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        executor.shutdown();
+        forkExecutor.shutdown();
+    }
+
+    private <IN, OUT> void run(
+        final UseCase<IN, OUT> useCase,
+        final IN input,
+        final Policy policy,
+        final long deadline,
+        final long timeoutNanos,
+        final CompletableFuture<OUT> result
+    ) {
+        if (result.isDone()) {
+            return;
+        }
+        final var permits = policy == null ? null : policy.permits();
+        boolean acquired = false;
+        DEADLINE.set(deadline);
+        try {
+            if (permits != null) {
+                acquired = permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (!acquired) {
+                    result.completeExceptionally(timedOut(useCase, timeoutNanos));
+                    return;
+                }
+            }
+            result.complete(useCase.execute(input));
+        } catch (InterruptedException exception) {
+            result.completeExceptionally(timedOut(useCase, timeoutNanos));
+        } catch (Throwable throwable) {
+            result.completeExceptionally(throwable);
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+            DEADLINE.remove();
+        }
+    }
+
+    static RuntimeException propagate(final Throwable throwable) {
+        if (throwable instanceof RuntimeException exception) {
+            return exception;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(throwable);
+    }
+
+    private static UseCaseTimeoutException timedOut(final UseCase<?, ?> useCase, final long timeoutNanos) {
+        return new UseCaseTimeoutException("%s did not finish within %d ms".formatted(
+            useCase.getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+    }
+
+    private static long requirePositive(final Duration timeout) {
+        Objects.requireNonNull(timeout, "'timeout' should not be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("'timeout' should be greater than zero");
+        }
+        return timeout.toNanos();
+    }
+
+    static ThreadFactory daemonThreads(final String prefix) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Policy(Semaphore permits, long timeoutNanos) {
+    }
+}
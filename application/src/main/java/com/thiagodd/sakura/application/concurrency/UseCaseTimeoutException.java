@@ -0,0 +1,10 @@
+package com.thiagodd.sakura.application.concurrency;
+
+import com.thiagodd.sakura.domain.exceptions.NoStacktraceException;
+
+public class UseCaseTimeoutException extends NoStacktraceException {
+
+    public UseCaseTimeoutException(final String message) {
+        super(message);
+    }
+}
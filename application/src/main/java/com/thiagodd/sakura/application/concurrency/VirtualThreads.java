@@ -0,0 +1,44 @@
+package com.thiagodd.sakura.application.concurrency;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Looks up the virtual thread API reflectively so the module still builds and runs on Java 17, where it does not
+ * exist.
+ */
+final class VirtualThreads {
+
+    private static final MethodHandle NEW_PER_TASK_EXECUTOR = findStatic(
+        Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+
+    private VirtualThreads() {
+    }
+
+    static boolean isSupported() {
+        return NEW_PER_TASK_EXECUTOR != null;
+    }
+
+    /** An executor that starts a new virtual thread per task, or {@code null} before Java 21. */
+    static ExecutorService newThreadPerTaskExecutor() {
+        if (NEW_PER_TASK_EXECUTOR == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_PER_TASK_EXECUTOR.invokeExact();
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Could not create a virtual thread executor", throwable);
+        }
+    }
+
+    private static MethodHandle findStatic(final Class<?> owner, final String name, final MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findStatic(owner, name, type);
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.domain.patient.Sex;
+
+import java.time.LocalDate;
+
+public record CreatePatientCommand(
+    String name,
+    String socialName,
+    LocalDate dateOfBirth,
+    String email,
+    String observation,
+    boolean active,
+    Sex sex
+) {
+}
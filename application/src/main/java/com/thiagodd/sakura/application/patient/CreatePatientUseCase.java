@@ -0,0 +1,44 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.domain.events.DomainEventPublisher;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.validation.handler.Notification;
+
+import java.util.Objects;
+
+public class CreatePatientUseCase extends UseCase<CreatePatientCommand, PatientOutput> {
+
+    private final PatientGateway gateway;
+    private final DomainEventPublisher publisher;
+
+    public CreatePatientUseCase(final PatientGateway gateway, final DomainEventPublisher publisher) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+        this.publisher = Objects.requireNonNull(publisher, "'publisher' should not be null");
+    }
+
+    @Override
+    public PatientOutput execute(final CreatePatientCommand command) {
+        final var patient = Patient.newPatient(
+            command.name(),
+            command.socialName(),
+            command.dateOfBirth(),
+            command.email(),
+            command.observation(),
+            command.active(),
+            command.sex()
+        );
+
+        final var notification = Notification.create();
+        patient.validate(notification);
+        if (notification.hasError()) {
+            throw DomainException.with(notification.getErrors());
+        }
+
+        final var created = gateway.create(patient);
+        publisher.publish(patient.pullEvents());
+        return PatientOutput.from(created);
+    }
+}
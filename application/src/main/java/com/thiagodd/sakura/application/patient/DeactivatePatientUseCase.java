@@ -0,0 +1,47 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.application.concurrency.OptimisticRetry;
+import com.thiagodd.sakura.domain.events.DomainEventPublisher;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+
+import java.util.Objects;
+
+public class DeactivatePatientUseCase extends UseCase<String, PatientOutput> {
+
+    private final PatientGateway gateway;
+    private final DomainEventPublisher publisher;
+    private final OptimisticRetry retry;
+
+    public DeactivatePatientUseCase(final PatientGateway gateway, final DomainEventPublisher publisher) {
+        this(gateway, publisher, OptimisticRetry.create());
+    }
+
+    public DeactivatePatientUseCase(
+        final PatientGateway gateway,
+        final DomainEventPublisher publisher,
+        final OptimisticRetry retry
+    ) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+        this.publisher = Objects.requireNonNull(publisher, "'publisher' should not be null");
+        this.retry = Objects.requireNonNull(retry, "'retry' should not be null");
+    }
+
+    @Override
+    public PatientOutput execute(final String id) {
+        final var patientID = PatientID.tryFrom(id).orElseThrow(() -> NotFoundException.with(Patient.class, id));
+
+        return retry.execute(() -> {
+            final var patient = gateway.findById(patientID)
+                .orElseThrow(() -> NotFoundException.with(Patient.class, patientID))
+                .deactivate();
+
+            final var updated = gateway.update(patient);
+            publisher.publish(patient.pullEvents());
+            return PatientOutput.from(updated);
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientMatch;
+import com.thiagodd.sakura.domain.patient.PatientSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Admission check: the stored patients that are likely the person about to be registered, best match first, so
+ * the desk can open the existing record instead of creating another one.
+ */
+public class FindLikelyDuplicatesUseCase extends UseCase<CreatePatientCommand, List<PatientMatchOutput>> {
+
+    private final PatientGateway gateway;
+
+    public FindLikelyDuplicatesUseCase(final PatientGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+    }
+
+    @Override
+    public List<PatientMatchOutput> execute(final CreatePatientCommand command) {
+        final var candidate = Patient.newPatient(
+            command.name(),
+            command.socialName(),
+            command.dateOfBirth(),
+            command.email(),
+            command.observation(),
+            command.active(),
+            command.sex()
+        );
+
+        final var matches = gateway.findLikelyDuplicates(candidate);
+        final var patients = gateway.findAllById(matches.stream().map(PatientMatch::id).toList());
+        final var outputs = new ArrayList<PatientMatchOutput>(matches.size());
+        for (final var match : matches) {
+            final var patient = patients.get(match.id());
+            if (patient != null) {
+                outputs.add(new PatientMatchOutput(
+                    PatientSummaryOutput.from(PatientSummary.from(patient)), match.score()));
+            }
+        }
+        return outputs;
+    }
+}
@@ -0,0 +1,27 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+
+import java.util.Objects;
+
+public class GetPatientByIdUseCase extends UseCase<String, PatientOutput> {
+
+    private final PatientGateway gateway;
+
+    public GetPatientByIdUseCase(final PatientGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+    }
+
+    @Override
+    public PatientOutput execute(final String id) {
+        final var patientID = PatientID.tryFrom(id).orElseThrow(() -> NotFoundException.with(Patient.class, id));
+
+        return gateway.findById(patientID)
+            .map(PatientOutput::from)
+            .orElseThrow(() -> NotFoundException.with(Patient.class, patientID));
+    }
+}
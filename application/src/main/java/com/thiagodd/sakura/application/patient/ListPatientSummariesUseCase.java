@@ -0,0 +1,23 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+
+import java.util.Objects;
+
+/** Listing variant of {@link ListPatientsUseCase} that never loads observations. */
+public class ListPatientSummariesUseCase extends UseCase<SearchQuery, Pagination<PatientSummaryOutput>> {
+
+    private final PatientGateway gateway;
+
+    public ListPatientSummariesUseCase(final PatientGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+    }
+
+    @Override
+    public Pagination<PatientSummaryOutput> execute(final SearchQuery query) {
+        return gateway.findAllSummaries(query).map(PatientSummaryOutput::from);
+    }
+}
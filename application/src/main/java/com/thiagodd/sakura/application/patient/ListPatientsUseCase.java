@@ -0,0 +1,22 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+
+import java.util.Objects;
+
+public class ListPatientsUseCase extends UseCase<SearchQuery, Pagination<PatientOutput>> {
+
+    private final PatientGateway gateway;
+
+    public ListPatientsUseCase(final PatientGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+    }
+
+    @Override
+    public Pagination<PatientOutput> execute(final SearchQuery query) {
+        return gateway.findAll(query).map(PatientOutput::from);
+    }
+}
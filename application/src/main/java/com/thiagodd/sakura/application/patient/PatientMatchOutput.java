@@ -0,0 +1,7 @@
+package com.thiagodd.sakura.application.patient;
+
+public record PatientMatchOutput(
+    PatientSummaryOutput patient,
+    double score
+) {
+}
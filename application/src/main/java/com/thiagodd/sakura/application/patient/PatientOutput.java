@@ -0,0 +1,40 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.Sex;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record PatientOutput(
+    String id,
+    String name,
+    String socialName,
+    LocalDate dateOfBirth,
+    String email,
+    String observation,
+    boolean active,
+    Sex sex,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt,
+    long version
+) {
+
+    public static PatientOutput from(final Patient patient) {
+        return new PatientOutput(
+            patient.getId().getValue(),
+            patient.getName(),
+            patient.getSocialName(),
+            patient.getDateOfBirth(),
+            patient.getEmail(),
+            patient.getObservation(),
+            patient.isActive(),
+            patient.getSex(),
+            patient.getCreatedAt(),
+            patient.getUpdatedAt(),
+            patient.getDeletedAt(),
+            patient.getVersion()
+        );
+    }
+}
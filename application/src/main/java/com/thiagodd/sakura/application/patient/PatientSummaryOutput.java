@@ -0,0 +1,24 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.domain.patient.PatientSummary;
+
+import java.time.LocalDate;
+
+public record PatientSummaryOutput(
+    String id,
+    String name,
+    String socialName,
+    LocalDate dateOfBirth,
+    boolean active
+) {
+
+    public static PatientSummaryOutput from(final PatientSummary summary) {
+        return new PatientSummaryOutput(
+            summary.id().getValue(),
+            summary.name(),
+            summary.socialName(),
+            summary.dateOfBirth(),
+            summary.active()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.domain.patient.Sex;
+
+import java.time.LocalDate;
+
+public record UpdatePatientCommand(
+    String id,
+    String name,
+    String socialName,
+    LocalDate dateOfBirth,
+    String email,
+    String observation,
+    boolean active,
+    Sex sex
+) {
+}
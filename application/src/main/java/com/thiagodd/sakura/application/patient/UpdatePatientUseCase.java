@@ -0,0 +1,67 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.application.concurrency.OptimisticRetry;
+import com.thiagodd.sakura.domain.events.DomainEventPublisher;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.validation.handler.Notification;
+
+import java.util.Objects;
+
+/**
+ * Applies the command to the latest stored version of the patient, reloading and reapplying it when a concurrent
+ * update wins the compare-and-set.
+ */
+public class UpdatePatientUseCase extends UseCase<UpdatePatientCommand, PatientOutput> {
+
+    private final PatientGateway gateway;
+    private final DomainEventPublisher publisher;
+    private final OptimisticRetry retry;
+
+    public UpdatePatientUseCase(final PatientGateway gateway, final DomainEventPublisher publisher) {
+        this(gateway, publisher, OptimisticRetry.create());
+    }
+
+    public UpdatePatientUseCase(
+        final PatientGateway gateway,
+        final DomainEventPublisher publisher,
+        final OptimisticRetry retry
+    ) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+        this.publisher = Objects.requireNonNull(publisher, "'publisher' should not be null");
+        this.retry = Objects.requireNonNull(retry, "'retry' should not be null");
+    }
+
+    @Override
+    public PatientOutput execute(final UpdatePatientCommand command) {
+        final var id = PatientID.tryFrom(command.id())
+            .orElseThrow(() -> NotFoundException.with(Patient.class, command.id()));
+
+        return retry.execute(() -> {
+            final var patient = gateway.findById(id).orElseThrow(() -> NotFoundException.with(Patient.class, id));
+            patient.update(
+                command.name(),
+                command.socialName(),
+                command.dateOfBirth(),
+                command.email(),
+                command.observation(),
+                command.active(),
+                command.sex()
+            );
+
+            final var notification = Notification.create();
+            patient.validate(notification);
+            if (notification.hasError()) {
+                throw DomainException.with(notification.getErrors());
+            }
+
+            final var updated = gateway.update(patient);
+            publisher.publish(patient.pullEvents());
+            return PatientOutput.from(updated);
+        });
+    }
+}
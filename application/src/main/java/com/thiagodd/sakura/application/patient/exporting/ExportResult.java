@@ -0,0 +1,13 @@
+package com.thiagodd.sakura.application.patient.exporting;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public record ExportResult(long rows, long bytes, List<Path> files, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        final var nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : rows * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,154 @@
+package com.thiagodd.sakura.application.patient.exporting;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+
+/**
+ * Encodes text into a fixed ring of direct buffers and hands the filled ring to the file with one gathering
+ * write (or to the deflater when gzip is on). Memory use is the ring size, whatever the number of rows.
+ */
+final class ExportSink implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int BUFFER_COUNT = 8;
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    private final FileChannel channel;
+    private final GzipChannel gzip;
+    private final ByteBuffer[] buffers = new ByteBuffer[BUFFER_COUNT];
+    private ByteBuffer buffer;
+    private int current;
+    private long written;
+
+    ExportSink(final Path file, final boolean compressed) throws IOException {
+        this.channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.gzip = compressed ? new GzipChannel(channel, Deflater.DEFAULT_COMPRESSION, BUFFER_SIZE) : null;
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        this.buffer = buffers[0];
+    }
+
+    ExportSink put(final byte value) throws IOException {
+        if (!buffer.hasRemaining()) {
+            advance();
+        }
+        buffer.put(value);
+        return this;
+    }
+
+    ExportSink putAscii(final String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            put((byte) value.charAt(i));
+        }
+        return this;
+    }
+
+    ExportSink putChar(final char value) throws IOException {
+        if (value < 0x80) {
+            return put((byte) value);
+        }
+        if (value < 0x800) {
+            put((byte) (0xc0 | (value >> 6)));
+            return put((byte) (0x80 | (value & 0x3f)));
+        }
+        if (Character.isSurrogate(value)) {
+            return put((byte) '?');
+        }
+        put((byte) (0xe0 | (value >> 12)));
+        put((byte) (0x80 | ((value >> 6) & 0x3f)));
+        return put((byte) (0x80 | (value & 0x3f)));
+    }
+
+    ExportSink putCodePoint(final int codePoint) throws IOException {
+        if (codePoint < 0x10000) {
+            return putChar((char) codePoint);
+        }
+        put((byte) (0xf0 | (codePoint >> 18)));
+        put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+        put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+        return put((byte) (0x80 | (codePoint & 0x3f)));
+    }
+
+    ExportSink putDigits(final int value, final int width) throws IOException {
+        int divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        for (int remaining = value; divisor > 0; divisor /= 10) {
+            put((byte) ('0' + (remaining / divisor) % 10));
+        }
+        return this;
+    }
+
+    ExportSink putUuid(final long mostSignificantBits, final long leastSignificantBits) throws IOException {
+        putHex(mostSignificantBits >>> 32, 8).put((byte) '-');
+        putHex(mostSignificantBits >>> 16, 4).put((byte) '-');
+        putHex(mostSignificantBits, 4).put((byte) '-');
+        putHex(leastSignificantBits >>> 48, 4).put((byte) '-');
+        return putHex(leastSignificantBits, 12);
+    }
+
+    long written() {
+        return gzip != null ? gzip.written() : written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            if (gzip != null) {
+                gzip.finish();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private ExportSink putHex(final long value, final int digits) throws IOException {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            put(HEX[(int) (value >>> shift) & 0xf]);
+        }
+        return this;
+    }
+
+    private void advance() throws IOException {
+        if (++current == BUFFER_COUNT) {
+            flush();
+        }
+        buffer = buffers[current];
+    }
+
+    private void flush() throws IOException {
+        final int filled = current < BUFFER_COUNT && buffer.position() > 0 ? current + 1 : current;
+        for (int i = 0; i < filled; i++) {
+            buffers[i].flip();
+        }
+        if (gzip != null) {
+            for (int i = 0; i < filled; i++) {
+                gzip.write(buffers[i]);
+            }
+        } else {
+            long remaining = 0;
+            for (int i = 0; i < filled; i++) {
+                remaining += buffers[i].remaining();
+            }
+            while (remaining > 0) {
+                final long count = channel.write(buffers, 0, filled);
+                remaining -= count;
+                written += count;
+            }
+        }
+        for (int i = 0; i < filled; i++) {
+            buffers[i].clear();
+        }
+        current = 0;
+        buffer = buffers[0];
+    }
+}
@@ -0,0 +1,73 @@
+package com.thiagodd.sakura.application.patient.exporting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a single-member gzip file by deflating direct buffers straight into another direct buffer, so compressed
+ * output never goes through a heap array.
+ */
+final class GzipChannel {
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final ByteBuffer NO_INPUT = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final Deflater deflater;
+    private final CRC32 checksum = new CRC32();
+    private final ByteBuffer output;
+    private long written;
+
+    GzipChannel(final FileChannel channel, final int level, final int bufferSize) throws IOException {
+        this.channel = channel;
+        this.deflater = new Deflater(level, true);
+        this.output = ByteBuffer.allocateDirect(bufferSize);
+        writeFully(ByteBuffer.wrap(HEADER));
+    }
+
+    void write(final ByteBuffer input) throws IOException {
+        checksum.update(input.duplicate());
+        deflater.setInput(input);
+        while (!deflater.needsInput()) {
+            deflater.deflate(output, Deflater.NO_FLUSH);
+            drain();
+        }
+        // the deflater keeps a reference to its input, which the caller is about to clear and refill
+        deflater.setInput(NO_INPUT);
+    }
+
+    void finish() throws IOException {
+        try {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflater.deflate(output, Deflater.NO_FLUSH);
+                drain();
+            }
+            final var trailer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            trailer.putInt((int) checksum.getValue()).putInt((int) deflater.getBytesRead()).flip();
+            writeFully(trailer);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    long written() {
+        return written;
+    }
+
+    private void drain() throws IOException {
+        output.flip();
+        writeFully(output);
+        output.clear();
+    }
+
+    private void writeFully(final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.thiagodd.sakura.application.patient.exporting;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Writes patients field by field through the getters, in the column names the importer reads back.
+ */
+final class PatientEncoder {
+
+    private static final String CSV_HEADER =
+        "id,name,social_name,date_of_birth,email,observation,active,sex,created_at,updated_at,deleted_at\n";
+
+    private final ExportFormat format;
+
+    PatientEncoder(final ExportFormat format) {
+        this.format = format;
+    }
+
+    void header(final ExportSink sink) throws IOException {
+        if (format == ExportFormat.CSV) {
+            sink.putAscii(CSV_HEADER);
+        }
+    }
+
+    void encode(final Patient patient, final ExportSink sink) throws IOException {
+        if (format == ExportFormat.CSV) {
+            csv(patient, sink);
+        } else {
+            json(patient, sink);
+        }
+    }
+
+    private static void csv(final Patient patient, final ExportSink sink) throws IOException {
+        final var id = patient.getId();
+        sink.putUuid(id.getMostSignificantBits(), id.getLeastSignificantBits()).put((byte) ',');
+        csvText(patient.getName(), sink).put((byte) ',');
+        csvText(patient.getSocialName(), sink).put((byte) ',');
+        date(patient.getDateOfBirth(), sink).put((byte) ',');
+        csvText(patient.getEmail(), sink).put((byte) ',');
+        csvText(patient.getObservation(), sink).put((byte) ',');
+        sink.putAscii(patient.isActive() ? "true" : "false").put((byte) ',');
+        if (patient.getSex() != null) {
+            sink.putAscii(patient.getSex().name());
+        }
+        sink.put((byte) ',');
+        instant(patient.getCreatedAt(), sink).put((byte) ',');
+        instant(patient.getUpdatedAt(), sink).put((byte) ',');
+        instant(patient.getDeletedAt(), sink).put((byte) '\n');
+    }
+
+    private static void json(final Patient patient, final ExportSink sink) throws IOException {
+        final var id = patient.getId();
+        sink.putAscii("{\"id\":\"").putUuid(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        sink.putAscii("\",\"name\":");
+        jsonText(patient.getName(), sink).putAscii(",\"socialName\":");
+        jsonText(patient.getSocialName(), sink).putAscii(",\"dateOfBirth\":");
+        if (patient.getDateOfBirth() == null) {
+            sink.putAscii("null");
+        } else {
+            date(patient.getDateOfBirth(), sink.put((byte) '"')).put((byte) '"');
+        }
+        sink.putAscii(",\"email\":");
+        jsonText(patient.getEmail(), sink).putAscii(",\"observation\":");
+        jsonText(patient.getObservation(), sink).putAscii(",\"active\":");
+        sink.putAscii(patient.isActive() ? "true" : "false").putAscii(",\"sex\":");
+        jsonText(patient.getSex() == null ? null : patient.getSex().name(), sink).putAscii(",\"createdAt\":");
+        jsonInstant(patient.getCreatedAt(), sink).putAscii(",\"updatedAt\":");
+        jsonInstant(patient.getUpdatedAt(), sink).putAscii(",\"deletedAt\":");
+        jsonInstant(patient.getDeletedAt(), sink).putAscii("}\n");
+    }
+
+    private static ExportSink csvText(final String value, final ExportSink sink) throws IOException {
+        if (value == null) {
+            return sink;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            final char current = value.charAt(i);
+            quote = current == ',' || current == '"' || current == '\n' || current == '\r';
+        }
+        if (quote) {
+            sink.put((byte) '"');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final char current = value.charAt(i);
+            if (current == '"') {
+                sink.put((byte) '"');
+            }
+            i = text(value, i, sink);
+        }
+        if (quote) {
+            sink.put((byte) '"');
+        }
+        return sink;
+    }
+
+    private static ExportSink jsonText(final String value, final ExportSink sink) throws IOException {
+        if (value == null) {
+            return sink.putAscii("null");
+        }
+        sink.put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            final char current = value.charAt(i);
+            switch (current) {
+                case '"' -> sink.putAscii("\\\"");
+                case '\\' -> sink.putAscii("\\\\");
+                case '\n' -> sink.putAscii("\\n");
+                case '\r' -> sink.putAscii("\\r");
+                case '\t' -> sink.putAscii("\\t");
+                default -> {
+                    if (current < 0x20) {
+                        sink.putAscii("\\u00").put((byte) Character.forDigit(current >> 4, 16))
+                            .put((byte) Character.forDigit(current & 0xf, 16));
+                    } else {
+                        i = text(value, i, sink);
+                    }
+                }
+            }
+        }
+        return sink.put((byte) '"');
+    }
+
+    private static int text(final String value, final int index, final ExportSink sink) throws IOException {
+        final char current = value.charAt(index);
+        if (Character.isHighSurrogate(current) && index + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(index + 1))) {
+            sink.putCodePoint(Character.toCodePoint(current, value.charAt(index + 1)));
+            return index + 1;
+        }
+        sink.putChar(current);
+        return index;
+    }
+
+    private static ExportSink date(final LocalDate date, final ExportSink sink) throws IOException {
+        if (date == null) {
+            return sink;
+        }
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            return sink.putAscii(date.toString());
+        }
+        return sink.putDigits(date.getYear(), 4).put((byte) '-')
+            .putDigits(date.getMonthValue(), 2).put((byte) '-')
+            .putDigits(date.getDayOfMonth(), 2);
+    }
+
+    private static ExportSink instant(final Instant instant, final ExportSink sink) throws IOException {
+        return instant == null ? sink : sink.putAscii(instant.toString());
+    }
+
+    private static ExportSink jsonInstant(final Instant instant, final ExportSink sink) throws IOException {
+        return instant == null ? sink.putAscii("null") : sink.put((byte) '"').putAscii(instant.toString()).put((byte) '"');
+    }
+}
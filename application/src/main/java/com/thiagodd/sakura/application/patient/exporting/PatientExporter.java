@@ -0,0 +1,246 @@
+package com.thiagodd.sakura.application.patient.exporting;
+
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Exports the patients matching a {@link SearchQuery} through {@link PatientGateway#streamAll(SearchQuery)}. With a
+ * single partition the calling thread encodes and writes; with more, it hands chunks of {@code chunkSize} patients
+ * through a bounded queue to one writer thread per output file, so encoding and compression run in parallel. Memory
+ * stays bounded by the queue and the writers' buffer rings, independent of the number of rows.
+ */
+public final class PatientExporter {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1_000;
+    private static final List<Patient> NO_MORE_CHUNKS = Collections.unmodifiableList(new ArrayList<>());
+
+    private final PatientGateway gateway;
+    private final ExportFormat format;
+    private final boolean gzip;
+    private final int partitions;
+    private final int chunkSize;
+    private final String fileName;
+
+    private PatientExporter(
+        final PatientGateway gateway,
+        final ExportFormat format,
+        final boolean gzip,
+        final int partitions,
+        final int chunkSize,
+        final String fileName
+    ) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+        this.format = Objects.requireNonNull(format, "'format' should not be null");
+        this.gzip = gzip;
+        this.partitions = partitions;
+        this.chunkSize = chunkSize;
+        this.fileName = Objects.requireNonNull(fileName, "'fileName' should not be null");
+    }
+
+    public static PatientExporter create(final PatientGateway gateway) {
+        return new PatientExporter(gateway, ExportFormat.NDJSON, false, 1, DEFAULT_CHUNK_SIZE, "patients");
+    }
+
+    public PatientExporter format(final ExportFormat format) {
+        return new PatientExporter(gateway, format, gzip, partitions, chunkSize, fileName);
+    }
+
+    public PatientExporter gzip() {
+        return new PatientExporter(gateway, format, true, partitions, chunkSize, fileName);
+    }
+
+    public PatientExporter partitions(final int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("'partitions' should be greater than zero");
+        }
+        return new PatientExporter(gateway, format, gzip, partitions, chunkSize, fileName);
+    }
+
+    public PatientExporter chunkSize(final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than zero");
+        }
+        return new PatientExporter(gateway, format, gzip, partitions, chunkSize, fileName);
+    }
+
+    public PatientExporter fileName(final String fileName) {
+        return new PatientExporter(gateway, format, gzip, partitions, chunkSize, fileName);
+    }
+
+    public ExportResult run(final SearchQuery criteria, final Path directory) {
+        final var startedAt = System.nanoTime();
+        final var query = new SearchQuery(0, chunkSize, criteria.terms(), criteria.sort(), criteria.direction());
+        final var files = new ArrayList<Path>(partitions);
+        try {
+            Files.createDirectories(directory);
+            for (int i = 0; i < partitions; i++) {
+                files.add(directory.resolve(fileNameOf(i)));
+            }
+            final var writers = new ArrayList<PartitionWriter>(partitions);
+            if (partitions == 1) {
+                try (var writer = new PartitionWriter(files.get(0)); var patients = gateway.streamAll(query)) {
+                    writers.add(writer);
+                    for (final var iterator = patients.iterator(); iterator.hasNext(); ) {
+                        writer.write(iterator.next());
+                    }
+                }
+            } else {
+                exportPartitioned(query, files, writers);
+            }
+
+            long rows = 0;
+            long bytes = 0;
+            for (final var writer : writers) {
+                rows += writer.rows;
+                bytes += writer.sink.written();
+            }
+            return new ExportResult(rows, bytes, List.copyOf(files), Duration.ofNanos(System.nanoTime() - startedAt));
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void exportPartitioned(final SearchQuery query, final List<Path> files, final List<PartitionWriter> writers)
+        throws IOException {
+        final BlockingQueue<List<Patient>> chunks = new ArrayBlockingQueue<>(partitions * 2);
+        final var failure = new AtomicReference<Throwable>();
+        final var threads = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(partitions, task -> {
+            final var thread = new Thread(task, "patient-export-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final var futures = new ArrayList<Future<?>>(partitions);
+            for (final var file : files) {
+                final var writer = new PartitionWriter(file);
+                writers.add(writer);
+                futures.add(executor.submit(() -> {
+                    try (writer) {
+                        List<Patient> chunk;
+                        while ((chunk = take(chunks, failure)) != NO_MORE_CHUNKS) {
+                            for (final var patient : chunk) {
+                                writer.write(patient);
+                            }
+                        }
+                    } catch (final Throwable throwable) {
+                        failure.compareAndSet(null, throwable);
+                        chunks.clear();
+                    }
+                    return null;
+                }));
+            }
+
+            try (var patients = gateway.streamAll(query)) {
+                var chunk = new ArrayList<Patient>(chunkSize);
+                for (final var iterator = patients.iterator(); iterator.hasNext() && failure.get() == null; ) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == chunkSize) {
+                        offer(chunks, chunk, failure);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    offer(chunks, chunk, failure);
+                }
+            } catch (final RuntimeException exception) {
+                failure.compareAndSet(null, exception);
+            }
+            for (int i = 0; i < partitions; i++) {
+                offer(chunks, NO_MORE_CHUNKS, failure);
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, exception);
+        } catch (final ExecutionException exception) {
+            failure.compareAndSet(null, exception.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final var error = failure.get();
+        if (error instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (error != null) {
+            throw new IllegalStateException("Patient export failed", error);
+        }
+    }
+
+    private static void offer(
+        final BlockingQueue<List<Patient>> queue,
+        final List<Patient> chunk,
+        final AtomicReference<Throwable> failure
+    ) throws InterruptedException {
+        while (!queue.offer(chunk, 50, TimeUnit.MILLISECONDS)) {
+            if (failure.get() != null) {
+                return;
+            }
+        }
+    }
+
+    private static List<Patient> take(
+        final BlockingQueue<List<Patient>> queue,
+        final AtomicReference<Throwable> failure
+    ) throws InterruptedException {
+        List<Patient> chunk;
+        while ((chunk = queue.poll(50, TimeUnit.MILLISECONDS)) == null) {
+            if (failure.get() != null) {
+                return NO_MORE_CHUNKS;
+            }
+        }
+        return chunk;
+    }
+
+    private String fileNameOf(final int partition) {
+        final var suffix = "." + format.extension() + (gzip ? ".gz" : "");
+        return partitions == 1 ? fileName + suffix : "%s-%05d%s".formatted(fileName, partition, suffix);
+    }
+
+    private final class PartitionWriter implements AutoCloseable {
+
+        private final ExportSink sink;
+        private final PatientEncoder encoder = new PatientEncoder(format);
+        private long rows;
+
+        private PartitionWriter(final Path file) throws IOException {
+            this.sink = new ExportSink(file, gzip);
+            encoder.header(sink);
+        }
+
+        private void write(final Patient patient) throws IOException {
+            encoder.encode(patient, sink);
+            rows++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            sink.close();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.thiagodd.sakura.application.patient.importing;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Position after the last record whose outcome (imported or rejected) is durable, and the id of the run that
+ * reached it. Saved with an atomic rename so a crash leaves either the previous or the new checkpoint, never a torn
+ * one.
+ */
+record ImportCheckpoint(String source, String run, long offset, long line, long imported, long rejected) {
+
+    static ImportCheckpoint start(final Path source) {
+        return new ImportCheckpoint(source.toAbsolutePath().toString(), UUID.randomUUID().toString(), 0, 0, 0, 0);
+    }
+
+    static Optional<ImportCheckpoint> load(final Path file) throws IOException {
+        if (file == null || !Files.exists(file)) {
+            return Optional.empty();
+        }
+        final var properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return Optional.of(new ImportCheckpoint(
+            properties.getProperty("source"),
+            properties.getProperty("run", UUID.randomUUID().toString()),
+            Long.parseLong(properties.getProperty("offset")),
+            Long.parseLong(properties.getProperty("line")),
+            Long.parseLong(properties.getProperty("imported")),
+            Long.parseLong(properties.getProperty("rejected"))
+        ));
+    }
+
+    void save(final Path file) throws IOException {
+        final var properties = new Properties();
+        properties.setProperty("source", source);
+        properties.setProperty("run", run);
+        properties.setProperty("offset", Long.toString(offset));
+        properties.setProperty("line", Long.toString(line));
+        properties.setProperty("imported", Long.toString(imported));
+        properties.setProperty("rejected", Long.toString(rejected));
+
+        final var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    ImportCheckpoint advance(final long offset, final long line, final long imported, final long rejected) {
+        return new ImportCheckpoint(source, run, offset, line, this.imported + imported, this.rejected + rejected);
+    }
+}
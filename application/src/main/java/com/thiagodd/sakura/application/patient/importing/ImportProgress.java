@@ -0,0 +1,24 @@
+package com.thiagodd.sakura.application.patient.importing;
+
+import java.time.Duration;
+
+public record ImportProgress(
+    long imported,
+    long rejected,
+    long bytesRead,
+    long totalBytes,
+    Duration elapsed
+) {
+    public long processed() {
+        return imported + rejected;
+    }
+
+    public double percent() {
+        return totalBytes == 0 ? 100.0 : bytesRead * 100.0 / totalBytes;
+    }
+
+    public double rowsPerSecond() {
+        final var nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : processed() * 1_000_000_000.0 / nanos;
+    }
+}
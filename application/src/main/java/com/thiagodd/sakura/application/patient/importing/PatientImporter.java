@@ -0,0 +1,457 @@
+package com.thiagodd.sakura.application.patient.importing;
+
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.validation.Error;
+import com.thiagodd.sakura.domain.validation.handler.Notification;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Loads patients from a CSV or NDJSON file in three overlapping stages joined by bounded queues: the calling thread
+ * scans the memory-mapped file into chunks of consecutive records, worker threads build and validate the patients
+ * of each chunk, and a single writer persists chunks strictly in file order with
+ * {@link PatientGateway#createAll(java.util.Collection)}.
+ * <p>
+ * After each chunk the writer appends its rejected records, with their errors, to the reject file as NDJSON and
+ * then saves the checkpoint. A new run with the same checkpoint file resumes after the last saved chunk, so a crash
+ * replays at most the chunk that was being written. Patient ids are name-based UUIDs of the run id kept in the
+ * checkpoint and the line, so a replayed record gets the id it was stored under. A record whose id already exists
+ * counts as imported only when resuming a checkpointed run; any other conflict is a rejection.
+ */
+public final class PatientImporter {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1_000;
+    private static final Duration DEFAULT_PROGRESS_INTERVAL = Duration.ofSeconds(1);
+
+    private final PatientGateway gateway;
+    private final int workers;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final Path checkpointFile;
+    private final Path rejectFile;
+    private final Duration progressInterval;
+    private final Consumer<ImportProgress> progressListener;
+
+    private PatientImporter(
+        final PatientGateway gateway,
+        final int workers,
+        final int chunkSize,
+        final int queueCapacity,
+        final Path checkpointFile,
+        final Path rejectFile,
+        final Duration progressInterval,
+        final Consumer<ImportProgress> progressListener
+    ) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+        this.checkpointFile = checkpointFile;
+        this.rejectFile = rejectFile;
+        this.progressInterval = progressInterval;
+        this.progressListener = progressListener;
+    }
+
+    public static PatientImporter create(final PatientGateway gateway) {
+        final var workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new PatientImporter(gateway, workers, DEFAULT_CHUNK_SIZE, workers * 2, null, null,
+            DEFAULT_PROGRESS_INTERVAL, progress -> {});
+    }
+
+    public PatientImporter workers(final int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("'workers' should be greater than zero");
+        }
+        return new PatientImporter(gateway, workers, chunkSize, queueCapacity, checkpointFile, rejectFile,
+            progressInterval, progressListener);
+    }
+
+    public PatientImporter chunkSize(final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than zero");
+        }
+        return new PatientImporter(gateway, workers, chunkSize, queueCapacity, checkpointFile, rejectFile,
+            progressInterval, progressListener);
+    }
+
+    public PatientImporter queueCapacity(final int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("'queueCapacity' should be greater than zero");
+        }
+        return new PatientImporter(gateway, workers, chunkSize, queueCapacity, checkpointFile, rejectFile,
+            progressInterval, progressListener);
+    }
+
+    public PatientImporter checkpointTo(final Path checkpointFile) {
+        return new PatientImporter(gateway, workers, chunkSize, queueCapacity, checkpointFile, rejectFile,
+            progressInterval, progressListener);
+    }
+
+    public PatientImporter rejectsTo(final Path rejectFile) {
+        return new PatientImporter(gateway, workers, chunkSize, queueCapacity, checkpointFile, rejectFile,
+            progressInterval, progressListener);
+    }
+
+    public PatientImporter onProgress(final Duration interval, final Consumer<ImportProgress> listener) {
+        return new PatientImporter(gateway, workers, chunkSize, queueCapacity, checkpointFile, rejectFile,
+            Objects.requireNonNull(interval, "'interval' should not be null"),
+            Objects.requireNonNull(listener, "'listener' should not be null"));
+    }
+
+    public ImportProgress run(final Path source) {
+        return run(source, ImportFormat.of(source));
+    }
+
+    public ImportProgress run(final Path source, final ImportFormat format) {
+        try (var channel = FileChannel.open(source, StandardOpenOption.READ);
+             var rejects = rejectFile == null ? null : Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8,
+                 StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            final var saved = ImportCheckpoint.load(checkpointFile);
+            final var checkpoint = saved.orElseGet(() -> ImportCheckpoint.start(source));
+            if (!checkpoint.source().equals(source.toAbsolutePath().toString())) {
+                throw new IllegalArgumentException(
+                    "Checkpoint belongs to '%s', not '%s'".formatted(checkpoint.source(), source.toAbsolutePath()));
+            }
+            if (saved.isEmpty() && checkpointFile != null) {
+                checkpoint.save(checkpointFile);
+            }
+            final var scanner = new RecordScanner(channel, format == ImportFormat.CSV);
+            final List<String> header = format == ImportFormat.CSV ? csvHeader(scanner) : null;
+            if (checkpoint.offset() > scanner.position()) {
+                scanner.seek(checkpoint.offset(), checkpoint.line());
+            }
+            return new Execution(scanner, header, checkpoint, saved.isPresent(), rejects).run();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static List<String> csvHeader(final RecordScanner scanner) throws IOException {
+        final var first = scanner.next();
+        if (first == null) {
+            return List.of();
+        }
+        return PatientRecords.header(first.text());
+    }
+
+    private record Chunk(long sequence, List<RawRecord> records, long endOffset, long endLine) {
+    }
+
+    private record Rejection(RawRecord record, List<Error> errors) {
+    }
+
+    private record ValidatedChunk(
+        long sequence,
+        List<RawRecord> acceptedRecords,
+        List<Patient> accepted,
+        List<Rejection> rejected,
+        long endOffset,
+        long endLine
+    ) {
+    }
+
+    private static final Chunk NO_MORE_CHUNKS = new Chunk(-1, List.of(), 0, 0);
+    private static final ValidatedChunk WORKER_DONE = new ValidatedChunk(-1, List.of(), List.of(), List.of(), 0, 0);
+
+    private final class Execution {
+
+        private final RecordScanner scanner;
+        private final List<String> header;
+        private final BufferedWriter rejects;
+        private final String run;
+        private final boolean resumed;
+        private final BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(queueCapacity);
+        private final BlockingQueue<ValidatedChunk> validated = new ArrayBlockingQueue<>(queueCapacity + workers);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final long startedAt = System.nanoTime();
+        private final long initialBytes;
+        private ImportCheckpoint checkpoint;
+        private long lastReportAt;
+
+        private Execution(
+            final RecordScanner scanner,
+            final List<String> header,
+            final ImportCheckpoint checkpoint,
+            final boolean resumed,
+            final BufferedWriter rejects
+        ) {
+            this.scanner = scanner;
+            this.header = header;
+            this.checkpoint = checkpoint;
+            this.rejects = rejects;
+            this.run = checkpoint.run();
+            this.resumed = resumed;
+            this.initialBytes = scanner.position();
+        }
+
+        private ImportProgress run() throws IOException {
+            final var threads = new AtomicInteger();
+            final ExecutorService executor = Executors.newFixedThreadPool(workers + 1, task -> {
+                final var thread = new Thread(task, "patient-import-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                for (int i = 0; i < workers; i++) {
+                    executor.submit(() -> stage(this::validate));
+                }
+                final Future<?> writer = executor.submit(() -> stage(this::write));
+
+                read();
+                for (int i = 0; i < workers; i++) {
+                    offer(chunks, NO_MORE_CHUNKS);
+                }
+                writer.get();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                fail(exception);
+            } catch (final ExecutionException exception) {
+                fail(exception.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+
+            final var error = failure.get();
+            if (error instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (error instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (error != null) {
+                throw new IllegalStateException("Patient import failed", error);
+            }
+            final var progress = progress();
+            progressListener.accept(progress);
+            return progress;
+        }
+
+        private void read() throws IOException, InterruptedException {
+            long sequence = 0;
+            var records = new ArrayList<RawRecord>(chunkSize);
+            RawRecord record;
+            while (failure.get() == null && (record = scanner.next()) != null) {
+                records.add(record);
+                if (records.size() == chunkSize) {
+                    offer(chunks, new Chunk(sequence++, records, record.endOffset(), record.endLine()));
+                    records = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!records.isEmpty()) {
+                final var last = records.get(records.size() - 1);
+                offer(chunks, new Chunk(sequence, records, last.endOffset(), last.endLine()));
+            }
+        }
+
+        private <T> void offer(final BlockingQueue<T> queue, final T item) throws InterruptedException {
+            while (!queue.offer(item, 50, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return;
+                }
+            }
+        }
+
+        private void validate() throws InterruptedException {
+            Chunk chunk;
+            while ((chunk = chunks.take()) != NO_MORE_CHUNKS) {
+                final var acceptedRecords = new ArrayList<RawRecord>(chunk.records().size());
+                final var accepted = new ArrayList<Patient>(chunk.records().size());
+                final var rejected = new ArrayList<Rejection>();
+                for (final var record : chunk.records()) {
+                    final var notification = Notification.create();
+                    try {
+                        final var fields = header == null
+                            ? PatientRecords.fromJson(record.text())
+                            : PatientRecords.fromCsv(header, record.text());
+                        final var patient = PatientRecords.toPatient(idOf(record), fields, notification);
+                        if (patient != null) {
+                            patient.validate(notification);
+                        }
+                        if (notification.hasError()) {
+                            rejected.add(new Rejection(record, notification.getErrors()));
+                        } else {
+                            acceptedRecords.add(record);
+                            accepted.add(patient);
+                        }
+                    } catch (final IllegalArgumentException | IndexOutOfBoundsException exception) {
+                        rejected.add(new Rejection(record, List.of(new Error("malformed record: " + exception.getMessage()))));
+                    }
+                }
+                offer(validated, new ValidatedChunk(chunk.sequence(), acceptedRecords, accepted, rejected,
+                    chunk.endOffset(), chunk.endLine()));
+            }
+            offer(validated, WORKER_DONE);
+        }
+
+        private void write() throws IOException, InterruptedException {
+            final Map<Long, ValidatedChunk> pending = new TreeMap<>();
+            long next = 0;
+            int finishedWorkers = 0;
+            while (finishedWorkers < workers) {
+                final var chunk = validated.poll(50, TimeUnit.MILLISECONDS);
+                if (chunk == null) {
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    continue;
+                }
+                if (chunk == WORKER_DONE) {
+                    finishedWorkers++;
+                } else {
+                    pending.put(chunk.sequence(), chunk);
+                }
+                ValidatedChunk ready;
+                while ((ready = pending.remove(next)) != null) {
+                    persist(ready);
+                    next++;
+                }
+            }
+            if (!pending.isEmpty()) {
+                throw new IllegalStateException("Chunks %s were never written".formatted(pending.keySet()));
+            }
+        }
+
+        private void persist(final ValidatedChunk chunk) throws IOException {
+            final var rejected = new ArrayList<>(chunk.rejected());
+            long imported = chunk.accepted().size();
+            if (!chunk.accepted().isEmpty()) {
+                try {
+                    gateway.createAll(chunk.accepted());
+                } catch (final DomainException exception) {
+                    final var existing = resumed
+                        ? gateway.findAllById(chunk.accepted().stream().map(Patient::getId).toList())
+                        : Map.<PatientID, Patient>of();
+                    imported = 0;
+                    for (int i = 0; i < chunk.accepted().size(); i++) {
+                        final var patient = chunk.accepted().get(i);
+                        if (existing.containsKey(patient.getId())) {
+                            imported++;
+                            continue;
+                        }
+                        try {
+                            gateway.create(patient);
+                            imported++;
+                        } catch (final DomainException rowException) {
+                            rejected.add(new Rejection(chunk.acceptedRecords().get(i), errorsOf(rowException)));
+                        }
+                    }
+                }
+            }
+            if (rejects != null && !rejected.isEmpty()) {
+                for (final var rejection : rejected) {
+                    rejects.write(rejectLine(rejection));
+                    rejects.newLine();
+                }
+                rejects.flush();
+            }
+            checkpoint = checkpoint.advance(chunk.endOffset(), chunk.endLine(), imported, rejected.size());
+            if (checkpointFile != null) {
+                checkpoint.save(checkpointFile);
+            }
+            final var now = System.nanoTime();
+            if (now - lastReportAt >= progressInterval.toNanos()) {
+                lastReportAt = now;
+                progressListener.accept(progress());
+            }
+        }
+
+        /** The same id for the same line whenever the checkpointed run reads it, and a new one for every new run. */
+        private PatientID idOf(final RawRecord record) {
+            final var name = run + ":" + record.line();
+            return PatientID.from(UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        private ImportProgress progress() {
+            return new ImportProgress(checkpoint.imported(), checkpoint.rejected(),
+                Math.max(checkpoint.offset(), initialBytes), scanner.size(), Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+
+        private void stage(final Stage stage) {
+            try {
+                stage.run();
+            } catch (final Throwable throwable) {
+                fail(throwable);
+            }
+        }
+
+        private void fail(final Throwable throwable) {
+            if (failure.compareAndSet(null, throwable)) {
+                chunks.clear();
+                validated.clear();
+            }
+        }
+    }
+
+    private static List<Error> errorsOf(final DomainException exception) {
+        return exception.getErrors().isEmpty() ? List.of(new Error(exception.getMessage())) : exception.getErrors();
+    }
+
+    private static String rejectLine(final Rejection rejection) {
+        final var line = new StringBuilder("{\"line\":").append(rejection.record().line())
+            .append(",\"offset\":").append(rejection.record().offset())
+            .append(",\"record\":");
+        quote(line, rejection.record().text());
+        line.append(",\"errors\":[");
+        for (int i = 0; i < rejection.errors().size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            quote(line, rejection.errors().get(i).message());
+        }
+        return line.append("]}").toString();
+    }
+
+    private static void quote(final StringBuilder target, final String value) {
+        target.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char current = value.charAt(i);
+            switch (current) {
+                case '"' -> target.append("\\\"");
+                case '\\' -> target.append("\\\\");
+                case '\n' -> target.append("\\n");
+                case '\r' -> target.append("\\r");
+                case '\t' -> target.append("\\t");
+                default -> {
+                    if (current < 0x20) {
+                        target.append("\\u%04x".formatted((int) current));
+                    } else {
+                        target.append(current);
+                    }
+                }
+            }
+        }
+        target.append('"');
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,258 @@
+package com.thiagodd.sakura.application.patient.importing;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.domain.validation.Error;
+import com.thiagodd.sakura.domain.validation.ValidationHandler;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns CSV rows and flat NDJSON objects into patients. Field names are matched ignoring case, spaces and
+ * underscores, so {@code date_of_birth} and {@code dateOfBirth} are the same column; blank values count as absent.
+ */
+final class PatientRecords {
+
+    private PatientRecords() {
+    }
+
+    static List<String> header(final String line) {
+        final var columns = new ArrayList<String>();
+        for (final var column : csv(line)) {
+            columns.add(keyOf(column));
+        }
+        return columns;
+    }
+
+    static Map<String, String> fromCsv(final List<String> header, final String line) {
+        final var values = csv(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("expected %d columns but got %d".formatted(header.size(), values.size()));
+        }
+        final var fields = new HashMap<String, String>(header.size() * 2);
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return fields;
+    }
+
+    static Map<String, String> fromJson(final String line) {
+        return new FlatJson(line).parse();
+    }
+
+    static Patient toPatient(final PatientID id, final Map<String, String> fields, final ValidationHandler handler) {
+        final var dateOfBirth = dateOf(fields.get("dateofbirth"), handler);
+        final var active = activeOf(fields.get("active"), handler);
+        final var sex = sexOf(fields.get("sex"), handler);
+        if (handler.hasError()) {
+            return null;
+        }
+        return Patient.newPatient(
+            id,
+            valueOf(fields.get("name")),
+            valueOf(fields.get("socialname")),
+            dateOfBirth,
+            valueOf(fields.get("email")),
+            valueOf(fields.get("observation")),
+            active,
+            sex
+        );
+    }
+
+    private static LocalDate dateOf(final String value, final ValidationHandler handler) {
+        if (valueOf(value) == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (final DateTimeParseException exception) {
+            handler.append(new Error("'dateOfBirth' should be a date in the yyyy-MM-dd format"));
+            return null;
+        }
+    }
+
+    private static boolean activeOf(final String value, final ValidationHandler handler) {
+        if (valueOf(value) == null) {
+            return true;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "1" -> true;
+            case "false", "0" -> false;
+            default -> {
+                handler.append(new Error("'active' should be true or false"));
+                yield true;
+            }
+        };
+    }
+
+    private static Sex sexOf(final String value, final ValidationHandler handler) {
+        if (valueOf(value) == null) {
+            return Sex.UNKNOWN;
+        }
+        return switch (value.trim().toUpperCase(Locale.ROOT)) {
+            case "MALE", "M" -> Sex.MALE;
+            case "FEMALE", "F" -> Sex.FEMALE;
+            case "UNKNOWN" -> Sex.UNKNOWN;
+            default -> {
+                handler.append(new Error("'sex' should be one of MALE, FEMALE or UNKNOWN"));
+                yield Sex.UNKNOWN;
+            }
+        };
+    }
+
+    private static String valueOf(final String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static String keyOf(final String column) {
+        return column.replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> csv(final String line) {
+        final var values = new ArrayList<String>();
+        final var value = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char current = line.charAt(i);
+            if (current == '"') {
+                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (current == ',' && !inQuotes) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(current);
+            }
+        }
+        if (inQuotes) {
+            throw new IllegalArgumentException("unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static final class FlatJson {
+
+        private final String text;
+        private int position;
+
+        private FlatJson(final String text) {
+            this.text = text;
+        }
+
+        private Map<String, String> parse() {
+            final var fields = new HashMap<String, String>();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+            } else {
+                do {
+                    skipWhitespace();
+                    final var key = string();
+                    expect(':');
+                    skipWhitespace();
+                    fields.put(keyOf(key), value());
+                    skipWhitespace();
+                } while (consume(','));
+                expect('}');
+            }
+            skipWhitespace();
+            if (position != text.length()) {
+                throw new IllegalArgumentException("unexpected content after the JSON object");
+            }
+            return fields;
+        }
+
+        private String value() {
+            final char current = peek();
+            if (current == '"') {
+                return string();
+            }
+            if (current == '{' || current == '[') {
+                throw new IllegalArgumentException("nested JSON values are not supported");
+            }
+            final int start = position;
+            while (position < text.length() && ",} \t".indexOf(text.charAt(position)) < 0) {
+                position++;
+            }
+            final var literal = text.substring(start, position);
+            if (literal.isEmpty()) {
+                throw new IllegalArgumentException("missing JSON value at position %d".formatted(start));
+            }
+            return "null".equals(literal) ? null : literal;
+        }
+
+        private String string() {
+            expect('"');
+            final var value = new StringBuilder();
+            while (true) {
+                if (position >= text.length()) {
+                    throw new IllegalArgumentException("unterminated JSON string");
+                }
+                final char current = text.charAt(position++);
+                if (current == '"') {
+                    return value.toString();
+                }
+                if (current != '\\') {
+                    value.append(current);
+                    continue;
+                }
+                final char escaped = text.charAt(position++);
+                switch (escaped) {
+                    case '"', '\\', '/' -> value.append(escaped);
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'u' -> {
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        position += 4;
+                    }
+                    default -> throw new IllegalArgumentException("invalid JSON escape '\\%s'".formatted(escaped));
+                }
+            }
+        }
+
+        private void expect(final char expected) {
+            skipWhitespace();
+            if (position >= text.length() || text.charAt(position) != expected) {
+                throw new IllegalArgumentException("expected '%s' at position %d".formatted(expected, position));
+            }
+            position++;
+        }
+
+        private boolean consume(final char expected) {
+            if (position < text.length() && text.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private char peek() {
+            if (position >= text.length()) {
+                throw new IllegalArgumentException("unexpected end of JSON record");
+            }
+            return text.charAt(position);
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
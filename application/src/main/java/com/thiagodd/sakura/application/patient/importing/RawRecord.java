@@ -0,0 +1,4 @@
+package com.thiagodd.sakura.application.patient.importing;
+
+record RawRecord(long line, long endLine, long offset, long endOffset, String text) {
+}
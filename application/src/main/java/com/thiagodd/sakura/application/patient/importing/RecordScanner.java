@@ -0,0 +1,91 @@
+package com.thiagodd.sakura.application.patient.importing;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a file into newline-terminated records by reading it through sliding memory-mapped windows. When
+ * {@code quoted} is set, newlines inside double quotes do not end a record, as in RFC 4180 CSV. Records carry the
+ * physical line they start on; blank lines are skipped and a trailing {@code \r} is dropped.
+ */
+final class RecordScanner {
+
+    private static final long WINDOW_SIZE = 64L << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private final boolean quoted;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private long line;
+    private byte[] buffer = new byte[512];
+
+    RecordScanner(final FileChannel channel, final boolean quoted) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.quoted = quoted;
+    }
+
+    void seek(final long position, final long line) {
+        this.position = position;
+        this.line = line;
+    }
+
+    long position() {
+        return position;
+    }
+
+    long size() {
+        return size;
+    }
+
+    RawRecord next() throws IOException {
+        while (position < size) {
+            final long start = position;
+            final long firstLine = line + 1;
+            int length = 0;
+            boolean inQuotes = false;
+            boolean terminated = false;
+            while (position < size) {
+                final byte value = byteAt(position++);
+                if (value == '\n') {
+                    line++;
+                    if (!inQuotes) {
+                        terminated = true;
+                        break;
+                    }
+                }
+                if (quoted && value == '"') {
+                    inQuotes = !inQuotes;
+                }
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, length * 2);
+                }
+                buffer[length++] = value;
+            }
+            if (!terminated) {
+                line++;
+            }
+            if (length > 0 && buffer[length - 1] == '\r') {
+                length--;
+            }
+            if (length == 0) {
+                continue;
+            }
+            return new RawRecord(firstLine, line, start, position, new String(buffer, 0, length, StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+
+    private byte byteAt(final long offset) throws IOException {
+        if (window == null || offset < windowStart || offset >= windowStart + window.limit()) {
+            windowStart = offset;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+        }
+        return window.get((int) (offset - windowStart));
+    }
+}
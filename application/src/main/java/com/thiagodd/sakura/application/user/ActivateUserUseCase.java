@@ -0,0 +1,47 @@
+package com.thiagodd.sakura.application.user;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.application.concurrency.OptimisticRetry;
+import com.thiagodd.sakura.domain.events.DomainEventPublisher;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.user.User;
+import com.thiagodd.sakura.domain.user.UserGateway;
+import com.thiagodd.sakura.domain.user.UserID;
+
+import java.util.Objects;
+
+public class ActivateUserUseCase extends UseCase<String, UserOutput> {
+
+    private final UserGateway gateway;
+    private final DomainEventPublisher publisher;
+    private final OptimisticRetry retry;
+
+    public ActivateUserUseCase(final UserGateway gateway, final DomainEventPublisher publisher) {
+        this(gateway, publisher, OptimisticRetry.create());
+    }
+
+    public ActivateUserUseCase(
+        final UserGateway gateway,
+        final DomainEventPublisher publisher,
+        final OptimisticRetry retry
+    ) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+        this.publisher = Objects.requireNonNull(publisher, "'publisher' should not be null");
+        this.retry = Objects.requireNonNull(retry, "'retry' should not be null");
+    }
+
+    @Override
+    public UserOutput execute(final String id) {
+        final var userID = UserID.tryFrom(id).orElseThrow(() -> NotFoundException.with(User.class, id));
+
+        return retry.execute(() -> {
+            final var user = gateway.findById(userID)
+                .orElseThrow(() -> NotFoundException.with(User.class, userID))
+                .activate();
+
+            final var updated = gateway.update(user);
+            publisher.publish(user.pullEvents());
+            return UserOutput.from(updated);
+        });
+    }
+}
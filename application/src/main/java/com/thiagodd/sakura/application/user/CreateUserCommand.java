@@ -0,0 +1,12 @@
+package com.thiagodd.sakura.application.user;
+
+public record CreateUserCommand(
+    String firstName,
+    String lastName,
+    String login,
+    String email,
+    String imageUrl,
+    boolean active,
+    String authorities
+) {
+}
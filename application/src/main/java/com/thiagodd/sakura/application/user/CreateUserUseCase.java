@@ -0,0 +1,54 @@
+package com.thiagodd.sakura.application.user;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.domain.events.DomainEventPublisher;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.user.User;
+import com.thiagodd.sakura.domain.user.UserGateway;
+import com.thiagodd.sakura.domain.validation.Error;
+import com.thiagodd.sakura.domain.validation.handler.Notification;
+
+import java.util.Objects;
+
+public class CreateUserUseCase extends UseCase<CreateUserCommand, UserOutput> {
+
+    static final Error LOGIN_TAKEN = new Error("'login' is already taken");
+    static final Error EMAIL_TAKEN = new Error("'email' is already taken");
+
+    private final UserGateway gateway;
+    private final DomainEventPublisher publisher;
+
+    public CreateUserUseCase(final UserGateway gateway, final DomainEventPublisher publisher) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+        this.publisher = Objects.requireNonNull(publisher, "'publisher' should not be null");
+    }
+
+    @Override
+    public UserOutput execute(final CreateUserCommand command) {
+        final var user = User.newUser(
+            command.firstName(),
+            command.lastName(),
+            command.login(),
+            command.email(),
+            command.imageUrl(),
+            command.active(),
+            command.authorities()
+        );
+
+        final var notification = Notification.create();
+        user.validate(notification);
+        if (gateway.existsByLogin(user.getLogin())) {
+            notification.append(LOGIN_TAKEN);
+        }
+        if (gateway.existsByEmail(user.getEmail())) {
+            notification.append(EMAIL_TAKEN);
+        }
+        if (notification.hasError()) {
+            throw DomainException.with(notification.getErrors());
+        }
+
+        final var created = gateway.create(user);
+        publisher.publish(user.pullEvents());
+        return UserOutput.from(created);
+    }
+}
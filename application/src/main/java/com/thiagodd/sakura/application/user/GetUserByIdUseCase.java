@@ -0,0 +1,27 @@
+package com.thiagodd.sakura.application.user;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.user.User;
+import com.thiagodd.sakura.domain.user.UserGateway;
+import com.thiagodd.sakura.domain.user.UserID;
+
+import java.util.Objects;
+
+public class GetUserByIdUseCase extends UseCase<String, UserOutput> {
+
+    private final UserGateway gateway;
+
+    public GetUserByIdUseCase(final UserGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+    }
+
+    @Override
+    public UserOutput execute(final String id) {
+        final var userID = UserID.tryFrom(id).orElseThrow(() -> NotFoundException.with(User.class, id));
+
+        return gateway.findById(userID)
+            .map(UserOutput::from)
+            .orElseThrow(() -> NotFoundException.with(User.class, userID));
+    }
+}
@@ -0,0 +1,22 @@
+package com.thiagodd.sakura.application.user;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.user.UserGateway;
+
+import java.util.Objects;
+
+public class ListUsersUseCase extends UseCase<SearchQuery, Pagination<UserOutput>> {
+
+    private final UserGateway gateway;
+
+    public ListUsersUseCase(final UserGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+    }
+
+    @Override
+    public Pagination<UserOutput> execute(final SearchQuery query) {
+        return gateway.findAll(query).map(UserOutput::from);
+    }
+}
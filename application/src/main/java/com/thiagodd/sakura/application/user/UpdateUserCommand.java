@@ -0,0 +1,13 @@
+package com.thiagodd.sakura.application.user;
+
+public record UpdateUserCommand(
+    String id,
+    String firstName,
+    String lastName,
+    String login,
+    String email,
+    String imageUrl,
+    boolean active,
+    String authorities
+) {
+}
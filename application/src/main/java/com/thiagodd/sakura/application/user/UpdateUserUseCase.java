@@ -0,0 +1,79 @@
+package com.thiagodd.sakura.application.user;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.application.concurrency.OptimisticRetry;
+import com.thiagodd.sakura.domain.events.DomainEventPublisher;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.user.User;
+import com.thiagodd.sakura.domain.user.UserField;
+import com.thiagodd.sakura.domain.user.UserGateway;
+import com.thiagodd.sakura.domain.user.UserID;
+import com.thiagodd.sakura.domain.validation.handler.Notification;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Applies the command to the latest stored version of the user, reloading and reapplying it when a concurrent
+ * update wins the compare-and-set.
+ */
+public class UpdateUserUseCase extends UseCase<UpdateUserCommand, UserOutput> {
+
+    private final UserGateway gateway;
+    private final DomainEventPublisher publisher;
+    private final OptimisticRetry retry;
+
+    public UpdateUserUseCase(final UserGateway gateway, final DomainEventPublisher publisher) {
+        this(gateway, publisher, OptimisticRetry.create());
+    }
+
+    public UpdateUserUseCase(
+        final UserGateway gateway,
+        final DomainEventPublisher publisher,
+        final OptimisticRetry retry
+    ) {
+        this.gateway = Objects.requireNonNull(gateway, "'gateway' should not be null");
+        this.publisher = Objects.requireNonNull(publisher, "'publisher' should not be null");
+        this.retry = Objects.requireNonNull(retry, "'retry' should not be null");
+    }
+
+    @Override
+    public UserOutput execute(final UpdateUserCommand command) {
+        final var id = UserID.tryFrom(command.id()).orElseThrow(() -> NotFoundException.with(User.class, command.id()));
+
+        return retry.execute(() -> {
+            final var user = gateway.findById(id).orElseThrow(() -> NotFoundException.with(User.class, id));
+            user.update(
+                command.firstName(),
+                command.lastName(),
+                command.login(),
+                command.email(),
+                command.imageUrl(),
+                command.active(),
+                command.authorities()
+            );
+
+            final var notification = Notification.create();
+            user.validate(notification);
+            final var changed = user.changedFields();
+            if (changed.contains(UserField.LOGIN) && isTaken(gateway.findByLogin(user.getLogin()), id)) {
+                notification.append(CreateUserUseCase.LOGIN_TAKEN);
+            }
+            if (changed.contains(UserField.EMAIL) && isTaken(gateway.findByEmail(user.getEmail()), id)) {
+                notification.append(CreateUserUseCase.EMAIL_TAKEN);
+            }
+            if (notification.hasError()) {
+                throw DomainException.with(notification.getErrors());
+            }
+
+            final var updated = gateway.update(user);
+            publisher.publish(user.pullEvents());
+            return UserOutput.from(updated);
+        });
+    }
+
+    private static boolean isTaken(final Optional<User> owner, final UserID id) {
+        return owner.isPresent() && !owner.get().getId().equals(id);
+    }
+}
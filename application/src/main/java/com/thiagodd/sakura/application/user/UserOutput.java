@@ -0,0 +1,38 @@
+package com.thiagodd.sakura.application.user;
+
+import com.thiagodd.sakura.domain.user.User;
+
+import java.time.Instant;
+
+public record UserOutput(
+    String id,
+    String firstName,
+    String lastName,
+    String login,
+    String email,
+    String imageUrl,
+    boolean active,
+    String authorities,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt,
+    long version
+) {
+
+    public static UserOutput from(final User user) {
+        return new UserOutput(
+            user.getId().getValue(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getLogin(),
+            user.getEmail(),
+            user.getImageUrl(),
+            user.isActive(),
+            user.getAuthorities(),
+            user.getCreatedAt(),
+            user.getUpdatedAt(),
+            user.getDeletedAt(),
+            user.getVersion()
+        );
+    }
+}
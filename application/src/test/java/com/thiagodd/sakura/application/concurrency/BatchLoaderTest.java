@@ -0,0 +1,101 @@
+package com.thiagodd.sakura.application.concurrency;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.infrastructure.patient.InMemoryPatientGateway;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+
+    private final InMemoryPatientGateway gateway = new InMemoryPatientGateway();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void givenConcurrentFindByIdCalls_whenWithinTheWindow_thenLoadThemInOneBatch() throws Exception {
+        final var ids = createPatients(40);
+        final var executor = Executors.newFixedThreadPool(ids.size());
+        try (var loader = BatchLoader.create(this::findAllById).window(Duration.ofMillis(200)).copying(Patient::with)) {
+            final var futures = new ArrayList<Future<Optional<Patient>>>();
+            for (final var id : ids) {
+                futures.add(executor.submit(() -> loader.get(id)));
+            }
+
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(ids.get(i), futures.get(i).get().orElseThrow().getId());
+            }
+            assertEquals(List.of(40), batchSizes);
+            assertEquals(1, loader.batches());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenMoreKeysThanTheMaxBatchSize_whenCallLoad_thenSendFullBatchesRightAway() {
+        final var ids = createPatients(25);
+        try (var loader = BatchLoader.create(this::findAllById).window(Duration.ofSeconds(30)).maxBatchSize(10)) {
+            final var futures = ids.stream().map(loader::load).toList();
+
+            CompletableFuture.allOf(futures.subList(0, 20).toArray(CompletableFuture[]::new)).join();
+            loader.close();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            assertEquals(List.of(10, 10, 5), batchSizes);
+        }
+    }
+
+    @Test
+    public void givenRepeatedAndUnknownKeys_whenCallLoad_thenLoadEachKeyOnceAndCopyPerCaller() {
+        final var id = createPatients(1).get(0);
+        try (var loader = BatchLoader.create(this::findAllById).window(Duration.ofMillis(50)).copying(Patient::with)) {
+            final var first = loader.load(id);
+            final var second = loader.load(id);
+            final var unknown = loader.load(PatientID.unique());
+
+            assertNotSame(first.join().orElseThrow(), second.join().orElseThrow());
+            assertTrue(unknown.join().isEmpty());
+            assertEquals(List.of(2), batchSizes);
+        }
+    }
+
+    @Test
+    public void givenAFailingBatchFunction_whenCallGet_thenEveryCallerGetsTheFailure() {
+        try (var loader = BatchLoader.<PatientID, Patient>create(ids -> {
+            throw new IllegalStateException("database is down");
+        }).window(Duration.ofMillis(10))) {
+            final var other = loader.load(PatientID.unique());
+
+            assertThrows(IllegalStateException.class, () -> loader.get(PatientID.unique()));
+            assertTrue(other.isCompletedExceptionally());
+        }
+    }
+
+    private Map<PatientID, Patient> findAllById(final Collection<PatientID> ids) {
+        batchSizes.add(ids.size());
+        return gateway.findAllById(ids);
+    }
+
+    private List<PatientID> createPatients(final int count) {
+        final var ids = new ArrayList<PatientID>();
+        for (int i = 0; i < count; i++) {
+            ids.add(gateway.create(Patient.newPatient(
+                "Paciente " + i, null, LocalDate.of(1990, 5, 15), "paciente@example.com", null, true, Sex.UNKNOWN)).getId());
+        }
+        return ids;
+    }
+}
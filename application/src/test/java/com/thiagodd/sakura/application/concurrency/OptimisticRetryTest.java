@@ -0,0 +1,99 @@
+package com.thiagodd.sakura.application.concurrency;
+
+import com.thiagodd.sakura.domain.exceptions.ConflictException;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticRetryTest {
+
+    private static final PatientID ID = PatientID.unique();
+
+    @Test
+    public void givenAnOperationThatConflictsTwice_whenCallExecute_thenRetryWithBoundedBackoff() {
+        final var attempts = new AtomicInteger();
+        final var sleeps = new ArrayList<Long>();
+        final var retry = OptimisticRetry.create()
+            .backoff(Duration.ofMillis(10), Duration.ofMillis(15))
+            .sleeper(sleeps::add);
+
+        final var actualResult = retry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw ConflictException.with(Patient.class, ID, 1, 2);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", actualResult);
+        assertEquals(3, attempts.get());
+        assertEquals(2, sleeps.size());
+        assertTrue(sleeps.get(0) <= Duration.ofMillis(10).toNanos());
+        assertTrue(sleeps.get(1) <= Duration.ofMillis(15).toNanos());
+    }
+
+    @Test
+    public void givenAnOperationThatAlwaysConflicts_whenCallExecute_thenRethrowAfterMaxAttempts() {
+        final var attempts = new AtomicInteger();
+        final var retry = OptimisticRetry.create().maxAttempts(4).sleeper(nanos -> {});
+
+        final var actualException = assertThrows(ConflictException.class, () -> retry.run(() -> {
+            attempts.incrementAndGet();
+            throw ConflictException.with(Patient.class, ID, 1, 2);
+        }));
+
+        assertEquals(4, attempts.get());
+        assertEquals("Patient with ID %s was modified concurrently (expected version 1 but was 2)".formatted(ID.getValue()),
+            actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnOtherFailure_whenCallExecute_thenDoNotRetry() {
+        final var attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> OptimisticRetry.create().run(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void givenContendedCompareAndSetWrites_whenRetrying_thenNoUpdateIsLost() throws Exception {
+        final var version = new AtomicLong();
+        final var retry = OptimisticRetry.create().maxAttempts(10_000).backoff(Duration.ofNanos(1_000), Duration.ofMillis(1));
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        retry.run(() -> {
+                            final var read = version.get();
+                            Thread.yield();
+                            if (!version.compareAndSet(read, read + 1)) {
+                                throw ConflictException.with(Patient.class, ID, read, version.get());
+                            }
+                        });
+                    }
+                }));
+            }
+            for (final var writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1_600, version.get());
+    }
+}
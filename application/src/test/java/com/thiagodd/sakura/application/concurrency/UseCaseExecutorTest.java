@@ -0,0 +1,190 @@
+package com.thiagodd.sakura.application.concurrency;
+
+import com.thiagodd.sakura.application.UseCase;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.domain.user.User;
+import com.thiagodd.sakura.infrastructure.patient.InMemoryPatientGateway;
+import com.thiagodd.sakura.infrastructure.user.InMemoryUserGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UseCaseExecutorTest {
+
+    private final UseCaseExecutor executor = UseCaseExecutor.create();
+
+    @AfterEach
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    public void givenAConcurrencyLimit_whenSubmittingManyCalls_thenNeverRunMoreThanTheLimitAtOnce() {
+        final var running = new AtomicInteger();
+        final var peak = new AtomicInteger();
+        final var useCase = new SleepingUseCase(running, peak);
+        executor.limit(SleepingUseCase.class, 3);
+
+        final var calls = new ArrayList<CompletableFuture<Integer>>();
+        for (int i = 0; i < 30; i++) {
+            calls.add(executor.submit(useCase, i));
+        }
+
+        assertEquals(30, calls.stream().mapToInt(CompletableFuture::join).distinct().count());
+        assertTrue(peak.get() <= 3);
+        assertTrue(peak.get() >= 1);
+    }
+
+    @Test
+    public void givenASlowUseCase_whenItExceedsItsTimeout_thenThrowAndInterruptIt() throws Exception {
+        final var interrupted = new CountDownLatch(1);
+        final var useCase = new BlockingUseCase(interrupted);
+        executor.timeout(BlockingUseCase.class, Duration.ofMillis(50));
+
+        final var actualException = assertThrows(UseCaseTimeoutException.class, () -> executor.execute(useCase, "x"));
+
+        assertEquals("BlockingUseCase did not finish within 50 ms", actualException.getMessage());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void givenAPatientAndAUser_whenFanningOut_thenLoadBothInParallel() {
+        final var patients = new InMemoryPatientGateway();
+        final var users = new InMemoryUserGateway();
+        final var patient = patients.create(Patient.newPatient(
+            "João da Silva", null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE));
+        final var user = users.create(User.newUser("Maria", "Souza", "maria", "maria@example.com", null, true, "ROLE_USER"));
+        final var bothStarted = new CyclicBarrier(2);
+
+        final var actualNames = executor.execute(new UseCase<String, String>() {
+            @Override
+            public String execute(final String input) {
+                try (final var scope = executor.fanOut()) {
+                    final var loadedPatient = scope.fork(() -> {
+                        bothStarted.await(5, TimeUnit.SECONDS);
+                        return patients.findById(patient.getId()).orElseThrow();
+                    });
+                    final var loadedUser = scope.fork(() -> {
+                        bothStarted.await(5, TimeUnit.SECONDS);
+                        return users.findById(user.getId()).orElseThrow();
+                    });
+                    scope.join();
+                    return loadedPatient.get().getName() + " / " + loadedUser.get().getLogin();
+                }
+            }
+        }, "");
+
+        assertEquals("João da Silva / maria", actualNames);
+    }
+
+    @Test
+    public void givenAFailingFork_whenJoining_thenCancelTheOthersAndRethrow() throws Exception {
+        final var siblingInterrupted = new CountDownLatch(1);
+
+        final var actualException = assertThrows(IllegalStateException.class, () -> {
+            try (final var scope = executor.fanOut()) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException exception) {
+                        siblingInterrupted.countDown();
+                    }
+                    return null;
+                });
+                scope.fork(() -> {
+                    throw new IllegalStateException("user service unavailable");
+                });
+                scope.join();
+            }
+        });
+
+        assertEquals("user service unavailable", actualException.getMessage());
+        assertTrue(siblingInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void givenAFullPlatformPool_whenItsUseCasesFanOut_thenTheForksStillRun() {
+        try (final var platform = UseCaseExecutor.withPlatformThreads(2).timeout(Duration.ofSeconds(5))) {
+            final var useCase = new UseCase<Integer, Integer>() {
+                @Override
+                public Integer execute(final Integer input) {
+                    try (final var scope = platform.fanOut()) {
+                        final var doubled = scope.fork(() -> input * 2);
+                        final var squared = scope.fork(() -> input * input);
+                        scope.join();
+                        return doubled.get() + squared.get();
+                    }
+                }
+            };
+
+            final var calls = new ArrayList<CompletableFuture<Integer>>();
+            for (int i = 0; i < 10; i++) {
+                calls.add(platform.submit(useCase, i));
+            }
+
+            assertFalse(platform.usesVirtualThreads());
+            assertEquals(3, calls.get(1).join().intValue());
+            assertEquals(99, calls.get(9).join().intValue());
+        }
+    }
+
+    @Test
+    public void givenTheRunningJvm_whenCallCreate_thenUseVirtualThreadsOnlyWhenAvailable() {
+        assertEquals(VirtualThreads.isSupported(), executor.usesVirtualThreads());
+        assertEquals(Runtime.version().feature() >= 21, executor.usesVirtualThreads());
+    }
+
+    private static final class SleepingUseCase extends UseCase<Integer, Integer> {
+
+        private final AtomicInteger running;
+        private final AtomicInteger peak;
+
+        private SleepingUseCase(final AtomicInteger running, final AtomicInteger peak) {
+            this.running = running;
+            this.peak = peak;
+        }
+
+        @Override
+        public Integer execute(final Integer input) {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return input;
+        }
+    }
+
+    private static final class BlockingUseCase extends UseCase<String, String> {
+
+        private final CountDownLatch interrupted;
+
+        private BlockingUseCase(final CountDownLatch interrupted) {
+            this.interrupted = interrupted;
+        }
+
+        @Override
+        public String execute(final String input) {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException exception) {
+                interrupted.countDown();
+            }
+            return input;
+        }
+    }
+}
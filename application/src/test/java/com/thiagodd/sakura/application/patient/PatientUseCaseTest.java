@@ -0,0 +1,90 @@
+package com.thiagodd.sakura.application.patient;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.PatientCreated;
+import com.thiagodd.sakura.domain.patient.PatientDeactivated;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.PatientUpdated;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.infrastructure.patient.InMemoryPatientGateway;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatientUseCaseTest {
+
+    private final InMemoryPatientGateway gateway = new InMemoryPatientGateway();
+    private final List<DomainEvent> published = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void givenAValidCommand_whenCallCreatePatient_thenPersistAndPublishCreated() {
+        final var command = new CreatePatientCommand(
+            "João da Silva", "João", LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE);
+
+        final var actualOutput = new CreatePatientUseCase(gateway, published::addAll).execute(command);
+
+        assertEquals("João da Silva", new GetPatientByIdUseCase(gateway).execute(actualOutput.id()).name());
+        assertEquals(0, actualOutput.version());
+        assertEquals(1, published.size());
+        assertInstanceOf(PatientCreated.class, published.get(0));
+        assertEquals(actualOutput.id(), published.get(0).aggregateId().getValue());
+    }
+
+    @Test
+    public void givenAnInvalidCommand_whenCallCreatePatient_thenThrowAndPersistNothing() {
+        final var command = new CreatePatientCommand(null, null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE);
+
+        assertThrows(DomainException.class, () -> new CreatePatientUseCase(gateway, published::addAll).execute(command));
+        assertEquals(0, new ListPatientsUseCase(gateway).execute(new SearchQuery(0, 10, null, "name", "asc")).total());
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    public void givenAPatient_whenCallUpdateAndDeactivate_thenBumpTheVersionAndPublishEvents() {
+        final var created = new CreatePatientUseCase(gateway, published::addAll).execute(new CreatePatientCommand(
+            "João da Silva", null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE));
+        published.clear();
+
+        final var updated = new UpdatePatientUseCase(gateway, published::addAll).execute(new UpdatePatientCommand(
+            created.id(), "João Souza", null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE));
+        final var deactivated = new DeactivatePatientUseCase(gateway, published::addAll).execute(created.id());
+
+        assertEquals("João Souza", updated.name());
+        assertEquals(1, updated.version());
+        assertFalse(deactivated.active());
+        assertEquals(2, deactivated.version());
+        assertEquals(List.of(PatientUpdated.class, PatientDeactivated.class),
+            published.stream().map(Object::getClass).toList());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallGetOrActivate_thenThrowNotFound() {
+        final var id = PatientID.unique().getValue();
+
+        assertThrows(NotFoundException.class, () -> new GetPatientByIdUseCase(gateway).execute(id));
+        assertThrows(NotFoundException.class, () -> new ActivatePatientUseCase(gateway, published::addAll).execute(id));
+        assertThrows(NotFoundException.class, () -> new GetPatientByIdUseCase(gateway).execute("123"));
+    }
+
+    @Test
+    public void givenAStoredPatient_whenCallFindLikelyDuplicatesWithAnotherSpelling_thenReturnTheStoredOne() {
+        final var create = new CreatePatientUseCase(gateway, published::addAll);
+        final var stored = create.execute(new CreatePatientCommand("Maria da Conceição Souza", null,
+            LocalDate.of(1985, 3, 2), "maria.souza@example.com", null, true, Sex.FEMALE));
+        create.execute(new CreatePatientCommand("Maria da Conceição Souza", null,
+            LocalDate.of(1962, 7, 30), "outra@example.com", null, true, Sex.FEMALE));
+
+        final var actualMatches = new FindLikelyDuplicatesUseCase(gateway).execute(new CreatePatientCommand(
+            "Maria Conceicao Sousa", null, LocalDate.of(1985, 3, 2), "mariasouza@example.com", null, true, Sex.FEMALE));
+
+        assertEquals(List.of(stored.id()), actualMatches.stream().map(match -> match.patient().id()).toList());
+        assertTrue(actualMatches.get(0).score() > 0.9);
+    }
+}
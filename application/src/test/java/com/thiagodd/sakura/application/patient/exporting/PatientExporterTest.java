@@ -0,0 +1,150 @@
+package com.thiagodd.sakura.application.patient.exporting;
+
+import com.thiagodd.sakura.application.patient.importing.PatientImporter;
+import com.thiagodd.sakura.domain.pagination.CursorPagination;
+import com.thiagodd.sakura.domain.pagination.CursorQuery;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.Sex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatientExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void givenPatients_whenCallRunAsNdjson_thenWriteOneEscapedObjectPerLine() throws IOException {
+        final var patient = Patient.newPatient("José \"Zé\" Conceição 😀", null, LocalDate.of(1990, 5, 15),
+            "jose@example.com", "linha 1\nlinha 2", true, Sex.MALE);
+        final var gateway = new ListGateway(List.of(patient));
+
+        final var actualResult = PatientExporter.create(gateway).run(new SearchQuery(0, 0, null, null, null), directory);
+
+        final var lines = Files.readAllLines(actualResult.files().get(0), StandardCharsets.UTF_8);
+        assertEquals(1, actualResult.rows());
+        assertEquals(Files.size(actualResult.files().get(0)), actualResult.bytes());
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"id\":\"%s\",\"name\":\"José \\\"Zé\\\" Conceição 😀\",\"socialName\":null,"
+            .formatted(patient.getId().getValue())));
+        assertTrue(lines.get(0).contains("\"dateOfBirth\":\"1990-05-15\""));
+        assertTrue(lines.get(0).contains("\"observation\":\"linha 1\\nlinha 2\""));
+        assertTrue(lines.get(0).endsWith(",\"deletedAt\":null}"));
+    }
+
+    @Test
+    public void givenManyPatients_whenCallRunPartitionedWithGzip_thenEveryPatientIsWrittenOnce() throws IOException {
+        final var patients = new ArrayList<Patient>();
+        for (int i = 0; i < 25_000; i++) {
+            patients.add(Patient.newPatient("Paciente " + i, null, LocalDate.of(1990, 1, 1),
+                "paciente%d@example.com".formatted(i), null, true, Sex.UNKNOWN));
+        }
+        final var gateway = new ListGateway(patients);
+
+        final var actualResult = PatientExporter.create(gateway).format(ExportFormat.CSV).gzip().partitions(3)
+            .chunkSize(500).run(new SearchQuery(0, 0, null, null, null), directory);
+
+        final var ids = new HashSet<String>();
+        for (final var file : actualResult.files()) {
+            assertTrue(file.getFileName().toString().endsWith(".csv.gz"));
+            try (var reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                assertEquals("id,name,social_name,date_of_birth,email,observation,active,sex,created_at,updated_at,deleted_at",
+                    reader.readLine());
+                reader.lines().forEach(line -> assertTrue(ids.add(line.substring(0, line.indexOf(',')))));
+            }
+        }
+        assertEquals(3, actualResult.files().size());
+        assertEquals(25_000, actualResult.rows());
+        assertEquals(25_000, ids.size());
+    }
+
+    @Test
+    public void givenAnExportedCsv_whenImportingIt_thenPatientsRoundTrip() {
+        final var expected = Patient.newPatient("Souza, Maria", "Mari", LocalDate.of(1985, 1, 1),
+            "maria@example.com", "alergia a \"dipirona\"\ne penicilina", false, Sex.FEMALE);
+        final var target = new ListGateway(new ArrayList<>());
+
+        final var exported = PatientExporter.create(new ListGateway(List.of(expected))).format(ExportFormat.CSV)
+            .run(new SearchQuery(0, 0, null, null, null), directory);
+        PatientImporter.create(target).run(exported.files().get(0));
+
+        final var actualPatient = target.patients.values().iterator().next();
+        assertEquals(expected.getName(), actualPatient.getName());
+        assertEquals(expected.getSocialName(), actualPatient.getSocialName());
+        assertEquals(expected.getObservation(), actualPatient.getObservation());
+        assertEquals(expected.getDateOfBirth(), actualPatient.getDateOfBirth());
+        assertEquals(expected.isActive(), actualPatient.isActive());
+        assertEquals(expected.getSex(), actualPatient.getSex());
+    }
+
+    private static final class ListGateway implements PatientGateway {
+
+        private final List<Patient> ordered;
+        private final Map<PatientID, Patient> patients = new ConcurrentHashMap<>();
+
+        private ListGateway(final List<Patient> ordered) {
+            this.ordered = ordered;
+            ordered.forEach(patient -> patients.put(patient.getId(), patient));
+        }
+
+        @Override
+        public Stream<Patient> streamAll(final SearchQuery query) {
+            return ordered.stream();
+        }
+
+        @Override
+        public Patient create(final Patient patient) {
+            patients.put(patient.getId(), patient);
+            return patient;
+        }
+
+        @Override
+        public void deleteById(final PatientID id) {
+            patients.remove(id);
+        }
+
+        @Override
+        public Optional<Patient> findById(final PatientID patientID) {
+            return Optional.ofNullable(patients.get(patientID));
+        }
+
+        @Override
+        public Patient update(final Patient patient) {
+            patients.put(patient.getId(), patient);
+            return patient;
+        }
+
+        @Override
+        public Pagination<Patient> findAll(final SearchQuery query) {
+            return new Pagination<>(query.page(), query.perPage(), patients.size(), new ArrayList<>(patients.values()));
+        }
+
+        @Override
+        public CursorPagination<Patient> findAll(final CursorQuery query) {
+            return new CursorPagination<>(query.perPage(), null, new ArrayList<>(patients.values()));
+        }
+    }
+}
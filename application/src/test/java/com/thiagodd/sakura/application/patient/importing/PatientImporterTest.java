@@ -0,0 +1,223 @@
+package com.thiagodd.sakura.application.patient.importing;
+
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.pagination.CursorPagination;
+import com.thiagodd.sakura.domain.pagination.CursorQuery;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.domain.validation.Error;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatientImporterTest {
+
+    @TempDir
+    Path directory;
+
+    private final RecordingGateway gateway = new RecordingGateway();
+
+    @Test
+    public void givenACsvFile_whenCallRun_thenImportValidRowsAndRejectInvalidOnes() throws IOException {
+        final var source = write("patients.csv", """
+            name,social_name,date_of_birth,email,observation,active,sex
+            João da Silva,,1990-05-15,joao@example.com,,true,MALE
+            "Souza, Maria",Mari,1985-01-01,maria@example.com,"alergia a ""dipirona""
+            e penicilina",false,F
+            Ana Lima,,1999-13-01,ana@example.com,,,
+            Bruno Alves,,1970-01-01,bruno-at-example.com,,,
+            Carla,,1970-01-01
+            """);
+        final var rejects = directory.resolve("rejects.ndjson");
+
+        final var actualProgress = PatientImporter.create(gateway).workers(2).chunkSize(2).rejectsTo(rejects).run(source);
+
+        assertEquals(2, actualProgress.imported());
+        assertEquals(3, actualProgress.rejected());
+        assertEquals(100.0, actualProgress.percent());
+        final var maria = gateway.byName("Souza, Maria");
+        assertEquals("alergia a \"dipirona\"\ne penicilina", maria.getObservation());
+        assertFalse(maria.isActive());
+        assertEquals(Sex.FEMALE, maria.getSex());
+        assertEquals(LocalDate.of(1985, 1, 1), maria.getDateOfBirth());
+
+        final var rejectLines = Files.readAllLines(rejects);
+        assertEquals(3, rejectLines.size());
+        assertTrue(rejectLines.get(0).startsWith("{\"line\":5,"));
+        assertTrue(rejectLines.get(0).contains("'dateOfBirth' should be a date in the yyyy-MM-dd format"));
+        assertTrue(rejectLines.get(1).contains("'email' is in an invalid format"));
+        assertTrue(rejectLines.get(2).contains("malformed record: expected 7 columns but got 3"));
+    }
+
+    @Test
+    public void givenAnNdjsonFile_whenCallRun_thenImportValidRecords() throws IOException {
+        final var source = write("patients.ndjson", """
+            {"name": "João da Silva", "dateOfBirth": "1990-05-15", "email": "joao@example.com", "sex": "MALE"}
+            {"name": "Maria\\u0020Souza", "email": "maria@example.com", "active": false, "observation": null}
+
+            {"name": "Ana", "email": "ana@example.com", "tags": ["x"]}
+            """);
+
+        final var actualProgress = PatientImporter.create(gateway).run(source);
+
+        assertEquals(2, actualProgress.imported());
+        assertEquals(1, actualProgress.rejected());
+        assertFalse(gateway.byName("Maria Souza").isActive());
+        assertEquals(Sex.UNKNOWN, gateway.byName("Maria Souza").getSex());
+    }
+
+    @Test
+    public void givenAFailedImport_whenCallRunAgainWithTheCheckpoint_thenImportEveryRowExactlyOnce() throws IOException {
+        final var csv = new StringBuilder("name,email\n");
+        for (int i = 0; i < 100; i++) {
+            csv.append("Paciente ").append(i).append(",paciente").append(i).append("@example.com\n");
+        }
+        final var source = write("patients.csv", csv.toString());
+        final var checkpoint = directory.resolve("import.checkpoint");
+        gateway.failOnBatch(3);
+        final var importer = PatientImporter.create(gateway).workers(4).chunkSize(10).checkpointTo(checkpoint);
+
+        assertThrows(IllegalStateException.class, () -> importer.run(source));
+        assertEquals(20, gateway.patients.size());
+        assertTrue(Files.exists(checkpoint));
+
+        gateway.failOnBatch(0);
+        final var actualProgress = importer.run(source);
+
+        assertEquals(100, actualProgress.imported());
+        assertEquals(100, gateway.patients.size());
+        assertEquals(100, gateway.patients.values().stream().map(Patient::getName).distinct().count());
+    }
+
+    @Test
+    public void givenAChunkStoredBeforeItsCheckpoint_whenCallRunAgain_thenSkipStoredRows() throws IOException {
+        final var csv = new StringBuilder("name,email\n");
+        for (int i = 0; i < 100; i++) {
+            csv.append("Paciente ").append(i).append(",paciente").append(i).append("@example.com\n");
+        }
+        final var source = write("patients.csv", csv.toString());
+        final var checkpoint = directory.resolve("import.checkpoint");
+        gateway.failOnBatch(3, true);
+        final var importer = PatientImporter.create(gateway).workers(4).chunkSize(10).checkpointTo(checkpoint);
+
+        assertThrows(IllegalStateException.class, () -> importer.run(source));
+        assertEquals(30, gateway.patients.size());
+        final var storedBeforeCrash = Set.copyOf(gateway.patients.keySet());
+
+        gateway.failOnBatch(0);
+        final var actualProgress = importer.run(source);
+
+        assertEquals(100, actualProgress.imported());
+        assertEquals(0, actualProgress.rejected());
+        assertEquals(100, gateway.patients.size());
+        assertTrue(gateway.patients.keySet().containsAll(storedBeforeCrash));
+    }
+
+    @Test
+    public void givenANewFileAtAnImportedPath_whenCallRun_thenImportEveryRowOfTheNewFile() throws IOException {
+        final var source = write("patients.csv", "name,email\nJoão da Silva,joao@example.com\nAna,ana@example.com\n");
+        final var importer = PatientImporter.create(gateway).workers(2).chunkSize(10);
+        importer.run(source);
+
+        write("patients.csv", "name,email\nMaria Souza,maria@example.com\nBruno Alves,bruno@example.com\n");
+        final var actualProgress = importer.run(source);
+
+        assertEquals(2, actualProgress.imported());
+        assertEquals(0, actualProgress.rejected());
+        assertEquals(4, gateway.patients.size());
+        assertEquals("maria@example.com", gateway.byName("Maria Souza").getEmail());
+    }
+
+    private Path write(final String name, final String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private static final class RecordingGateway implements PatientGateway {
+
+        private final Map<PatientID, Patient> patients = new ConcurrentHashMap<>();
+        private final AtomicInteger batches = new AtomicInteger();
+        private volatile int failOnBatch;
+        private volatile boolean failAfterWrite;
+
+        private void failOnBatch(final int batch) {
+            failOnBatch(batch, false);
+        }
+
+        private void failOnBatch(final int batch, final boolean afterWrite) {
+            batches.set(0);
+            failOnBatch = batch;
+            failAfterWrite = afterWrite;
+        }
+
+        private Patient byName(final String name) {
+            return patients.values().stream().filter(patient -> patient.getName().equals(name)).findFirst().orElseThrow();
+        }
+
+        @Override
+        public List<Patient> createAll(final Collection<Patient> patients) {
+            final var fail = batches.incrementAndGet() == failOnBatch;
+            if (fail && !failAfterWrite) {
+                throw new IllegalStateException("connection lost");
+            }
+            final var created = PatientGateway.super.createAll(patients);
+            if (fail) {
+                throw new IllegalStateException("connection lost after commit");
+            }
+            return created;
+        }
+
+        @Override
+        public Patient create(final Patient patient) {
+            if (patients.putIfAbsent(patient.getId(), patient) != null) {
+                throw DomainException.with(
+                    new Error("Patient with ID %s already exists".formatted(patient.getId().getValue())));
+            }
+            return patient;
+        }
+
+        @Override
+        public void deleteById(final PatientID id) {
+            patients.remove(id);
+        }
+
+        @Override
+        public Optional<Patient> findById(final PatientID patientID) {
+            return Optional.ofNullable(patients.get(patientID));
+        }
+
+        @Override
+        public Patient update(final Patient patient) {
+            patients.put(patient.getId(), patient);
+            return patient;
+        }
+
+        @Override
+        public Pagination<Patient> findAll(final SearchQuery query) {
+            return new Pagination<>(query.page(), query.perPage(), patients.size(), new ArrayList<>(patients.values()));
+        }
+
+        @Override
+        public CursorPagination<Patient> findAll(final CursorQuery query) {
+            return new CursorPagination<>(query.perPage(), null, new ArrayList<>(patients.values()));
+        }
+    }
+}
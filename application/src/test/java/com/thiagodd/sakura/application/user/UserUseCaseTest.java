@@ -0,0 +1,65 @@
+package com.thiagodd.sakura.application.user;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.user.UserActivated;
+import com.thiagodd.sakura.domain.user.UserCreated;
+import com.thiagodd.sakura.infrastructure.user.InMemoryUserGateway;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserUseCaseTest {
+
+    private final InMemoryUserGateway gateway = new InMemoryUserGateway();
+    private final List<DomainEvent> published = new ArrayList<>();
+
+    @Test
+    public void givenAnInactiveUser_whenCallActivate_thenPersistAndPublishActivated() {
+        final var created = new CreateUserUseCase(gateway, published::addAll).execute(new CreateUserCommand(
+            "Maria", "Souza", "maria.souza", "maria@example.com", null, false, "ROLE_USER"));
+
+        final var actualOutput = new ActivateUserUseCase(gateway, published::addAll).execute(created.id());
+
+        assertFalse(created.active());
+        assertTrue(actualOutput.active());
+        assertNull(actualOutput.deletedAt());
+        assertEquals(1, actualOutput.version());
+        assertEquals(List.of(UserCreated.class, UserActivated.class), published.stream().map(Object::getClass).toList());
+    }
+
+    @Test
+    public void givenUsers_whenCallListWithTerms_thenReturnMatchingPage() {
+        final var create = new CreateUserUseCase(gateway, published::addAll);
+        create.execute(new CreateUserCommand("Maria", "Souza", "maria.souza", "maria@example.com", null, true, "ROLE_USER"));
+        create.execute(new CreateUserCommand("Ana", "Souza", "ana.souza", "ana@example.com", null, true, "ROLE_USER"));
+        create.execute(new CreateUserCommand("Bruno", "Alves", "bruno", "bruno@example.com", null, true, "ROLE_USER"));
+
+        final var actualPage = new ListUsersUseCase(gateway).execute(new SearchQuery(0, 10, "souza", "firstName", "asc"));
+
+        assertEquals(2, actualPage.total());
+        assertEquals(List.of("Ana", "Maria"), actualPage.items().stream().map(UserOutput::firstName).toList());
+    }
+
+    @Test
+    public void givenATakenLogin_whenCallCreateOrUpdate_thenThrowDomainExceptionWithoutWriting() {
+        final var create = new CreateUserUseCase(gateway, published::addAll);
+        create.execute(new CreateUserCommand("Maria", "Souza", "maria.souza", "maria@example.com", null, true, "ROLE_USER"));
+        final var ana = create.execute(
+            new CreateUserCommand("Ana", "Souza", "ana.souza", "ana@example.com", null, true, "ROLE_USER"));
+
+        final var createError = assertThrows(DomainException.class, () -> create.execute(new CreateUserCommand(
+            "Maria", "Alves", "MARIA.SOUZA", "maria.alves@example.com", null, true, "ROLE_USER")));
+        final var update = new UpdateUserUseCase(gateway, published::addAll);
+        final var updateError = assertThrows(DomainException.class, () -> update.execute(new UpdateUserCommand(
+            ana.id(), "Ana", "Souza", "maria.souza", "ana@example.com", null, true, "ROLE_USER")));
+
+        assertEquals("'login' is already taken", createError.getMessage());
+        assertEquals("'login' is already taken", updateError.getMessage());
+        assertEquals(2, new ListUsersUseCase(gateway).execute(new SearchQuery(0, 10, "", "firstName", "asc")).total());
+    }
+}
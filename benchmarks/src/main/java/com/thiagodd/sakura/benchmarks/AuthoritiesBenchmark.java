@@ -0,0 +1,61 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.user.Authorities;
+import com.thiagodd.sakura.domain.user.Authority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One authorization decision, "is this user an admin or a doctor", answered by splitting the stored string the way
+ * callers did before and by masking the parsed {@link Authorities}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthoritiesBenchmark {
+
+    private static final Authorities CLINICAL_OR_ADMIN = Authorities.of(Authority.ROLE_ADMIN, Authority.ROLE_DOCTOR);
+
+    private String stored;
+    private Authorities parsed;
+
+    @Setup
+    public void setUp() {
+        stored = "ROLE_USER,ROLE_NURSE,ROLE_DOCTOR";
+        parsed = Authorities.from(stored);
+    }
+
+    @Benchmark
+    public boolean stringCheck() {
+        for (final var name : stored.split(",")) {
+            final var trimmed = name.trim();
+            if (trimmed.equals("ROLE_ADMIN") || trimmed.equals("ROLE_DOCTOR")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean bitsetCheck() {
+        return parsed.hasAny(CLINICAL_OR_ADMIN);
+    }
+
+    @Benchmark
+    public boolean cachedParseAndCheck() {
+        return Authorities.from(stored).hasAny(CLINICAL_OR_ADMIN);
+    }
+}
@@ -0,0 +1,110 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.patient.DuplicateDetector;
+import com.thiagodd.sakura.domain.patient.DuplicatePair;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientMatch;
+import com.thiagodd.sakura.domain.patient.Sex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole-base deduplication on one thread and on the common pool, at two base sizes so the growth can be read off
+ * (linear work doubles the time when the base doubles; pairwise comparison would quadruple it), and the single
+ * admission lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DuplicateDetectionBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+        "Maria", "José", "Ana", "João", "Antônio", "Francisca", "Carlos", "Paulo", "Adriana", "Lucas",
+        "Luiz", "Juliana", "Márcia", "Fernanda", "Thiago", "Conceição", "Raimunda", "Sebastião", "Helena", "Felipe"
+    };
+    private static final String[] LAST_NAMES = {
+        "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+        "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa"
+    };
+
+    @Param({"50000", "100000"})
+    int patients;
+
+    private DuplicateDetector parallel;
+    private DuplicateDetector sequential;
+    private ForkJoinPool singleThread;
+    private Patient[] probes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new Random(42);
+        singleThread = new ForkJoinPool(1);
+        parallel = DuplicateDetector.create();
+        sequential = DuplicateDetector.create().on(singleThread);
+        probes = new Patient[1_024];
+        for (int i = 0; i < patients; i++) {
+            final var name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            final var dateOfBirth = LocalDate.of(1930, 1, 1).plusDays(random.nextInt(90 * 365));
+            final var patient = newPatient(name, dateOfBirth, "paciente" + i + "@example.com");
+            parallel.add(patient);
+            sequential.add(patient);
+            if (random.nextInt(20) == 0) {
+                final var copy = newPatient(name.replace("z", "s").replace("ção", "cao").replace("th", "t"),
+                    dateOfBirth, "paciente" + i + "@example.org");
+                parallel.add(copy);
+                sequential.add(copy);
+            }
+            if (i < probes.length) {
+                probes[i] = newPatient(name.toUpperCase(), dateOfBirth, "outro" + i + "@example.com");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        singleThread.shutdown();
+    }
+
+    @Benchmark
+    public List<DuplicatePair> findAllDuplicatesParallel() {
+        return parallel.findAllDuplicates();
+    }
+
+    @Benchmark
+    public List<DuplicatePair> findAllDuplicatesSequential() {
+        return sequential.findAllDuplicates();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<PatientMatch> findLikelyDuplicates() {
+        return parallel.findLikelyDuplicates(probes[ThreadLocalRandom.current().nextInt(probes.length)]);
+    }
+
+    private static Patient newPatient(final String name, final LocalDate dateOfBirth, final String email) {
+        return Patient.newPatient(name, null, dateOfBirth, email, null, true, Sex.UNKNOWN);
+    }
+}
@@ -0,0 +1,66 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.validation.Formats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class FormatsBenchmark {
+
+    private static final String EMAIL_REGEX = "(?:[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*|\"(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])*\")@(?:(?:[a-z0-9](?:[a-z0-9-]*[a-z0-9])?\\.)+[a-z0-9](?:[a-z0-9-]*[a-z0-9])?|\\[(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?|[a-z0-9-]*[a-z0-9]:(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])+)])";
+    private static final Pattern EMAIL = Pattern.compile(EMAIL_REGEX, Pattern.CASE_INSENSITIVE);
+    private static final Pattern LOGIN = Pattern.compile("[a-zA-Z0-9._-]+");
+
+    @Param({"joao.silva@example.com.br", "\"joao silva\"@[192.168.0.10]", "joao..silva@example"})
+    String email;
+
+    @Benchmark
+    public boolean emailScanner() {
+        return Formats.isEmail(email);
+    }
+
+    @Benchmark
+    public boolean emailPrecompiledRegex() {
+        return EMAIL.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean emailRegexCompiledPerCall() {
+        return Pattern.compile(EMAIL_REGEX, Pattern.CASE_INSENSITIVE).matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean loginScanner() {
+        return Formats.isLogin("maria.conceicao-01");
+    }
+
+    @Benchmark
+    public boolean loginPrecompiledRegex() {
+        return LOGIN.matcher("maria.conceicao-01").matches();
+    }
+
+    @Threads(1)
+    public static class SingleThreaded extends FormatsBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends FormatsBenchmark {
+    }
+}
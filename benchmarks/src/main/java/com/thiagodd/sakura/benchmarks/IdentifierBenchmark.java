@@ -0,0 +1,61 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.patient.PatientID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class IdentifierBenchmark {
+
+    private final PatientID left = PatientID.unique();
+    private final PatientID right = PatientID.from(left.getValue());
+
+    @Benchmark
+    public PatientID patientIdUnique() {
+        return PatientID.unique();
+    }
+
+    @Benchmark
+    public String patientIdUniqueAsString() {
+        return PatientID.unique().getValue();
+    }
+
+    @Benchmark
+    public String randomUUIDAsString() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public boolean patientIdEquals() {
+        return left.equals(right);
+    }
+
+    @Benchmark
+    public int patientIdHashCode() {
+        return right.hashCode();
+    }
+
+    @Threads(1)
+    public static class SingleThreaded extends IdentifierBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends IdentifierBenchmark {
+    }
+}
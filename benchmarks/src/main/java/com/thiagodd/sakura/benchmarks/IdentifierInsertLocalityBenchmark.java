@@ -0,0 +1,78 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.patient.PatientID;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts ids into a sorted map the way rows land in a clustered primary key. {@code rightmostInserts} counts
+ * inserts that go past the current greatest key, which is the append-only path of a B-tree: no page split in the
+ * middle of the index and the hot leaf page stays in the buffer pool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierInsertLocalityBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    String generator;
+
+    private TreeMap<String, Boolean> index;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Locality {
+        public long rightmostInserts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rightmostInserts = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        index = new TreeMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            index.put(next(), Boolean.TRUE);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int insert(final Locality locality) {
+        for (int i = 0; i < BATCH; i++) {
+            final var key = next();
+            if (key.compareTo(index.lastKey()) > 0) {
+                locality.rightmostInserts++;
+            }
+            index.put(key, Boolean.TRUE);
+        }
+        return index.size();
+    }
+
+    private String next() {
+        return "RANDOM_V4".equals(generator) ? UUID.randomUUID().toString() : PatientID.unique().getValue();
+    }
+}
@@ -0,0 +1,92 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.infrastructure.patient.JdbcPatientGateway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second written to an in-memory H2 database in MySQL mode, one {@code create} per row versus
+ * {@code createAll} with multi-row batched inserts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcPatientBenchmark {
+
+    private static final int ROWS = 5_000;
+
+    @Param({"100", "1000"})
+    int batchSize;
+
+    private JdbcDataSource dataSource;
+    private JdbcPatientGateway gateway;
+    private List<Patient> patients;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() throws IOException, SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:patients;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1");
+        try (var schema = JdbcPatientGateway.class.getResourceAsStream("/db/schema.sql");
+             var connection = dataSource.getConnection();
+             var statement = connection.createStatement()) {
+            final var script = new String(schema.readAllBytes(), StandardCharsets.UTF_8).replaceAll("(?m)^--.*$", "");
+            for (final var sql : script.split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+        gateway = new JdbcPatientGateway(dataSource).batchSize(batchSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpRows() throws SQLException {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE patients");
+        }
+        patients = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            patients.add(Patient.newPatient("Paciente " + i, null, LocalDate.of(1990, 1, 1),
+                "paciente%d@example.com".formatted(i), null, true, Sex.UNKNOWN));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void createOneAtATime() {
+        for (final var patient : patients) {
+            gateway.create(patient);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Patient> createAll() {
+        return gateway.createAll(patients);
+    }
+}
@@ -0,0 +1,76 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class PaginationBenchmark {
+
+    @Param({"10", "500"})
+    int perPage;
+
+    private Pagination<Integer> page;
+
+    @Setup
+    public void setUp() {
+        final var items = new ArrayList<Integer>(perPage);
+        for (int i = 0; i < perPage; i++) {
+            items.add(i);
+        }
+        page = new Pagination<>(0, perPage, 10_000, items);
+    }
+
+    @Benchmark
+    public Pagination<String> map() {
+        return page.map(Object::toString);
+    }
+
+    @Benchmark
+    public void mapChainEagerCopy(final Blackhole blackhole) {
+        final List<Integer> doubled = page.items().stream().map(i -> i * 2).toList();
+        final List<Long> widened = doubled.stream().map(Integer::longValue).toList();
+        final List<String> rendered = widened.stream().map(Object::toString).toList();
+        rendered.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void mapChainLazyView(final Blackhole blackhole) {
+        page.map(i -> i * 2).map(Integer::longValue).map(Object::toString).writeTo(blackhole::consume);
+    }
+
+    @Benchmark
+    public void mapChainMemoizedReadTwice(final Blackhole blackhole) {
+        final var rendered = page.mapMemoized(i -> Integer.toString(i * 2));
+        rendered.writeTo(blackhole::consume);
+        rendered.writeTo(blackhole::consume);
+    }
+
+    @Threads(1)
+    public static class SingleThreaded extends PaginationBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends PaginationBenchmark {
+    }
+}
@@ -0,0 +1,73 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class PatientBenchmark {
+
+    private Patient patient;
+
+    @Setup
+    public void setUp() {
+        patient = newPatient();
+    }
+
+    @Benchmark
+    public Patient newPatient() {
+        return Patient.newPatient(
+            "João da Silva",
+            "João",
+            LocalDate.of(1990, 5, 15),
+            "joao.silva@example.com",
+            "Paciente com histórico de alergia a penicilina.",
+            true,
+            Sex.MALE
+        );
+    }
+
+    @Benchmark
+    public Notification validateWithNotification() {
+        final var notification = Notification.create();
+        patient.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Patient copyWith() {
+        return Patient.with(patient);
+    }
+
+    @Benchmark
+    public Patient copyClone() {
+        return patient.clone();
+    }
+
+    @Threads(1)
+    public static class SingleThreaded extends PatientBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends PatientBenchmark {
+    }
+}
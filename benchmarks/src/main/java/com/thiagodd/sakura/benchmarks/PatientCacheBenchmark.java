@@ -0,0 +1,93 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.infrastructure.patient.CachingPatientGateway;
+import com.thiagodd.sakura.infrastructure.patient.InMemoryPatientGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class PatientCacheBenchmark {
+
+    private static final int SAMPLES = 1 << 16;
+    private static final long ROUND_TRIP_TOKENS = 2_000;
+
+    @Param({"100000"})
+    int patients;
+
+    @Param({"1000", "10000"})
+    int cacheSize;
+
+    private PatientID[] accesses;
+    private InMemoryPatientGateway database;
+    private CachingPatientGateway cached;
+
+    @Setup
+    public void setUp() {
+        database = new InMemoryPatientGateway() {
+            @Override
+            public Optional<Patient> findById(final PatientID patientID) {
+                Blackhole.consumeCPU(ROUND_TRIP_TOKENS);
+                return super.findById(patientID);
+            }
+        };
+        final var ids = new PatientID[patients];
+        for (int i = 0; i < patients; i++) {
+            ids[i] = database.create(Patient.newPatient("Paciente " + i, null, LocalDate.of(1990, 1, 1),
+                "paciente%d@example.com".formatted(i), null, true, Sex.UNKNOWN)).getId();
+        }
+        final var random = new Random(42);
+        accesses = new PatientID[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            final var rank = (int) Math.min(patients - 1, Math.floor(Math.pow(patients, random.nextDouble())) - 1);
+            accesses[i] = ids[rank];
+        }
+        cached = new CachingPatientGateway(database, cacheSize);
+    }
+
+    @Benchmark
+    public Optional<Patient> findByIdUncached() {
+        return database.findById(next());
+    }
+
+    @Benchmark
+    public Optional<Patient> findByIdCached() {
+        return cached.findById(next());
+    }
+
+    private PatientID next() {
+        return accesses[ThreadLocalRandom.current().nextInt(SAMPLES)];
+    }
+
+    @Threads(1)
+    public static class SingleThreaded extends PatientCacheBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends PatientCacheBenchmark {
+    }
+}
@@ -0,0 +1,126 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientSummary;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.infrastructure.patient.JdbcPatientGateway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One listing page read from an in-memory H2 database, hydrating whole patients versus selecting only the
+ * {@link PatientSummary} columns. {@code columnBytes} is the size of the column values each page carries, which is
+ * what crosses the wire to a real server; run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} for the
+ * heap each page costs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatientProjectionBenchmark {
+
+    private static final int ROWS = 2_000;
+    private static final int ID_BYTES = 16;
+    private static final int DATE_BYTES = 4;
+    private static final int TIMESTAMP_BYTES = 8;
+
+    @Param({"50"})
+    int perPage;
+
+    @Param({"0", "3000"})
+    int observationLength;
+
+    private JdbcPatientGateway gateway;
+    private int page;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Transfer {
+        public long columnBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            columnBytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        final var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:projection%d;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1"
+            .formatted(observationLength));
+        try (var schema = JdbcPatientGateway.class.getResourceAsStream("/db/schema.sql");
+             var connection = dataSource.getConnection();
+             var statement = connection.createStatement()) {
+            final var script = new String(schema.readAllBytes(), StandardCharsets.UTF_8).replaceAll("(?m)^--.*$", "");
+            for (final var sql : script.split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+            statement.execute("TRUNCATE TABLE patients");
+        }
+        gateway = new JdbcPatientGateway(dataSource);
+
+        final var observation = observationLength == 0 ? null : "Histórico clínico. ".repeat(observationLength / 19 + 1)
+            .substring(0, observationLength);
+        final var patients = new ArrayList<Patient>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            patients.add(Patient.newPatient("Paciente %04d".formatted(i), "Social " + i, LocalDate.of(1990, 1, 1),
+                "paciente%d@example.com".formatted(i), observation, true, Sex.UNKNOWN));
+        }
+        gateway.createAll(patients);
+    }
+
+    @Benchmark
+    public Pagination<Patient> fullPage(final Transfer transfer) {
+        final var result = gateway.findAll(nextQuery());
+        for (final var patient : result.items()) {
+            transfer.columnBytes += ID_BYTES + bytes(patient.getName()) + bytes(patient.getSocialName()) + DATE_BYTES
+                + bytes(patient.getEmail()) + bytes(patient.getObservation()) + 1
+                + bytes(patient.getSex() == null ? null : patient.getSex().name()) + 3 * TIMESTAMP_BYTES + Long.BYTES;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Pagination<PatientSummary> summaryPage(final Transfer transfer) {
+        final var result = gateway.findAllSummaries(nextQuery());
+        for (final var summary : result.items()) {
+            transfer.columnBytes += ID_BYTES + bytes(summary.name()) + bytes(summary.socialName()) + DATE_BYTES + 1;
+        }
+        return result;
+    }
+
+    private SearchQuery nextQuery() {
+        page = (page + 1) % (ROWS / perPage);
+        return new SearchQuery(page, perPage, null, "name", "asc");
+    }
+
+    private static int bytes(final String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,69 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.infrastructure.patient.InMemoryPatientGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PatientSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+        "José", "Maria", "Ana", "João", "Francisca", "Antônio", "Carlos", "Paulo", "Pedro", "Lucas", "Luiz", "Marcos",
+        "Luís", "Gabriel", "Rafael", "Conceição", "Raimunda", "Sebastião", "Tereza", "Beatriz", "Iracema", "Jurandir"
+    };
+    private static final String[] LAST_NAMES = {
+        "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes", "Costa",
+        "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa", "Rocha",
+        "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado", "Mendes", "Freitas", "Guimarães"
+    };
+
+    @Param({"100000", "1000000"})
+    int patients;
+
+    @Param({"conceicao nascimento freitas", "jose guimaraes", "sebastiao"})
+    String terms;
+
+    private InMemoryPatientGateway gateway;
+
+    @Setup
+    public void setUp() {
+        final var random = new Random(42);
+        gateway = new InMemoryPatientGateway();
+        for (int i = 0; i < patients; i++) {
+            final var firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            final var lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            final var name = firstName + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + lastName;
+            final var email = "%s.%s%d@example.com".formatted(firstName, lastName, i).toLowerCase();
+            gateway.create(Patient.newPatient(name, random.nextInt(5) == 0 ? firstName : null,
+                LocalDate.of(1940 + random.nextInt(80), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                email, null, true, Sex.UNKNOWN));
+        }
+    }
+
+    @Benchmark
+    public Pagination<Patient> findAllByTerms() {
+        return gateway.findAll(new SearchQuery(0, 20, terms, "name", "asc"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.application.concurrency.UseCaseExecutor;
+import com.thiagodd.sakura.application.patient.GetPatientByIdUseCase;
+import com.thiagodd.sakura.application.patient.PatientOutput;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.infrastructure.patient.InMemoryPatientGateway;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for {@link UseCaseExecutor}: each invocation starts {@code concurrentCalls} lookups at once against a
+ * gateway that blocks for {@code latencyMillis}, as a database round trip would, and waits for all of them. The
+ * {@code peakPlatformThreads} counter is the JVM peak thread count during the iteration; with virtual threads it
+ * stays flat however many calls are in flight, while the platform pool can only overlap as many calls as it has
+ * threads. On a JVM without virtual threads both variants run on platform threads, so there the benchmark cannot
+ * show tens of thousands of blocking calls in flight: at most {@code PLATFORM_THREADS} overlap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UseCaseExecutorBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"10000", "50000"})
+    int concurrentCalls;
+
+    @Param({"20"})
+    int latencyMillis;
+
+    @Param({"virtual", "platform"})
+    String threads;
+
+    private UseCaseExecutor executor;
+    private GetPatientByIdUseCase getPatientById;
+    private String id;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PlatformThreads {
+        public long peakPlatformThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+            peakPlatformThreads = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        final var gateway = new InMemoryPatientGateway() {
+            @Override
+            public Optional<Patient> findById(final PatientID patientID) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findById(patientID);
+            }
+        };
+        id = gateway.create(Patient.newPatient("João da Silva", null, LocalDate.of(1990, 5, 15),
+            "joao@example.com", null, true, Sex.MALE)).getId().getValue();
+        executor = ("virtual".equals(threads) ? UseCaseExecutor.create() : UseCaseExecutor.withPlatformThreads(PLATFORM_THREADS))
+            .timeout(Duration.ofMinutes(5));
+        getPatientById = new GetPatientByIdUseCase(gateway);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public int getPatientById(final PlatformThreads platformThreads) {
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<PatientOutput>[] calls = new CompletableFuture[concurrentCalls];
+        for (int i = 0; i < concurrentCalls; i++) {
+            calls[i] = executor.submit(getPatientById, id);
+        }
+        CompletableFuture.allOf(calls).join();
+        platformThreads.peakPlatformThreads = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+        return calls.length;
+    }
+}
@@ -0,0 +1,56 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.user.User;
+import com.thiagodd.sakura.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class UserBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.newUser(
+            "Maria",
+            "Conceição",
+            "maria.conceicao",
+            "maria.conceicao@example.com",
+            "https://example.com/maria.png",
+            true,
+            "ROLE_USER"
+        );
+    }
+
+    @Benchmark
+    public Notification validateWithNotification() {
+        final var notification = Notification.create();
+        user.validate(notification);
+        return notification;
+    }
+
+    @Threads(1)
+    public static class SingleThreaded extends UserBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class MultiThreaded extends UserBenchmark {
+    }
+}
@@ -0,0 +1,64 @@
+package com.thiagodd.sakura.benchmarks;
+
+import com.thiagodd.sakura.domain.user.User;
+import com.thiagodd.sakura.infrastructure.user.InMemoryUserGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login lookups against a populated user gateway: {@code findByLogin} hits with the login typed in another case, and
+ * {@code existsByLogin} for free logins, which the Bloom filter answers without looking at the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class UserLookupBenchmark {
+
+    @Param({"10000", "100000"})
+    int users;
+
+    private InMemoryUserGateway gateway;
+    private String[] knownLogins;
+    private String[] freeLogins;
+
+    @Setup
+    public void setUp() {
+        gateway = new InMemoryUserGateway(users);
+        knownLogins = new String[users];
+        freeLogins = new String[users];
+        for (int i = 0; i < users; i++) {
+            final var login = "usuario." + i;
+            gateway.create(User.newUser("Maria", "Souza", login, login + "@example.com", null, true, "ROLE_USER"));
+            knownLogins[i] = login.toUpperCase();
+            freeLogins[i] = "livre." + i;
+        }
+    }
+
+    @Benchmark
+    public Optional<User> findByLoginHit() {
+        return gateway.findByLogin(knownLogins[ThreadLocalRandom.current().nextInt(users)]);
+    }
+
+    @Benchmark
+    public boolean existsByLoginMiss() {
+        return gateway.existsByLogin(freeLogins[ThreadLocalRandom.current().nextInt(users)]);
+    }
+}
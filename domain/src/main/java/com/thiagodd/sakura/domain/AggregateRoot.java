@@ -1,8 +1,87 @@
 package com.thiagodd.sakura.domain;
 
+import com.thiagodd.sakura.domain.events.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private final long version;
+    private List<DomainEvent> events;
+    private long changes;
+
     protected AggregateRoot(ID id) {
+        this(id, 0);
+    }
+
+    protected AggregateRoot(ID id, long version) {
         super(id);
+        if (version < 0) {
+            throw new IllegalArgumentException("'version' should not be negative");
+        }
+        this.version = version;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    protected void registerEvent(final DomainEvent event) {
+        Objects.requireNonNull(event, "'event' should not be null");
+        if (events == null) {
+            events = new ArrayList<>(2);
+        }
+        events.add(event);
+    }
+
+    /**
+     * Returns the events recorded since the last call, oldest first, and forgets them. Call it after the aggregate
+     * has been persisted so that nothing is published for a change that was rolled back.
+     */
+    public List<DomainEvent> pullEvents() {
+        final var pulled = events;
+        events = null;
+        return pulled == null ? List.of() : Collections.unmodifiableList(pulled);
+    }
+
+    /**
+     * Whether any field changed since this instance was {@linkplain #markClean() marked clean}. A new aggregate, or one
+     * built from field values with a {@code with(...)} factory, has every field changed, and a copy keeps the changes
+     * of its source, so only what a gateway loaded or wrote can skip a write for being untouched.
+     */
+    public boolean hasChanges() {
+        return changes != 0;
+    }
+
+    /** Forgets the changed fields; gateways call it once this instance matches what is stored. */
+    public void markClean() {
+        changes = 0;
+    }
+
+    /** Records a field, identified by its enum constant, as changed. Always returns {@code true}. */
+    protected boolean markChanged(final Enum<?> field) {
+        changes |= 1L << field.ordinal();
+        return true;
+    }
+
+    protected void copyChanges(final AggregateRoot<ID> source) {
+        changes = source.changes;
+    }
+
+    protected boolean isChanged(final Enum<?> field) {
+        return (changes & 1L << field.ordinal()) != 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected AggregateRoot<ID> clone() throws CloneNotSupportedException {
+        final var copy = (AggregateRoot<ID>) super.clone();
+        if (events != null) {
+            copy.events = new ArrayList<>(events);
+        }
+        return copy;
     }
 }
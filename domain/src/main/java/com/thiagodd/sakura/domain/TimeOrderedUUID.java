@@ -0,0 +1,42 @@
+package com.thiagodd.sakura.domain;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 (RFC 9562) bits: 48-bit Unix epoch milliseconds, version, a 12-bit sequence that keeps ids generated
+ * in the same millisecond ordered, variant and 62 bits from {@link ThreadLocalRandom}. Lock-free; when the
+ * sequence overflows the timestamp is advanced by one millisecond instead of waiting for the clock.
+ */
+public final class TimeOrderedUUID {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUUID() {
+    }
+
+    public static long nextMostSignificantBits() {
+        long previous;
+        long next;
+        do {
+            previous = LAST.get();
+            next = System.currentTimeMillis() << SEQUENCE_BITS;
+            if (next <= previous) {
+                next = previous + 1;
+            }
+        } while (!LAST.compareAndSet(previous, next));
+
+        final long timestamp = next >>> SEQUENCE_BITS;
+        final long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return timestamp << 16 | VERSION | sequence;
+    }
+
+    public static long nextLeastSignificantBits() {
+        return ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+    }
+}
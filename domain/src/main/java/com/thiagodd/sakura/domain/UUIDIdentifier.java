@@ -0,0 +1,85 @@
+package com.thiagodd.sakura.domain;
+
+import java.util.UUID;
+
+public abstract class UUIDIdentifier extends Identifier implements Comparable<UUIDIdentifier> {
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+
+    private String value;
+
+    protected UUIDIdentifier(final long mostSignificantBits, final long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+    }
+
+    /**
+     * The UUID in {@code value} when it has the canonical 8-4-4-4-12 form of ASCII hex digits, in any case; null
+     * otherwise, including for digits of other scripts that {@link UUID#fromString(String)} would reject.
+     */
+    protected static UUID parse(final String value) {
+        if (value.length() != 36) {
+            return null;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            final boolean valid = i == 8 || i == 13 || i == 18 || i == 23 ? c == '-' : isHexDigit(c);
+            if (!valid) {
+                return null;
+            }
+        }
+        return UUID.fromString(value);
+    }
+
+    private static boolean isHexDigit(final char c) {
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+    }
+
+    @Override
+    public String getValue() {
+        var value = this.value;
+        if (value == null) {
+            value = toUUID().toString();
+            this.value = value;
+        }
+        return value;
+    }
+
+    public UUID toUUID() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    @Override
+    public int compareTo(final UUIDIdentifier other) {
+        final int result = Long.compareUnsigned(mostSignificantBits, other.mostSignificantBits);
+        return result != 0 ? result : Long.compareUnsigned(leastSignificantBits, other.leastSignificantBits);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final var that = (UUIDIdentifier) o;
+        return mostSignificantBits == that.mostSignificantBits && leastSignificantBits == that.leastSignificantBits;
+    }
+
+    @Override
+    public int hashCode() {
+        final long hash = mostSignificantBits ^ leastSignificantBits;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
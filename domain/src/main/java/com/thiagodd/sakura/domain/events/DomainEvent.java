@@ -0,0 +1,16 @@
+package com.thiagodd.sakura.domain.events;
+
+import com.thiagodd.sakura.domain.Identifier;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to an aggregate. Events are recorded by the aggregate while it changes and pulled with
+ * {@link com.thiagodd.sakura.domain.AggregateRoot#pullEvents()} once the change is persisted.
+ */
+public interface DomainEvent {
+
+    Identifier aggregateId();
+
+    Instant occurredOn();
+}
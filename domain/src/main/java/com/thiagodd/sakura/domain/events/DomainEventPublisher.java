@@ -0,0 +1,14 @@
+package com.thiagodd.sakura.domain.events;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface DomainEventPublisher {
+
+    void publish(List<? extends DomainEvent> events);
+
+    static DomainEventPublisher discarding() {
+        return events -> {
+        };
+    }
+}
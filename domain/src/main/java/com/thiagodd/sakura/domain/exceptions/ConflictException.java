@@ -0,0 +1,26 @@
+package com.thiagodd.sakura.domain.exceptions;
+
+import com.thiagodd.sakura.domain.AggregateRoot;
+import com.thiagodd.sakura.domain.Identifier;
+import com.thiagodd.sakura.domain.validation.Error;
+
+import java.util.List;
+
+public class ConflictException extends DomainException {
+
+    protected ConflictException(String message, List<Error> errors) {
+        super(message, errors);
+    }
+
+    public static ConflictException with(
+        final Class<? extends AggregateRoot<?>> aggregate,
+        final Identifier id,
+        final long expectedVersion,
+        final long actualVersion
+    ) {
+        final var errorMessage = String.format("%s with ID %s was modified concurrently (expected version %d but was %d)",
+            aggregate.getSimpleName(), id.getValue(), expectedVersion, actualVersion);
+
+        return new ConflictException(errorMessage, List.of(new Error(errorMessage)));
+    }
+}
@@ -14,7 +14,11 @@ public class NotFoundException extends DomainException {
     }
 
     public static NotFoundException with(final Class<? extends AggregateRoot<?>> aggregate, final Identifier id){
-        final var errorMessage = String.format("%s with ID %s was not found", aggregate.getSimpleName(), id.getValue());
+        return with(aggregate, id.getValue());
+    }
+
+    public static NotFoundException with(final Class<? extends AggregateRoot<?>> aggregate, final String id){
+        final var errorMessage = String.format("%s with ID %s was not found", aggregate.getSimpleName(), id);
 
         return new NotFoundException(errorMessage, Collections.emptyList());
     }
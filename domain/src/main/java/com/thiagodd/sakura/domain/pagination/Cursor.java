@@ -0,0 +1,77 @@
+package com.thiagodd.sakura.domain.pagination;
+
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.validation.Error;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position after the last item of a keyset page: the sort it was produced for and the sort key and id of that
+ * item. Travels to clients as an opaque URL-safe string.
+ */
+public record Cursor(
+    String sort,
+    String direction,
+    String key,
+    String id
+) {
+    private static final int VERSION = 1;
+
+    public Cursor {
+        Objects.requireNonNull(sort, "'sort' should not be null");
+        Objects.requireNonNull(direction, "'direction' should not be null");
+        Objects.requireNonNull(id, "'id' should not be null");
+    }
+
+    public String encode() {
+        final var bytes = new ByteArrayOutputStream(64);
+        try (final var output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            output.writeUTF(sort);
+            output.writeUTF(direction);
+            output.writeBoolean(key != null);
+            if (key != null) {
+                output.writeUTF(key);
+            }
+            output.writeUTF(id);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public static Cursor decode(final String value) {
+        try (final var input = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(value)))) {
+            if (input.readByte() != VERSION) {
+                throw invalid();
+            }
+            final var sort = input.readUTF();
+            final var direction = input.readUTF();
+            final var key = input.readBoolean() ? input.readUTF() : null;
+            final var id = input.readUTF();
+            if (input.available() > 0) {
+                throw invalid();
+            }
+            return new Cursor(sort, direction, key, id);
+        } catch (final IOException | IllegalArgumentException exception) {
+            throw invalid();
+        }
+    }
+
+    public void requireMatches(final String sort, final String direction) {
+        if (!this.sort.equals(sort) || !this.direction.equals(direction)) {
+            throw DomainException.with(new Error("'cursor' was created for a different sort or direction"));
+        }
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
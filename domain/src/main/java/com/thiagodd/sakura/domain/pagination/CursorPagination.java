@@ -0,0 +1,23 @@
+package com.thiagodd.sakura.domain.pagination;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public record CursorPagination<T>(
+    int perPage,
+    String nextCursor,
+    List<T> items
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPagination<R> map(final Function<T, R> mapper) {
+        return new CursorPagination<>(perPage(), nextCursor(), MappedList.of(this.items, mapper));
+    }
+
+    public void writeTo(final Consumer<? super T> sink) {
+        this.items.forEach(sink);
+    }
+}
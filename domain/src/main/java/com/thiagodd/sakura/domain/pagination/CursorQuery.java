@@ -0,0 +1,17 @@
+package com.thiagodd.sakura.domain.pagination;
+
+public record CursorQuery(
+    String cursor,
+    int perPage,
+    String terms,
+    String sort,
+    String direction
+) {
+    public static CursorQuery first(final int perPage, final String terms, final String sort, final String direction) {
+        return new CursorQuery(null, perPage, terms, sort, direction);
+    }
+
+    public CursorQuery next(final String cursor) {
+        return new CursorQuery(cursor, perPage, terms, sort, direction);
+    }
+}
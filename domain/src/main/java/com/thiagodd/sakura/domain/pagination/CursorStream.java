@@ -0,0 +1,58 @@
+package com.thiagodd.sakura.domain.pagination;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sequential stream over keyset pages. A page is only fetched when the consumer asks for an element past the
+ * current one, so memory stays bounded by {@code perPage}; closing the stream stops any further fetch.
+ */
+public final class CursorStream<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final Function<CursorQuery, CursorPagination<T>> fetch;
+    private CursorQuery next;
+    private Iterator<T> current;
+    private volatile boolean closed;
+
+    private CursorStream(final CursorQuery first, final Function<CursorQuery, CursorPagination<T>> fetch) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.next = first;
+        this.fetch = fetch;
+    }
+
+    public static <T> Stream<T> of(final CursorQuery first, final Function<CursorQuery, CursorPagination<T>> fetch) {
+        if (first.perPage() <= 0) {
+            throw new IllegalArgumentException("'perPage' should be greater than zero");
+        }
+        final var spliterator = new CursorStream<>(first, fetch);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        while (!closed) {
+            if (current != null && current.hasNext()) {
+                action.accept(current.next());
+                return true;
+            }
+            if (next == null) {
+                return false;
+            }
+            final var page = fetch.apply(next);
+            current = page.items().iterator();
+            next = page.hasNext() ? next.next(page.nextCursor()) : null;
+        }
+        return false;
+    }
+
+    private void close() {
+        closed = true;
+        current = null;
+        next = null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.thiagodd.sakura.domain.pagination;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+final class MappedList<S, T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<S> source;
+    private final Function<? super S, ? extends T> mapper;
+
+    private MappedList(final List<S> source, final Function<? super S, ? extends T> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S, T> List<T> of(final List<S> source, final Function<? super S, ? extends T> mapper) {
+        if (source instanceof MappedList<?, ?> mapped) {
+            return fuse((MappedList<Object, S>) mapped, mapper);
+        }
+        return new MappedList<>(source instanceof RandomAccess ? source : new ArrayList<>(source), mapper);
+    }
+
+    private static <R, S, T> List<T> fuse(final MappedList<R, S> mapped, final Function<? super S, ? extends T> mapper) {
+        final Function<? super R, ? extends S> first = mapped.mapper;
+        return new MappedList<R, T>(mapped.source, value -> mapper.apply(first.apply(value)));
+    }
+
+    @Override
+    public T get(final int index) {
+        return mapper.apply(source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        for (int i = 0, size = source.size(); i < size; i++) {
+            action.accept(mapper.apply(source.get(i)));
+        }
+    }
+}
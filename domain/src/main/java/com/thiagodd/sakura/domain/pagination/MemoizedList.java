@@ -0,0 +1,40 @@
+package com.thiagodd.sakura.domain.pagination;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+final class MemoizedList<S, T> extends AbstractList<T> implements RandomAccess {
+
+    private static final Object PENDING = new Object();
+
+    private final List<S> source;
+    private final Function<? super S, ? extends T> mapper;
+    private final Object[] values;
+
+    MemoizedList(final List<S> source, final Function<? super S, ? extends T> mapper) {
+        this.source = source instanceof RandomAccess ? source : new ArrayList<>(source);
+        this.mapper = mapper;
+        this.values = new Object[this.source.size()];
+        Arrays.fill(values, PENDING);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        var value = values[index];
+        if (value == PENDING) {
+            value = mapper.apply(source.get(index));
+            values[index] = value;
+        }
+        return (T) value;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+}
@@ -1,6 +1,7 @@
 package com.thiagodd.sakura.domain.pagination;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public record Pagination<T>(
@@ -9,9 +10,22 @@ public record Pagination<T>(
     long total,
     List<T> items
 ) {
+    /**
+     * Returns a page whose items are a read-only view over this page: the mapper runs every time an element is
+     * read, and mapping an already mapped page composes both functions over the original items instead of copying.
+     */
     public <R> Pagination<R> map(final Function<T, R> mapper){
-        final var newList = this.items.stream().map(mapper).toList();
+        return new Pagination<>(currentPage(), perPage(), total(), MappedList.of(this.items, mapper));
+    }
+
+    /**
+     * Like {@link #map(Function)}, but each element is mapped at most once, on first access, and then reused.
+     */
+    public <R> Pagination<R> mapMemoized(final Function<T, R> mapper){
+        return new Pagination<>(currentPage(), perPage(), total(), new MemoizedList<>(this.items, mapper));
+    }
 
-        return new Pagination<>(currentPage(), perPage(), total(), newList);
+    public void writeTo(final Consumer<? super T> sink){
+        this.items.forEach(sink);
     }
 }
@@ -0,0 +1,450 @@
+package com.thiagodd.sakura.domain.patient;
+
+import com.thiagodd.sakura.domain.search.PhoneticKey;
+import com.thiagodd.sakura.domain.search.SearchText;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Finds patients registered more than once. Every patient is filed under a few blocking keys: the
+ * {@linkplain PhoneticKey phonetic key} of the first and last words of its name and of its social name, its date of
+ * birth and its email local part. Only patients that share a block are compared, which keeps the work proportional
+ * to the base instead of its square; blocks larger than {@link #maxBlockSize(int)} are too common to tell anyone
+ * apart and are skipped. A pair scores the best name similarity (Jaro-Winkler on folded text, name and social name
+ * compared crosswise), the date of birth and the email local part, weighted, over the fields both sides have.
+ * {@link #findAllDuplicates()} scores the blocks in parallel and reports each pair once, from the first block the
+ * two patients share.
+ */
+public final class DuplicateDetector {
+
+    private static final double DEFAULT_THRESHOLD = 0.8;
+    private static final int DEFAULT_MAX_BLOCK_SIZE = 1_000;
+    private static final int BLOCKS_PER_TASK = 256;
+
+    private static final double NAME_WEIGHT = 0.55;
+    private static final double BIRTH_WEIGHT = 0.30;
+    private static final double EMAIL_WEIGHT = 0.15;
+    private static final double PHONETIC_NAME_SCORE = 0.95;
+
+    private static final Comparator<PatientMatch> BY_SCORE =
+        Comparator.comparingDouble(PatientMatch::score).reversed().thenComparing(PatientMatch::id);
+    private static final Comparator<DuplicatePair> PAIRS_BY_SCORE = Comparator.comparingDouble(DuplicatePair::score)
+        .reversed()
+        .thenComparing(DuplicatePair::first)
+        .thenComparing(DuplicatePair::second);
+
+    private record Entry(
+        PatientID id,
+        String[] names,
+        String[] phoneticNames,
+        LocalDate dateOfBirth,
+        String emailLocal,
+        String[] blocks
+    ) {
+    }
+
+    private record Block(String key, PatientID[] ids) {
+    }
+
+    private final Map<PatientID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<PatientID>> blocks = new ConcurrentHashMap<>();
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private double threshold = DEFAULT_THRESHOLD;
+    private int maxBlockSize = DEFAULT_MAX_BLOCK_SIZE;
+
+    private DuplicateDetector() {
+    }
+
+    public static DuplicateDetector create() {
+        return new DuplicateDetector();
+    }
+
+    /** Lowest score, between 0 and 1, reported as a likely duplicate; defaults to 0.8. */
+    public DuplicateDetector threshold(final double threshold) {
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("'threshold' should be greater than zero and at most one");
+        }
+        this.threshold = threshold;
+        return this;
+    }
+
+    public DuplicateDetector maxBlockSize(final int maxBlockSize) {
+        if (maxBlockSize < 2) {
+            throw new IllegalArgumentException("'maxBlockSize' should be at least two");
+        }
+        this.maxBlockSize = maxBlockSize;
+        return this;
+    }
+
+    public DuplicateDetector on(final ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "'pool' should not be null");
+        return this;
+    }
+
+    /** Files the patient under its blocking keys, replacing what was filed for the same id. */
+    public DuplicateDetector add(final Patient patient) {
+        final var entry = entryOf(patient);
+        entries.compute(entry.id(), (id, current) -> {
+            if (current != null) {
+                unlink(current);
+            }
+            link(entry);
+            return entry;
+        });
+        return this;
+    }
+
+    public DuplicateDetector addAll(final Collection<Patient> patients) {
+        patients.forEach(this::add);
+        return this;
+    }
+
+    public void remove(final PatientID id) {
+        entries.computeIfPresent(id, (key, current) -> {
+            unlink(current);
+            return null;
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /** Filed patients that are likely the same person as {@code patient}, best match first, itself left out. */
+    public List<PatientMatch> findLikelyDuplicates(final Patient patient) {
+        final var probe = entryOf(patient);
+        final var seen = new HashSet<PatientID>();
+        final var matches = new ArrayList<PatientMatch>();
+        for (final var block : probe.blocks()) {
+            final var ids = blocks.get(block);
+            if (ids == null || ids.size() > maxBlockSize) {
+                continue;
+            }
+            for (final var id : ids) {
+                if (id.equals(probe.id()) || !seen.add(id)) {
+                    continue;
+                }
+                final var candidate = entries.get(id);
+                if (candidate == null) {
+                    continue;
+                }
+                final var score = score(probe, candidate);
+                if (score >= threshold) {
+                    matches.add(new PatientMatch(id, score));
+                }
+            }
+        }
+        matches.sort(BY_SCORE);
+        return matches;
+    }
+
+    /**
+     * Patients among {@code candidates} that are likely the same person as {@code patient}, best match first, itself
+     * left out, without filing any of them. Candidates that share no blocking key with {@code patient} are not
+     * scored; block sizes are unknown here, so no block is skipped for being too common.
+     */
+    public List<PatientMatch> findLikelyDuplicates(final Patient patient, final Stream<Patient> candidates) {
+        final var probe = entryOf(patient);
+        final var matches = new ArrayList<PatientMatch>();
+        candidates.forEach(candidate -> {
+            if (candidate.getId().equals(probe.id())) {
+                return;
+            }
+            final var entry = entryOf(candidate);
+            if (!sharesBlock(probe, entry)) {
+                return;
+            }
+            final var score = score(probe, entry);
+            if (score >= threshold) {
+                matches.add(new PatientMatch(entry.id(), score));
+            }
+        });
+        matches.sort(BY_SCORE);
+        return matches;
+    }
+
+    /**
+     * The phonetic blocking key of a name: the {@linkplain PhoneticKey key} of its first and last words, or of its
+     * only word; {@code null} when it has no word to key.
+     */
+    public static String nameKeyOf(final String name) {
+        return nameKeyOf(PhoneticKey.words(SearchText.normalize(name)));
+    }
+
+    /** The part before {@code @}, lower case, without dots or a {@code +tag}, since mail servers ignore those. */
+    public static String emailLocalOf(final String email) {
+        if (email == null) {
+            return null;
+        }
+        var local = email.trim().toLowerCase(Locale.ROOT);
+        final int at = local.indexOf('@');
+        if (at >= 0) {
+            local = local.substring(0, at);
+        }
+        final int tag = local.indexOf('+');
+        if (tag >= 0) {
+            local = local.substring(0, tag);
+        }
+        local = local.replace(".", "");
+        return local.isEmpty() ? null : local;
+    }
+
+    /** Every likely duplicate pair among the filed patients, best match first. */
+    public List<DuplicatePair> findAllDuplicates() {
+        final var scored = new ArrayList<Block>();
+        blocks.forEach((key, ids) -> {
+            final var snapshot = ids.toArray(PatientID[]::new);
+            if (snapshot.length > 1 && snapshot.length <= maxBlockSize) {
+                scored.add(new Block(key, snapshot));
+            }
+        });
+        final var eligible = new HashSet<String>(Math.max(16, scored.size() * 4 / 3 + 1));
+        scored.forEach(block -> eligible.add(block.key()));
+
+        final var pairs = pool.invoke(new ScoreBlocks(scored.toArray(Block[]::new), eligible, 0, scored.size()));
+        pairs.sort(PAIRS_BY_SCORE);
+        return pairs;
+    }
+
+    private final class ScoreBlocks extends RecursiveTask<List<DuplicatePair>> {
+
+        private final Block[] scored;
+        private final Set<String> eligible;
+        private final int from;
+        private final int to;
+
+        private ScoreBlocks(final Block[] scored, final Set<String> eligible, final int from, final int to) {
+            this.scored = scored;
+            this.eligible = eligible;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<DuplicatePair> compute() {
+            if (to - from > BLOCKS_PER_TASK) {
+                final int middle = (from + to) >>> 1;
+                final var left = new ScoreBlocks(scored, eligible, from, middle);
+                left.fork();
+                final var pairs = new ScoreBlocks(scored, eligible, middle, to).compute();
+                pairs.addAll(left.join());
+                return pairs;
+            }
+
+            final var pairs = new ArrayList<DuplicatePair>();
+            for (int b = from; b < to; b++) {
+                final var block = scored[b];
+                final var candidates = new Entry[block.ids().length];
+                for (int i = 0; i < candidates.length; i++) {
+                    candidates[i] = entries.get(block.ids()[i]);
+                }
+                for (int i = 0; i < candidates.length; i++) {
+                    for (int j = i + 1; j < candidates.length; j++) {
+                        final var a = candidates[i];
+                        final var c = candidates[j];
+                        if (a == null || c == null || !block.key().equals(firstSharedBlock(a, c, eligible))) {
+                            continue;
+                        }
+                        final var score = score(a, c);
+                        if (score >= threshold) {
+                            pairs.add(a.id().compareTo(c.id()) < 0
+                                ? new DuplicatePair(a.id(), c.id(), score)
+                                : new DuplicatePair(c.id(), a.id(), score));
+                        }
+                    }
+                }
+            }
+            return pairs;
+        }
+    }
+
+    private void link(final Entry entry) {
+        for (final var block : entry.blocks()) {
+            blocks.compute(block, (key, ids) -> {
+                final var next = ids != null ? ids : ConcurrentHashMap.<PatientID>newKeySet();
+                next.add(entry.id());
+                return next;
+            });
+        }
+    }
+
+    private void unlink(final Entry entry) {
+        for (final var block : entry.blocks()) {
+            blocks.computeIfPresent(block, (key, ids) -> {
+                ids.remove(entry.id());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static boolean sharesBlock(final Entry a, final Entry c) {
+        for (final var block : a.blocks()) {
+            if (Arrays.binarySearch(c.blocks(), block) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Blocks are kept sorted, so the first key of {@code a} that {@code c} also has is the same from both sides. */
+    private static String firstSharedBlock(final Entry a, final Entry c, final Set<String> eligible) {
+        for (final var block : a.blocks()) {
+            if (eligible.contains(block) && Arrays.binarySearch(c.blocks(), block) >= 0) {
+                return block;
+            }
+        }
+        return null;
+    }
+
+    private static Entry entryOf(final Patient patient) {
+        final var names = new ArrayList<String>(2);
+        final var phoneticNames = new ArrayList<String>(2);
+        final var blocks = new TreeSet<String>();
+        for (final var name : new String[]{patient.getName(), patient.getSocialName()}) {
+            final var folded = SearchText.normalize(name);
+            if (folded.isEmpty() || names.contains(folded)) {
+                continue;
+            }
+            names.add(folded);
+            final var words = PhoneticKey.words(folded);
+            if (!words.isEmpty()) {
+                phoneticNames.add(String.join(" ", words));
+                blocks.add("n:" + nameKeyOf(words));
+            }
+        }
+        if (patient.getDateOfBirth() != null) {
+            blocks.add("d:" + patient.getDateOfBirth());
+        }
+        final var emailLocal = emailLocalOf(patient.getEmail());
+        if (emailLocal != null) {
+            blocks.add("e:" + emailLocal);
+        }
+        return new Entry(
+            patient.getId(),
+            names.toArray(String[]::new),
+            phoneticNames.toArray(String[]::new),
+            patient.getDateOfBirth(),
+            emailLocal,
+            blocks.toArray(String[]::new)
+        );
+    }
+
+    private static String nameKeyOf(final List<String> words) {
+        if (words.isEmpty()) {
+            return null;
+        }
+        return words.size() == 1 ? words.get(0) : words.get(0) + " " + words.get(words.size() - 1);
+    }
+
+    private static double score(final Entry a, final Entry c) {
+        double name = 0;
+        for (final var first : a.names()) {
+            for (final var second : c.names()) {
+                name = Math.max(name, jaroWinkler(first, second));
+            }
+        }
+        if (name < PHONETIC_NAME_SCORE && sharesAny(a.phoneticNames(), c.phoneticNames())) {
+            name = PHONETIC_NAME_SCORE;
+        }
+        double total = NAME_WEIGHT * name;
+        double weights = NAME_WEIGHT;
+        if (a.dateOfBirth() != null && c.dateOfBirth() != null) {
+            total += BIRTH_WEIGHT * birthSimilarity(a.dateOfBirth(), c.dateOfBirth());
+            weights += BIRTH_WEIGHT;
+        }
+        if (a.emailLocal() != null && c.emailLocal() != null) {
+            total += a.emailLocal().equals(c.emailLocal()) ? EMAIL_WEIGHT : 0;
+            weights += EMAIL_WEIGHT;
+        }
+        return total / weights;
+    }
+
+    /** 1 when equal, partial credit for the usual typing slips: day and month swapped, or one part wrong. */
+    private static double birthSimilarity(final LocalDate a, final LocalDate c) {
+        if (a.equals(c)) {
+            return 1;
+        }
+        if (a.getYear() == c.getYear()
+            && a.getMonthValue() == c.getDayOfMonth() && a.getDayOfMonth() == c.getMonthValue()) {
+            return 0.7;
+        }
+        int same = 0;
+        same += a.getYear() == c.getYear() ? 1 : 0;
+        same += a.getMonthValue() == c.getMonthValue() ? 1 : 0;
+        same += a.getDayOfMonth() == c.getDayOfMonth() ? 1 : 0;
+        return same == 2 ? 0.6 : 0;
+    }
+
+    private static boolean sharesAny(final String[] a, final String[] c) {
+        for (final var first : a) {
+            for (final var second : c) {
+                if (first.equals(second)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static double jaroWinkler(final String a, final String c) {
+        if (a.equals(c)) {
+            return 1;
+        }
+        if (a.isEmpty() || c.isEmpty()) {
+            return 0;
+        }
+        final int window = Math.max(0, Math.max(a.length(), c.length()) / 2 - 1);
+        final var matchedA = new boolean[a.length()];
+        final var matchedC = new boolean[c.length()];
+        int matches = 0;
+        for (int i = 0; i < a.length(); i++) {
+            final int end = Math.min(c.length(), i + window + 1);
+            for (int j = Math.max(0, i - window); j < end; j++) {
+                if (!matchedC[j] && a.charAt(i) == c.charAt(j)) {
+                    matchedA[i] = true;
+                    matchedC[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length(); i++) {
+            if (!matchedA[i]) {
+                continue;
+            }
+            while (!matchedC[j]) {
+                j++;
+            }
+            if (a.charAt(i) != c.charAt(j)) {
+                transpositions++;
+            }
+            j++;
+        }
+        final double m = matches;
+        final double jaro = (m / a.length() + m / c.length() + (m - transpositions / 2.0) / m) / 3;
+        int prefix = 0;
+        while (prefix < Math.min(4, Math.min(a.length(), c.length())) && a.charAt(prefix) == c.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+}
@@ -0,0 +1,5 @@
+package com.thiagodd.sakura.domain.patient;
+
+/** Two patients that are likely the same person, {@code first} being the smaller id. */
+public record DuplicatePair(PatientID first, PatientID second, double score) {
+}
@@ -2,16 +2,26 @@ package com.thiagodd.sakura.domain.patient;
 
 import com.thiagodd.sakura.domain.AggregateRoot;
 import com.thiagodd.sakura.domain.validation.ValidationHandler;
+import com.thiagodd.sakura.domain.validation.constraints.Email;
+import com.thiagodd.sakura.domain.validation.constraints.Length;
+import com.thiagodd.sakura.domain.validation.constraints.Required;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 public class Patient extends AggregateRoot<PatientID> implements Cloneable {
 
+    @Required
+    @Length(min = 3, max = 255)
     private String name;
     private String socialName;
     private LocalDate dateOfBirth;
+    @Required
+    @Length(min = 3, max = 255)
+    @Email
     private String email;
     private String observation;
     private boolean active;
@@ -32,9 +42,10 @@ public class Patient extends AggregateRoot<PatientID> implements Cloneable {
         final Sex sex,
         final Instant createdAt,
         final Instant updatedAt,
-        final Instant deletedAt
+        final Instant deletedAt,
+        final long version
     ) {
-        super(id);
+        super(id, version);
         this.name = name;
         this.socialName = socialName;
         this.dateOfBirth = dateOfBirth;
@@ -56,11 +67,25 @@ public class Patient extends AggregateRoot<PatientID> implements Cloneable {
         final boolean isActive,
         final Sex sex
     ) {
-        final var id = PatientID.unique();
+        return newPatient(PatientID.unique(), name, socialName, dateOfBirth, email, observation, isActive, sex);
+    }
+
+    /** A new patient under an id chosen by the caller, such as one derived from where an import read it. */
+    public static Patient newPatient(
+        final PatientID id,
+        final String name,
+        final String socialName,
+        final LocalDate dateOfBirth,
+        final String email,
+        final String observation,
+        final boolean isActive,
+        final Sex sex
+    ) {
+        Objects.requireNonNull(id, "'id' should not be null");
         final var now = Instant.now();
         final var deletedAt = isActive ? null : now;
 
-        return new Patient(
+        final var patient = new Patient(
             id,
             name,
             socialName,
@@ -71,7 +96,13 @@ public class Patient extends AggregateRoot<PatientID> implements Cloneable {
             sex,
             now,
             now,
-            deletedAt);
+            deletedAt,
+            0);
+        for (final var field : PatientField.values()) {
+            patient.markChanged(field);
+        }
+        patient.registerEvent(new PatientCreated(id, now));
+        return patient;
     }
 
     public static Patient with(
@@ -87,7 +118,7 @@ public class Patient extends AggregateRoot<PatientID> implements Cloneable {
         final Instant updatedAt,
         final Instant deletedAt
     ) {
-        return new Patient(
+        return with(
             id,
             name,
             socialName,
@@ -98,12 +129,47 @@ public class Patient extends AggregateRoot<PatientID> implements Cloneable {
             sex,
             createdAt,
             updatedAt,
-            deletedAt
+            deletedAt,
+            0
         );
     }
 
+    public static Patient with(
+        final PatientID id,
+        final String name,
+        final String socialName,
+        final LocalDate dateOfBirth,
+        final String email,
+        final String observation,
+        final boolean isActive,
+        final Sex sex,
+        final Instant createdAt,
+        final Instant updatedAt,
+        final Instant deletedAt,
+        final long version
+    ) {
+        final var patient = new Patient(
+            id,
+            name,
+            socialName,
+            dateOfBirth,
+            email,
+            observation,
+            isActive,
+            sex,
+            createdAt,
+            updatedAt,
+            deletedAt,
+            version
+        );
+        for (final var field : PatientField.values()) {
+            patient.markChanged(field);
+        }
+        return patient;
+    }
+
     public static Patient with(final Patient patient) {
-        return with(
+        final var copy = with(
             patient.id,
             patient.name,
             patient.socialName,
@@ -114,31 +180,29 @@ public class Patient extends AggregateRoot<PatientID> implements Cloneable {
             patient.sex,
             patient.createdAt,
             patient.updatedAt,
-            patient.deletedAt
+            patient.deletedAt,
+            patient.getVersion()
         );
+        copy.copyChanges(patient);
+        return copy;
     }
 
     @Override
     public void validate(ValidationHandler handler){
-        new PatientValidator(this, handler).validate();
+        PatientValidator.validate(this, handler);
     }
 
     public Patient activate() {
-        this.deletedAt = null;
-        this.active = true;
-        this.updatedAt = Instant.now();
-
+        if (changeActive(true)) registerEvent(new PatientActivated(id, updatedAt));
         return this;
     }
 
     public Patient deactivate() {
-        if (getDeletedAt() == null) this.deletedAt = Instant.now();
-        this.active = false;
-        this.updatedAt = Instant.now();
-
+        if (changeActive(false)) registerEvent(new PatientDeactivated(id, updatedAt));
         return this;
     }
 
+    /** Applies the given values; a call that changes nothing leaves {@code updatedAt} alone and records no event. */
     public Patient update(
         final String name,
         final String socialName,
@@ -148,22 +212,45 @@ public class Patient extends AggregateRoot<PatientID> implements Cloneable {
         final boolean isActive,
         final Sex sex
     ) {
+        final var wasActive = this.active;
+        final var wasDeletedAt = this.deletedAt;
         if (isActive) {
             activate();
         } else {
             deactivate();
         }
 
-        this.name = name;
-        this.socialName = socialName;
-        this.dateOfBirth = dateOfBirth;
-        this.email = email;
-        this.observation = observation;
-        this.sex = sex;
+        boolean changed = wasActive != this.active || wasDeletedAt != this.deletedAt;
+        if (!Objects.equals(this.name, name)) {
+            this.name = name;
+            changed = markChanged(PatientField.NAME);
+        }
+        if (!Objects.equals(this.socialName, socialName)) {
+            this.socialName = socialName;
+            changed = markChanged(PatientField.SOCIAL_NAME);
+        }
+        if (!Objects.equals(this.dateOfBirth, dateOfBirth)) {
+            this.dateOfBirth = dateOfBirth;
+            changed = markChanged(PatientField.DATE_OF_BIRTH);
+        }
+        if (!Objects.equals(this.email, email)) {
+            this.email = email;
+            changed = markChanged(PatientField.EMAIL);
+        }
+        if (!Objects.equals(this.observation, observation)) {
+            this.observation = observation;
+            changed = markChanged(PatientField.OBSERVATION);
+        }
+        if (this.sex != sex) {
+            this.sex = sex;
+            changed = markChanged(PatientField.SEX);
+        }
 
-        this.updatedAt = Instant.now();
+        if (changed) {
+            touch();
+            registerEvent(new PatientUpdated(id, updatedAt));
+        }
         return this;
-
     }
 
     public Patient update(Patient patient) {
@@ -178,6 +265,17 @@ public class Patient extends AggregateRoot<PatientID> implements Cloneable {
         );
     }
 
+    /** The fields changed since this instance was loaded, or every field for a patient that was never saved. */
+    public Set<PatientField> changedFields() {
+        final var fields = EnumSet.noneOf(PatientField.class);
+        for (final var field : PatientField.values()) {
+            if (isChanged(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
     public String getName() {
         return name;
     }
@@ -218,6 +316,33 @@ public class Patient extends AggregateRoot<PatientID> implements Cloneable {
         return deletedAt;
     }
 
+    private boolean changeActive(final boolean active) {
+        final var wasActive = this.active;
+        final var now = Instant.now();
+        boolean changed = false;
+        if (active ? deletedAt != null : deletedAt == null) {
+            this.deletedAt = active ? null : now;
+            changed = markChanged(PatientField.DELETED_AT);
+        }
+        if (wasActive != active) {
+            this.active = active;
+            changed = markChanged(PatientField.ACTIVE);
+        }
+        if (changed) {
+            touch(now);
+        }
+        return wasActive != active;
+    }
+
+    private void touch() {
+        touch(Instant.now());
+    }
+
+    private void touch(final Instant now) {
+        this.updatedAt = now;
+        markChanged(PatientField.UPDATED_AT);
+    }
+
     @Override
     public Patient clone(){
         try{
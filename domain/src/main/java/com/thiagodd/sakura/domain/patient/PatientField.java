@@ -0,0 +1,14 @@
+package com.thiagodd.sakura.domain.patient;
+
+/** The mutable fields of a {@link Patient}, as reported by {@link Patient#changedFields()}. */
+public enum PatientField {
+    NAME,
+    SOCIAL_NAME,
+    DATE_OF_BIRTH,
+    EMAIL,
+    OBSERVATION,
+    ACTIVE,
+    SEX,
+    UPDATED_AT,
+    DELETED_AT
+}
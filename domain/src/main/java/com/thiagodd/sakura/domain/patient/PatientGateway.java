@@ -1,19 +1,89 @@
 package com.thiagodd.sakura.domain.patient;
 
+import com.thiagodd.sakura.domain.pagination.CursorPagination;
+import com.thiagodd.sakura.domain.pagination.CursorQuery;
+import com.thiagodd.sakura.domain.pagination.CursorStream;
 import com.thiagodd.sakura.domain.pagination.Pagination;
 import com.thiagodd.sakura.domain.pagination.SearchQuery;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PatientGateway {
 
+    int DEFAULT_STREAM_CHUNK_SIZE = 500;
+
     Patient create(Patient patient);
 
+    default List<Patient> createAll(final Collection<Patient> patients) {
+        return patients.stream().map(this::create).toList();
+    }
+
     void deleteById(PatientID id);
 
     Optional<Patient> findById(PatientID patientID);
 
+    /**
+     * Loads every patient of {@code ids} in one round trip, keyed by id; ids without a patient are left out. The
+     * default falls back to one {@link #findById(PatientID)} per id.
+     */
+    default Map<PatientID, Patient> findAllById(final Collection<PatientID> ids) {
+        final var found = new HashMap<PatientID, Patient>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            if (!found.containsKey(id)) {
+                findById(id).ifPresent(patient -> found.put(id, patient));
+            }
+        }
+        return found;
+    }
+
+    /** The observation alone; empty when the patient does not exist or has no observation. */
+    default Optional<String> findObservationById(final PatientID patientID) {
+        return findById(patientID).map(Patient::getObservation);
+    }
+
+    /**
+     * Stores the patient only if its version still matches the stored one, returning it with the next version.
+     * Throws {@link com.thiagodd.sakura.domain.exceptions.ConflictException} when another update got there first.
+     * A patient without {@linkplain com.thiagodd.sakura.domain.AggregateRoot#hasChanges() changes}, that is one the
+     * gateway loaded or wrote and nobody modified since, is returned as is without being written.
+     */
     Patient update(Patient patient);
 
+    default List<Patient> updateAll(final Collection<Patient> patients) {
+        return patients.stream().map(this::update).toList();
+    }
+
     Pagination<Patient> findAll(SearchQuery query);
+
+    CursorPagination<Patient> findAll(CursorQuery query);
+
+    /** Same page as {@link #findAll(SearchQuery)}, as summaries that leave out the heavy columns. */
+    default Pagination<PatientSummary> findAllSummaries(final SearchQuery query) {
+        final var page = findAll(query);
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(),
+            page.items().stream().map(PatientSummary::from).toList());
+    }
+
+    /**
+     * Stored patients that are likely the same person as {@code patient}, best match first; see
+     * {@link DuplicateDetector}. The default streams the whole base past the patient on every call, so gateways
+     * that can look candidates up by their blocking keys should override it.
+     */
+    default List<PatientMatch> findLikelyDuplicates(final Patient patient) {
+        try (var all = streamAll(new SearchQuery(0, DEFAULT_STREAM_CHUNK_SIZE, "", "name", "asc"))) {
+            return DuplicateDetector.create().findLikelyDuplicates(patient, all);
+        }
+    }
+
+    default Stream<Patient> streamAll(final SearchQuery query) {
+        final var chunkSize = query.perPage() > 0 ? query.perPage() : DEFAULT_STREAM_CHUNK_SIZE;
+        final var first = CursorQuery.first(chunkSize, query.terms(), query.sort(), query.direction());
+
+        return CursorStream.of(first, this::findAll);
+    }
 }
@@ -1,47 +1,41 @@
 package com.thiagodd.sakura.domain.patient;
 
-import com.thiagodd.sakura.domain.Identifier;
+import com.thiagodd.sakura.domain.TimeOrderedUUID;
+import com.thiagodd.sakura.domain.UUIDIdentifier;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.validation.Error;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
-public class PatientID extends Identifier {
+public class PatientID extends UUIDIdentifier {
 
-    private final String value;
-
-    private PatientID(final String value) {
-        Objects.requireNonNull(value, "'id' should not be null");
-
-        this.value = value;
+    private PatientID(final long mostSignificantBits, final long leastSignificantBits) {
+        super(mostSignificantBits, leastSignificantBits);
     }
 
     public static PatientID unique(){
-        return PatientID.from(UUID.randomUUID());
+        return new PatientID(TimeOrderedUUID.nextMostSignificantBits(), TimeOrderedUUID.nextLeastSignificantBits());
     }
 
+    /**
+     * Reads the canonical UUID form. This is stricter than when ids were plain strings, kept verbatim: anything
+     * other than a UUID is now a {@link DomainException}, and upper-case hex digits are read back in lower case, so
+     * ids differing only in case are equal. Use {@link #tryFrom(String)} for input that may not be an id.
+     */
     public static PatientID from(final String id){
-        return new PatientID(id);
+        return tryFrom(id).orElseThrow(() -> DomainException.with(new Error("'id' should be a valid UUID")));
     }
 
-    public static PatientID from(final UUID id){
-        return PatientID.from(id.toString());
-    }
+    /** Same as {@link #from(String)}, empty when {@code id} is not a UUID. */
+    public static Optional<PatientID> tryFrom(final String id){
+        Objects.requireNonNull(id, "'id' should not be null");
 
-    @Override
-    public String getValue() {
-        return value;
+        return Optional.ofNullable(parse(id)).map(PatientID::from);
     }
 
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final var that = (PatientID) o;
-        return Objects.equals(getValue(), that.getValue());
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hashCode(getValue());
+    public static PatientID from(final UUID id){
+        return new PatientID(id.getMostSignificantBits(), id.getLeastSignificantBits());
     }
 }
@@ -0,0 +1,5 @@
+package com.thiagodd.sakura.domain.patient;
+
+/** A stored patient that is likely the same person as the one being looked up, with a score between 0 and 1. */
+public record PatientMatch(PatientID id, double score) {
+}
@@ -0,0 +1,26 @@
+package com.thiagodd.sakura.domain.patient;
+
+import java.time.LocalDate;
+
+/**
+ * Read model for patient listings: the columns a list row shows and nothing else. Use
+ * {@link PatientGateway#findObservationById(PatientID)} to load the observation when a row is opened.
+ */
+public record PatientSummary(
+    PatientID id,
+    String name,
+    String socialName,
+    LocalDate dateOfBirth,
+    boolean active
+) {
+
+    public static PatientSummary from(final Patient patient) {
+        return new PatientSummary(
+            patient.getId(),
+            patient.getName(),
+            patient.getSocialName(),
+            patient.getDateOfBirth(),
+            patient.isActive()
+        );
+    }
+}
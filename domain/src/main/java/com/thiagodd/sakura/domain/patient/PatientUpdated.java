@@ -0,0 +1,8 @@
+package com.thiagodd.sakura.domain.patient;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record PatientUpdated(PatientID aggregateId, Instant occurredOn) implements DomainEvent {
+}
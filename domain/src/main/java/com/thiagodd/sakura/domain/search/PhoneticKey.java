@@ -0,0 +1,134 @@
+package com.thiagodd.sakura.domain.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sound-alike keys for Portuguese names, so spellings that are pronounced the same share a key: {@code "Conceição"}
+ * and {@code "Conceicao"} both become {@code "KNS"}, {@code "Souza"} and {@code "Sousa"} become {@code "S"},
+ * {@code "Thiago"} and {@code "Tiago"} become {@code "TG"}. Text is folded with {@link SearchText} first. Vowels
+ * after the first letter are dropped, digraphs ({@code ch}, {@code lh}, {@code nh}, {@code ph}, {@code qu},
+ * {@code gu}) collapse to one sound, soft {@code c}, {@code sc}, {@code ç}, a final {@code -cao} and {@code z}
+ * read as {@code S}, soft {@code g} as {@code J}, a nasal {@code m} as {@code N}, and repeated sounds count once.
+ * Connectives such as {@code "da"} and {@code "dos"} are not keyed.
+ */
+public final class PhoneticKey {
+
+    private static final Set<String> PARTICLES = Set.of("d", "da", "das", "de", "di", "do", "dos", "du", "e", "y");
+
+    private PhoneticKey() {
+    }
+
+    /** The key of every word of {@code text}, separated by single spaces. */
+    public static String of(final String text) {
+        return String.join(" ", words(text));
+    }
+
+    /** The key of every word of {@code text} in order, connectives and words without letters left out. */
+    public static List<String> words(final String text) {
+        final var normalized = SearchText.normalize(text == null ? null : text.replace('ç', 's').replace('Ç', 's'));
+        final var keys = new ArrayList<String>();
+        int start = 0;
+        while (start < normalized.length()) {
+            int end = normalized.indexOf(' ', start);
+            if (end < 0) {
+                end = normalized.length();
+            }
+            final var word = normalized.substring(start, end);
+            if (!PARTICLES.contains(word)) {
+                final var key = ofWord(word);
+                if (!key.isEmpty()) {
+                    keys.add(key);
+                }
+            }
+            start = end + 1;
+        }
+        return keys;
+    }
+
+    /** The key of one word already folded with {@link SearchText#normalize(String)}. */
+    public static String ofWord(final String word) {
+        final var key = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            final char c = word.charAt(i);
+            final char next = i + 1 < word.length() ? word.charAt(i + 1) : 0;
+            final char afterNext = i + 2 < word.length() ? word.charAt(i + 2) : 0;
+            char sound = 0;
+            switch (c) {
+                case 'a', 'e', 'i', 'o', 'u', 'y' -> sound = key.isEmpty() ? 'A' : 0;
+                case 'b', 'd', 'f', 'j', 'k', 'r' -> sound = Character.toUpperCase(c);
+                case 'v', 'w' -> sound = 'V';
+                case 'z' -> sound = 'S';
+                case 'c' -> {
+                    if (next == 'h') {
+                        sound = 'X';
+                        i++;
+                    } else {
+                        sound = isFront(next) || isSoftEnding(word, i + 1) ? 'S' : 'K';
+                    }
+                }
+                case 'g' -> {
+                    if (next == 'u' && isFront(afterNext)) {
+                        sound = 'G';
+                        i++;
+                    } else {
+                        sound = isFront(next) ? 'J' : 'G';
+                    }
+                }
+                case 'l', 'n', 't' -> {
+                    sound = Character.toUpperCase(c);
+                    if (next == 'h') {
+                        i++;
+                    }
+                }
+                case 'm' -> sound = isVowel(next) ? 'M' : 'N';
+                case 'p' -> {
+                    if (next == 'h') {
+                        sound = 'F';
+                        i++;
+                    } else {
+                        sound = 'P';
+                    }
+                }
+                case 'q' -> {
+                    sound = 'K';
+                    if (next == 'u') {
+                        i++;
+                    }
+                }
+                case 's', 'x' -> {
+                    if (next == 'h') {
+                        sound = 'X';
+                        i++;
+                    } else if (next == 'c' && isFront(afterNext)) {
+                        sound = 'S';
+                        i++;
+                    } else {
+                        sound = c == 's' ? 'S' : 'X';
+                    }
+                }
+                default -> {
+                }
+            }
+            if (sound != 0 && (key.isEmpty() || key.charAt(key.length() - 1) != sound)) {
+                key.append(sound);
+            }
+        }
+        return key.toString();
+    }
+
+    /** {@code "-cao"} and {@code "-coes"} are {@code "-ção"} and {@code "-ções"} typed without the cedilla. */
+    private static boolean isSoftEnding(final String word, final int from) {
+        return from > 2 && (from == word.length() - 2 && word.endsWith("ao")
+            || from == word.length() - 3 && word.endsWith("oes"));
+    }
+
+    private static boolean isFront(final char c) {
+        return c == 'e' || c == 'i' || c == 'y';
+    }
+
+    private static boolean isVowel(final char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u' || c == 'y';
+    }
+}
@@ -0,0 +1,48 @@
+package com.thiagodd.sakura.domain.search;
+
+import java.text.Normalizer;
+
+/**
+ * Folds text to the form used for searching: accents removed, lower case, and every run of characters that are
+ * not letters or digits collapsed into a single space ({@code "José  da Conceição"} becomes
+ * {@code "jose da conceicao"}, {@code "ana.lima@x.com"} becomes {@code "ana lima x com"}).
+ */
+public final class SearchText {
+
+    private SearchText() {
+    }
+
+    public static String normalize(final String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        final var decomposed = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFD);
+        final var builder = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            final char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && builder.length() > 0) {
+                    builder.append(' ');
+                }
+                pendingSpace = false;
+                builder.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isAscii(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,160 @@
+package com.thiagodd.sakura.domain.user;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable set of {@link Authority} values kept as one {@code long}, bit {@code ordinal()} per authority, so
+ * {@link #hasAuthority(Authority)}, {@link #hasAny(Authorities)} and {@link #hasAll(Authorities)} are a mask and a
+ * compare. {@link #from(String)} reads the stored form, names separated by commas or whitespace in any case, and
+ * skips names it does not know; parsed values are cached by string because a system only ever holds a handful of
+ * distinct ones.
+ */
+public final class Authorities {
+
+    private static final Authority[] AUTHORITIES = Authority.values();
+    private static final Map<String, Authority> BY_NAME = byName();
+    private static final Map<String, Authorities> PARSED = new ConcurrentHashMap<>();
+    private static final int MAX_PARSED = 256;
+    private static final Authorities NONE = new Authorities(0L);
+
+    private final long bits;
+
+    private Authorities(final long bits) {
+        this.bits = bits;
+    }
+
+    public static Authorities none() {
+        return NONE;
+    }
+
+    public static Authorities of(final Authority... authorities) {
+        long bits = 0L;
+        for (final var authority : authorities) {
+            bits |= bit(authority);
+        }
+        return new Authorities(bits);
+    }
+
+    public static Authorities of(final Collection<Authority> authorities) {
+        long bits = 0L;
+        for (final var authority : authorities) {
+            bits |= bit(authority);
+        }
+        return new Authorities(bits);
+    }
+
+    public static Authorities from(final String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        final var cached = PARSED.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        final var parsed = parse(value);
+        if (PARSED.size() < MAX_PARSED) {
+            PARSED.putIfAbsent(value, parsed);
+        }
+        return parsed;
+    }
+
+    public boolean hasAuthority(final Authority authority) {
+        return (bits & bit(authority)) != 0L;
+    }
+
+    public boolean hasAny(final Authorities authorities) {
+        return (bits & authorities.bits) != 0L;
+    }
+
+    public boolean hasAll(final Authorities authorities) {
+        return (bits & authorities.bits) == authorities.bits;
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    public Authorities with(final Authority authority) {
+        return new Authorities(bits | bit(authority));
+    }
+
+    public Authorities without(final Authority authority) {
+        return new Authorities(bits & ~bit(authority));
+    }
+
+    public Set<Authority> toSet() {
+        final var set = EnumSet.noneOf(Authority.class);
+        for (long remaining = bits; remaining != 0L; remaining &= remaining - 1) {
+            set.add(AUTHORITIES[Long.numberOfTrailingZeros(remaining)]);
+        }
+        return set;
+    }
+
+    /** The stored form, names in declaration order separated by commas. */
+    @Override
+    public String toString() {
+        final var joiner = new StringJoiner(",");
+        for (long remaining = bits; remaining != 0L; remaining &= remaining - 1) {
+            joiner.add(AUTHORITIES[Long.numberOfTrailingZeros(remaining)].name());
+        }
+        return joiner.toString();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || o instanceof Authorities that && bits == that.bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    private static Authorities parse(final String value) {
+        long bits = 0L;
+        int start = -1;
+        for (int i = 0; i <= value.length(); i++) {
+            final boolean separator = i == value.length() || isSeparator(value.charAt(i));
+            if (!separator && start < 0) {
+                start = i;
+            } else if (separator && start >= 0) {
+                final var authority = BY_NAME.get(value.substring(start, i).toUpperCase(Locale.ROOT));
+                if (authority != null) {
+                    bits |= bit(authority);
+                }
+                start = -1;
+            }
+        }
+        return bits == 0L ? NONE : new Authorities(bits);
+    }
+
+    private static boolean isSeparator(final char c) {
+        return c == ',' || Character.isWhitespace(c);
+    }
+
+    private static Map<String, Authority> byName() {
+        if (AUTHORITIES.length > Long.SIZE) {
+            throw new IllegalStateException("Authorities holds at most 64 authorities");
+        }
+        final var byName = new HashMap<String, Authority>();
+        for (final var authority : AUTHORITIES) {
+            byName.put(authority.name(), authority);
+        }
+        return Map.copyOf(byName);
+    }
+
+    private static long bit(final Authority authority) {
+        return 1L << authority.ordinal();
+    }
+}
@@ -0,0 +1,9 @@
+package com.thiagodd.sakura.domain.user;
+
+public enum Authority {
+    ROLE_USER,
+    ROLE_ADMIN,
+    ROLE_DOCTOR,
+    ROLE_NURSE,
+    ROLE_RECEPTIONIST
+}
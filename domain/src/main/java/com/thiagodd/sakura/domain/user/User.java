@@ -2,19 +2,40 @@ package com.thiagodd.sakura.domain.user;
 
 import com.thiagodd.sakura.domain.AggregateRoot;
 import com.thiagodd.sakura.domain.validation.ValidationHandler;
+import com.thiagodd.sakura.domain.validation.constraints.Email;
+import com.thiagodd.sakura.domain.validation.constraints.Length;
+import com.thiagodd.sakura.domain.validation.constraints.Login;
+import com.thiagodd.sakura.domain.validation.constraints.Required;
 
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 public class User extends AggregateRoot<UserID> implements Cloneable {
 
+    @Required
+    @Length(min = 3, max = 255)
     private String firstName;
+
+    @Required
+    @Length(min = 3, max = 255)
     private String lastName;
-    private String login;
+
+    @Required
+    @Length(min = 3, max = 255)
+    @Email
     private String email;
+
+    @Required
+    @Length(min = 3, max = 30)
+    @Login(message = "'username' can only contain letters, numbers, dots, underscores, and hyphens")
+    private String login;
+
     private String imageUrl;
     private boolean active;
     private String authorities;
+    private Authorities grantedAuthorities;
 
     private final Instant createdAt;
     private Instant updatedAt;
@@ -31,9 +52,10 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
         final String authorities,
         final Instant createdAt,
         final Instant updatedAt,
-        final Instant deletedAt
+        final Instant deletedAt,
+        final long version
     ) {
-        super(userID);
+        super(userID, version);
         this.firstName = firstName;
         this.lastName = lastName;
         this.login = login;
@@ -41,6 +63,7 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
         this.imageUrl = imageUrl;
         this.active = isActive;
         this.authorities = authorities;
+        this.grantedAuthorities = Authorities.from(authorities);
         this.createdAt = Objects.requireNonNull(createdAt, "'created_at' should not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "'updated_at' should not be null");
         this.deletedAt = deletedAt;
@@ -59,7 +82,7 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
         final var now = Instant.now();
         final var deletedAt = isActive ? null : now;
 
-        return new User(
+        final var user = new User(
             id,
             firstName,
             lastName,
@@ -70,8 +93,14 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
             authorities,
             now,
             now,
-            deletedAt
+            deletedAt,
+            0
         );
+        for (final var field : UserField.values()) {
+            user.markChanged(field);
+        }
+        user.registerEvent(new UserCreated(id, now));
+        return user;
     }
 
     public static User with(
@@ -87,7 +116,37 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
         final Instant updatedAt,
         final Instant deletedAt
     ){
-        return new User(
+        return with(
+            id,
+            firstName,
+            lastName,
+            login,
+            email,
+            imageUrl,
+            isActive,
+            authorities,
+            createdAt,
+            updatedAt,
+            deletedAt,
+            0
+        );
+    }
+
+    public static User with(
+        final UserID id,
+        final String firstName,
+        final String lastName,
+        final String login,
+        final String email,
+        final String imageUrl,
+        final boolean isActive,
+        final String authorities,
+        final Instant createdAt,
+        final Instant updatedAt,
+        final Instant deletedAt,
+        final long version
+    ){
+        final var user = new User(
             id,
             firstName,
             lastName,
@@ -98,14 +157,19 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
             authorities,
             createdAt,
             updatedAt,
-            deletedAt
+            deletedAt,
+            version
         );
+        for (final var field : UserField.values()) {
+            user.markChanged(field);
+        }
+        return user;
     }
 
 
 
     public static User with(final User user){
-        return with(
+        final var copy = with(
             user.id,
             user.firstName,
             user.lastName,
@@ -116,32 +180,29 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
             user.authorities,
             user.createdAt,
             user.updatedAt,
-            user.deletedAt
+            user.deletedAt,
+            user.getVersion()
         );
+        copy.copyChanges(user);
+        return copy;
     }
 
     @Override
     public void validate(ValidationHandler handler){
-        new UserValidator(this, handler).validate();
+        UserValidator.validate(this, handler);
     }
 
     public User activate() {
-        this.deletedAt = null;
-        this.active = true;
-        this.updatedAt = Instant.now();
-
+        if (changeActive(true)) registerEvent(new UserActivated(id, updatedAt));
         return this;
     }
 
     public User deactivate() {
-        if (getDeletedAt() == null) this.deletedAt = Instant.now();
-        this.active = false;
-        this.updatedAt = Instant.now();
-
+        if (changeActive(false)) registerEvent(new UserDeactivated(id, updatedAt));
         return this;
     }
 
-
+    /** Applies the given values; a call that changes nothing leaves {@code updatedAt} alone and records no event. */
     public User update(
         final String firstName,
         final String lastName,
@@ -151,23 +212,58 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
         final boolean isActive,
         final String authorities
     ){
+        final var wasActive = this.active;
+        final var wasDeletedAt = this.deletedAt;
         if (isActive){
             activate();
         }else {
             deactivate();
         }
 
-        this.firstName = firstName;
-        this.lastName = lastName;
-        this.login = login;
-        this.email = email;
-        this.imageUrl = imageUrl;
-        this.authorities = authorities;
+        boolean changed = wasActive != this.active || wasDeletedAt != this.deletedAt;
+        if (!Objects.equals(this.firstName, firstName)) {
+            this.firstName = firstName;
+            changed = markChanged(UserField.FIRST_NAME);
+        }
+        if (!Objects.equals(this.lastName, lastName)) {
+            this.lastName = lastName;
+            changed = markChanged(UserField.LAST_NAME);
+        }
+        if (!Objects.equals(this.login, login)) {
+            this.login = login;
+            changed = markChanged(UserField.LOGIN);
+        }
+        if (!Objects.equals(this.email, email)) {
+            this.email = email;
+            changed = markChanged(UserField.EMAIL);
+        }
+        if (!Objects.equals(this.imageUrl, imageUrl)) {
+            this.imageUrl = imageUrl;
+            changed = markChanged(UserField.IMAGE_URL);
+        }
+        if (!Objects.equals(this.authorities, authorities)) {
+            this.authorities = authorities;
+            this.grantedAuthorities = Authorities.from(authorities);
+            changed = markChanged(UserField.AUTHORITIES);
+        }
 
-        this.updatedAt = Instant.now();
+        if (changed) {
+            touch();
+            registerEvent(new UserUpdated(id, updatedAt));
+        }
         return this;
     }
 
+    /** The fields changed since this instance was loaded, or every field for a user that was never saved. */
+    public Set<UserField> changedFields() {
+        final var fields = EnumSet.noneOf(UserField.class);
+        for (final var field : UserField.values()) {
+            if (isChanged(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
 
     public String getFirstName() {
         return firstName;
@@ -197,6 +293,15 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
         return authorities;
     }
 
+    /** The authorities parsed from {@link #getAuthorities()}, which stays the stored form. */
+    public Authorities getGrantedAuthorities() {
+        return grantedAuthorities;
+    }
+
+    public boolean hasAuthority(final Authority authority) {
+        return grantedAuthorities.hasAuthority(authority);
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -209,6 +314,33 @@ public class User extends AggregateRoot<UserID> implements Cloneable {
         return deletedAt;
     }
 
+    private boolean changeActive(final boolean active) {
+        final var wasActive = this.active;
+        final var now = Instant.now();
+        boolean changed = false;
+        if (active ? deletedAt != null : deletedAt == null) {
+            this.deletedAt = active ? null : now;
+            changed = markChanged(UserField.DELETED_AT);
+        }
+        if (wasActive != active) {
+            this.active = active;
+            changed = markChanged(UserField.ACTIVE);
+        }
+        if (changed) {
+            touch(now);
+        }
+        return wasActive != active;
+    }
+
+    private void touch() {
+        touch(Instant.now());
+    }
+
+    private void touch(final Instant now) {
+        this.updatedAt = now;
+        markChanged(UserField.UPDATED_AT);
+    }
+
     @Override
     protected User clone() {
         try{
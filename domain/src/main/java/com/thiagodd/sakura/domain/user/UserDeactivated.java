@@ -0,0 +1,8 @@
+package com.thiagodd.sakura.domain.user;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record UserDeactivated(UserID aggregateId, Instant occurredOn) implements DomainEvent {
+}
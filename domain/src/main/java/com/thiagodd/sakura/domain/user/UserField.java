@@ -0,0 +1,14 @@
+package com.thiagodd.sakura.domain.user;
+
+/** The mutable fields of a {@link User}, as reported by {@link User#changedFields()}. */
+public enum UserField {
+    FIRST_NAME,
+    LAST_NAME,
+    LOGIN,
+    EMAIL,
+    IMAGE_URL,
+    ACTIVE,
+    AUTHORITIES,
+    UPDATED_AT,
+    DELETED_AT
+}
@@ -0,0 +1,54 @@
+package com.thiagodd.sakura.domain.user;
+
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public interface UserGateway {
+
+    User create(User user);
+
+    void deleteById(UserID id);
+
+    Optional<User> findById(UserID userID);
+
+    /** Finds the user with this login, ignoring case. */
+    Optional<User> findByLogin(String login);
+
+    /** Finds the user with this email, ignoring case. */
+    Optional<User> findByEmail(String email);
+
+    /** Whether some user already has this login, ignoring case. */
+    boolean existsByLogin(String login);
+
+    /** Whether some user already has this email, ignoring case. */
+    boolean existsByEmail(String email);
+
+    /**
+     * Loads every user of {@code ids} in one round trip, keyed by id; ids without a user are left out. The default
+     * falls back to one {@link #findById(UserID)} per id.
+     */
+    default Map<UserID, User> findAllById(final Collection<UserID> ids) {
+        final var found = new HashMap<UserID, User>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            if (!found.containsKey(id)) {
+                findById(id).ifPresent(user -> found.put(id, user));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Stores the user only if its version still matches the stored one, returning it with the next version.
+     * Throws {@link com.thiagodd.sakura.domain.exceptions.ConflictException} when another update got there first.
+     * A user without {@linkplain com.thiagodd.sakura.domain.AggregateRoot#hasChanges() changes}, that is one the
+     * gateway loaded or wrote and nobody modified since, is returned as is without being written.
+     */
+    User update(User user);
+
+    Pagination<User> findAll(SearchQuery query);
+}
@@ -1,47 +1,41 @@
 package com.thiagodd.sakura.domain.user;
 
-import com.thiagodd.sakura.domain.Identifier;
+import com.thiagodd.sakura.domain.TimeOrderedUUID;
+import com.thiagodd.sakura.domain.UUIDIdentifier;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.validation.Error;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
-public class UserID extends Identifier {
+public class UserID extends UUIDIdentifier {
 
-    private final String value;
-
-    private UserID(final String value){
-        Objects.requireNonNull(value, "'id' should not be null");
-
-        this.value = value;
+    private UserID(final long mostSignificantBits, final long leastSignificantBits) {
+        super(mostSignificantBits, leastSignificantBits);
     }
 
     public static UserID unique(){
-        return UserID.from(UUID.randomUUID());
+        return new UserID(TimeOrderedUUID.nextMostSignificantBits(), TimeOrderedUUID.nextLeastSignificantBits());
     }
 
+    /**
+     * Reads the canonical UUID form. This is stricter than when ids were plain strings, kept verbatim: anything
+     * other than a UUID is now a {@link DomainException}, and upper-case hex digits are read back in lower case, so
+     * ids differing only in case are equal. Use {@link #tryFrom(String)} for input that may not be an id.
+     */
     public static UserID from(final String id){
-        return new UserID(id);
+        return tryFrom(id).orElseThrow(() -> DomainException.with(new Error("'id' should be a valid UUID")));
     }
 
-    public static UserID from(final UUID id){
-        return UserID.from(id.toString());
-    }
+    /** Same as {@link #from(String)}, empty when {@code id} is not a UUID. */
+    public static Optional<UserID> tryFrom(final String id){
+        Objects.requireNonNull(id, "'id' should not be null");
 
-    @Override
-    public String getValue() {
-        return value;
+        return Optional.ofNullable(parse(id)).map(UserID::from);
     }
 
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final var userID = (UserID) o;
-        return Objects.equals(value, userID.value);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(value);
+    public static UserID from(final UUID id){
+        return new UserID(id.getMostSignificantBits(), id.getLeastSignificantBits());
     }
 }
@@ -0,0 +1,24 @@
+package com.thiagodd.sakura.domain.validation;
+
+import com.thiagodd.sakura.domain.Identifier;
+
+import java.util.List;
+import java.util.Map;
+
+public record BulkValidationResult<ID extends Identifier>(
+    long validCount,
+    Map<ID, List<Error>> errors,
+    boolean complete
+) {
+    public int invalidCount() {
+        return errors.size();
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    public List<Error> errorsOf(final ID id) {
+        return errors.getOrDefault(id, List.of());
+    }
+}
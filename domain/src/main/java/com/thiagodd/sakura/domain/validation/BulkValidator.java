@@ -0,0 +1,235 @@
+package com.thiagodd.sakura.domain.validation;
+
+import com.thiagodd.sakura.domain.Entity;
+import com.thiagodd.sakura.domain.Identifier;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+public final class BulkValidator {
+
+    private static final int DEFAULT_BATCH_SIZE = 512;
+
+    private final ForkJoinPool pool;
+    private final boolean failFast;
+    private final int maxErrors;
+    private final int batchSize;
+
+    private BulkValidator(final ForkJoinPool pool, final boolean failFast, final int maxErrors, final int batchSize) {
+        this.pool = Objects.requireNonNull(pool, "'pool' should not be null");
+        this.failFast = failFast;
+        this.maxErrors = maxErrors;
+        this.batchSize = batchSize;
+    }
+
+    public static BulkValidator create() {
+        return new BulkValidator(ForkJoinPool.commonPool(), false, Integer.MAX_VALUE, DEFAULT_BATCH_SIZE);
+    }
+
+    public BulkValidator failFast() {
+        return new BulkValidator(pool, true, maxErrors, batchSize);
+    }
+
+    public BulkValidator collectAll() {
+        return new BulkValidator(pool, false, maxErrors, batchSize);
+    }
+
+    public BulkValidator maxErrors(final int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("'maxErrors' should be greater than zero");
+        }
+        return new BulkValidator(pool, failFast, maxErrors, batchSize);
+    }
+
+    public BulkValidator batchSize(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'batchSize' should be greater than zero");
+        }
+        return new BulkValidator(pool, failFast, maxErrors, batchSize);
+    }
+
+    public BulkValidator on(final ForkJoinPool pool) {
+        return new BulkValidator(pool, failFast, maxErrors, batchSize);
+    }
+
+    public <ID extends Identifier> BulkValidationResult<ID> validate(final Stream<? extends Entity<ID>> entities) {
+        return run(entities.toArray(Entity<?>[]::new));
+    }
+
+    public <ID extends Identifier> BulkValidationResult<ID> validate(final Collection<? extends Entity<ID>> entities) {
+        return run(entities.toArray(new Entity<?>[0]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <ID extends Identifier> BulkValidationResult<ID> run(final Entity<?>[] entities) {
+        final var execution = new Execution<ID>();
+        pool.invoke(new ValidateRange<>((Entity<ID>[]) entities, 0, entities.length, execution));
+
+        final var complete = execution.processed.sum() == entities.length;
+        return new BulkValidationResult<>(execution.valid.sum(), execution.errors(), complete);
+    }
+
+    private record Failure<ID>(int index, ID id, List<Error> errors) {
+    }
+
+    private final class Execution<ID extends Identifier> {
+        private final Map<ID, List<Error>> errors = new ConcurrentHashMap<>();
+        private final LongAdder valid = new LongAdder();
+        private final LongAdder processed = new LongAdder();
+        private final AtomicInteger reported = new AtomicInteger();
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final AtomicReference<Failure<ID>> firstFailure = new AtomicReference<>();
+
+        /**
+         * Whether the entity at {@code index} can be skipped. Fail-fast keeps checking indices below the lowest
+         * failure found so far, so the one it reports is the first in input order whatever the forks' timing.
+         */
+        private boolean stopsBefore(final int index) {
+            if (failFast) {
+                final var failure = firstFailure.get();
+                return failure != null && failure.index() < index;
+            }
+            return stopped.get();
+        }
+
+        private void report(final int index, final ID id, final List<Error> entityErrors) {
+            if (failFast) {
+                final var candidate = new Failure<>(index, id, limit(entityErrors, maxErrors));
+                firstFailure.accumulateAndGet(candidate,
+                    (current, reported) -> current == null || reported.index() < current.index() ? reported : current);
+                return;
+            }
+            final int previous = reported.getAndAdd(entityErrors.size());
+            final int remaining = maxErrors - previous;
+            if (remaining <= 0) {
+                stopped.set(true);
+                return;
+            }
+            errors.put(id, limit(entityErrors, remaining));
+            if (previous + entityErrors.size() >= maxErrors) {
+                stopped.set(true);
+            }
+        }
+
+        private Map<ID, List<Error>> errors() {
+            if (failFast) {
+                final var failure = firstFailure.get();
+                return failure == null ? Map.of() : Map.of(failure.id(), failure.errors());
+            }
+            return Map.copyOf(errors);
+        }
+
+        private List<Error> limit(final List<Error> entityErrors, final int size) {
+            return List.copyOf(entityErrors.size() > size ? entityErrors.subList(0, size) : entityErrors);
+        }
+    }
+
+    private final class ValidateRange<ID extends Identifier> extends RecursiveAction {
+
+        private final Entity<ID>[] entities;
+        private final int from;
+        private final int to;
+        private final Execution<ID> execution;
+
+        private ValidateRange(final Entity<ID>[] entities, final int from, final int to, final Execution<ID> execution) {
+            this.entities = entities;
+            this.from = from;
+            this.to = to;
+            this.execution = execution;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > batchSize) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(
+                    new ValidateRange<>(entities, from, middle, execution),
+                    new ValidateRange<>(entities, middle, to, execution)
+                );
+                return;
+            }
+
+            final var handler = new LazyErrors();
+            long valid = 0;
+            int i = from;
+            for (; i < to && !execution.stopsBefore(i); i++) {
+                final var entity = entities[i];
+                handler.check(entity);
+                if (handler.hasError()) {
+                    execution.report(i, entity.getId(), handler.drain());
+                } else {
+                    valid++;
+                }
+            }
+            execution.valid.add(valid);
+            execution.processed.add(i - from);
+        }
+    }
+
+    private static final class LazyErrors implements ValidationHandler {
+
+        private List<Error> errors;
+
+        @Override
+        public LazyErrors append(final Error error) {
+            if (errors == null) {
+                errors = new ArrayList<>();
+            }
+            errors.add(error);
+            return this;
+        }
+
+        @Override
+        public LazyErrors append(final ValidationHandler handler) {
+            if (handler.hasError()) {
+                handler.getErrors().forEach(this::append);
+            }
+            return this;
+        }
+
+        @Override
+        public LazyErrors validate(final Validation validation) {
+            try {
+                validation.validate();
+            } catch (final DomainException exception) {
+                exception.getErrors().forEach(this::append);
+            } catch (final Throwable throwable) {
+                append(new Error(throwable.getMessage()));
+            }
+            return this;
+        }
+
+        @Override
+        public List<Error> getErrors() {
+            return errors == null ? List.of() : errors;
+        }
+
+        private void check(final Entity<?> entity) {
+            try {
+                entity.validate(this);
+            } catch (final DomainException exception) {
+                exception.getErrors().forEach(this::append);
+            } catch (final Throwable throwable) {
+                append(new Error(throwable.getMessage()));
+            }
+        }
+
+        private List<Error> drain() {
+            final var drained = errors;
+            errors = null;
+            return drained;
+        }
+    }
+}
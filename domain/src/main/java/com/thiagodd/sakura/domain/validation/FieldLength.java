@@ -0,0 +1,69 @@
+package com.thiagodd.sakura.domain.validation;
+
+import java.util.Objects;
+
+/**
+ * Null, blank and trimmed-length rule for one text field. The three possible errors are built once, when the rule
+ * is declared, and the trimmed length is measured in place, so checking a valid value allocates nothing.
+ */
+public final class FieldLength {
+
+    private final int minLength;
+    private final int maxLength;
+    private final Error nullError;
+    private final Error emptyError;
+    private final Error lengthError;
+
+    private FieldLength(final String fieldName, final int minLength, final int maxLength) {
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.nullError = new Error("'" + fieldName + "' should not be null");
+        this.emptyError = new Error("'" + fieldName + "' should not be empty");
+        this.lengthError = new Error(
+            "'" + fieldName + "' length should be between " + minLength + " and " + maxLength + " characters");
+    }
+
+    public static FieldLength of(final String fieldName, final int minLength, final int maxLength) {
+        Objects.requireNonNull(fieldName, "'fieldName' should not be null");
+        if (minLength < 0 || maxLength < minLength) {
+            throw new IllegalArgumentException("'maxLength' should not be lower than 'minLength'");
+        }
+        return new FieldLength(fieldName, minLength, maxLength);
+    }
+
+    public void check(final String value, final ValidationHandler handler) {
+        if (value == null) {
+            handler.append(nullError);
+        } else if (value.isBlank()) {
+            handler.append(emptyError);
+        } else {
+            final int length = trimmedLength(value);
+            if (length < minLength || length > maxLength) {
+                handler.append(lengthError);
+            }
+        }
+    }
+
+    /** Like {@link #check} for an optional field: a missing value is fine, a present one must fit the length. */
+    public void checkIfPresent(final String value, final ValidationHandler handler) {
+        if (value != null) {
+            final int length = trimmedLength(value);
+            if (length < minLength || length > maxLength) {
+                handler.append(lengthError);
+            }
+        }
+    }
+
+    /** Same as {@code value.trim().length()} without building the trimmed copy. */
+    static int trimmedLength(final String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start;
+    }
+}
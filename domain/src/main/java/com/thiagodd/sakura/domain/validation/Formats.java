@@ -0,0 +1,227 @@
+package com.thiagodd.sakura.domain.validation;
+
+public final class Formats {
+
+    private static final int ASCII = 128;
+
+    private static final boolean[] ATOM = new boolean[ASCII];
+    private static final boolean[] QUOTED_TEXT = new boolean[ASCII];
+    private static final boolean[] QUOTED_PAIR = new boolean[ASCII];
+    private static final boolean[] LITERAL_TEXT = new boolean[ASCII];
+    private static final boolean[] LABEL = new boolean[ASCII];
+    private static final boolean[] LOGIN = new boolean[ASCII];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ATOM[c] = ATOM[Character.toUpperCase(c)] = true;
+            LABEL[c] = LABEL[Character.toUpperCase(c)] = true;
+            LOGIN[c] = LOGIN[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ATOM[c] = LABEL[c] = LOGIN[c] = true;
+        }
+        for (final char c : "!#$%&'*+/=?^_`{|}~-".toCharArray()) {
+            ATOM[c] = true;
+        }
+        for (final char c : "._-".toCharArray()) {
+            LOGIN[c] = true;
+        }
+        LABEL['-'] = true;
+
+        mark(QUOTED_TEXT, 0x01, 0x08);
+        mark(QUOTED_TEXT, 0x0b, 0x0c);
+        mark(QUOTED_TEXT, 0x0e, 0x1f);
+        mark(QUOTED_TEXT, 0x21, 0x21);
+        mark(QUOTED_TEXT, 0x23, 0x5b);
+        mark(QUOTED_TEXT, 0x5d, 0x7f);
+
+        mark(QUOTED_PAIR, 0x01, 0x09);
+        mark(QUOTED_PAIR, 0x0b, 0x0c);
+        mark(QUOTED_PAIR, 0x0e, 0x7f);
+
+        mark(LITERAL_TEXT, 0x01, 0x08);
+        mark(LITERAL_TEXT, 0x0b, 0x0c);
+        mark(LITERAL_TEXT, 0x0e, 0x1f);
+        mark(LITERAL_TEXT, 0x21, 0x7f);
+    }
+
+    private Formats() {
+    }
+
+    /**
+     * Single pass equivalent of the RFC 5322 email expression previously compiled by the validators
+     * (case-insensitive, ASCII only). Returns {@code false} for {@code null}.
+     */
+    public static boolean isEmail(final CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        final int length = value.length();
+        final int at = localPartEnd(value, length);
+        if (at < 0 || at >= length || value.charAt(at) != '@') {
+            return false;
+        }
+        final int domain = at + 1;
+        if (domain < length && value.charAt(domain) == '[') {
+            return isAddressLiteral(value, domain + 1, length);
+        }
+        return isHostname(value, domain, length);
+    }
+
+    /**
+     * Equivalent of {@code [a-zA-Z0-9._-]+}. Returns {@code false} for {@code null}.
+     */
+    public static boolean isLogin(final CharSequence value) {
+        if (value == null || value.length() == 0) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!is(LOGIN, value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int localPartEnd(final CharSequence value, final int length) {
+        if (length == 0) {
+            return -1;
+        }
+        if (value.charAt(0) == '"') {
+            return quotedStringEnd(value, length);
+        }
+        return dotAtomEnd(value, length);
+    }
+
+    private static int dotAtomEnd(final CharSequence value, final int length) {
+        int i = 0;
+        boolean atomStart = true;
+        while (i < length) {
+            final char c = value.charAt(i);
+            if (is(ATOM, c)) {
+                atomStart = false;
+            } else if (c == '.' && !atomStart) {
+                atomStart = true;
+            } else {
+                break;
+            }
+            i++;
+        }
+        return atomStart ? -1 : i;
+    }
+
+    private static int quotedStringEnd(final CharSequence value, final int length) {
+        int i = 1;
+        while (i < length) {
+            final char c = value.charAt(i);
+            if (c == '"') {
+                return i + 1;
+            }
+            if (c == '\\') {
+                if (i + 1 >= length || !is(QUOTED_PAIR, value.charAt(i + 1))) {
+                    return -1;
+                }
+                i += 2;
+            } else if (is(QUOTED_TEXT, c)) {
+                i++;
+            } else {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isHostname(final CharSequence value, final int from, final int length) {
+        int labels = 0;
+        int labelStart = from;
+        for (int i = from; i <= length; i++) {
+            if (i == length || value.charAt(i) == '.') {
+                if (!isLabel(value, labelStart, i)) {
+                    return false;
+                }
+                labels++;
+                labelStart = i + 1;
+            } else if (!is(LABEL, value.charAt(i))) {
+                return false;
+            }
+        }
+        return labels >= 2;
+    }
+
+    private static boolean isLabel(final CharSequence value, final int from, final int to) {
+        return to > from && value.charAt(from) != '-' && value.charAt(to - 1) != '-';
+    }
+
+    private static boolean isAddressLiteral(final CharSequence value, final int from, final int length) {
+        if (length - from < 2 || value.charAt(length - 1) != ']') {
+            return false;
+        }
+        final int end = length - 1;
+        int i = from;
+        for (int octet = 0; octet < 3; octet++) {
+            final int dot = digitsEnd(value, i, end);
+            if (dot >= end || value.charAt(dot) != '.' || !isOctet(value, i, dot)) {
+                return false;
+            }
+            i = dot + 1;
+        }
+        if (digitsEnd(value, i, end) == end && isOctet(value, i, end)) {
+            return true;
+        }
+        return isTaggedLiteral(value, i, end);
+    }
+
+    private static boolean isTaggedLiteral(final CharSequence value, final int from, final int end) {
+        int colon = from;
+        while (colon < end && is(LABEL, value.charAt(colon))) {
+            colon++;
+        }
+        if (colon == from || colon >= end || value.charAt(colon) != ':' || value.charAt(colon - 1) == '-') {
+            return false;
+        }
+        if (colon + 1 == end) {
+            return false;
+        }
+        for (int i = colon + 1; i < end; i++) {
+            final char c = value.charAt(i);
+            if (!is(LITERAL_TEXT, c) && !((c == '\t' || c == ' ') && value.charAt(i - 1) == '\\' && i - 1 > colon)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digitsEnd(final CharSequence value, final int from, final int end) {
+        int i = from;
+        while (i < end && isDigit(value.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isOctet(final CharSequence value, final int from, final int to) {
+        final int digits = to - from;
+        if (digits < 1 || digits > 3) {
+            return false;
+        }
+        int octet = 0;
+        for (int i = from; i < to; i++) {
+            octet = octet * 10 + (value.charAt(i) - '0');
+        }
+        return octet <= 255;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean is(final boolean[] table, final char c) {
+        return c < ASCII && table[c];
+    }
+
+    private static void mark(final boolean[] table, final int from, final int to) {
+        for (int c = from; c <= to; c++) {
+            table[c] = true;
+        }
+    }
+}
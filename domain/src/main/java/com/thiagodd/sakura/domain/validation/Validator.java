@@ -8,14 +8,8 @@ public abstract class Validator {
         this.handler = handler;
     }
 
-    protected void validateField(String fieldName, String value, int minLength, int maxLength){
-        if (value == null) {
-            this.validationHandler().append(new Error("'" + fieldName + "' should not be null"));
-        } else if (value.isBlank()){
-            this.validationHandler().append(new Error("'" + fieldName + "' should not be empty"));
-        } else if (value.trim().length() < minLength || value.trim().length() > maxLength) {
-            this.validationHandler().append(new Error("'" + fieldName + "' length should be between " + minLength + " and " + maxLength + " characters"));
-        }
+    protected void validateField(final FieldLength field, final String value) {
+        field.check(value, this.validationHandler());
     }
 
     public abstract void validate();
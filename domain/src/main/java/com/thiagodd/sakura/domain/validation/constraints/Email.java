@@ -0,0 +1,15 @@
+package com.thiagodd.sakura.domain.validation.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** RFC 5322 address, as accepted by {@link com.thiagodd.sakura.domain.validation.Formats#isEmail(CharSequence)}. */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Email {
+
+    /** Error message; defaults to {@code "'<field>' is in an invalid format"}. */
+    String message() default "";
+}
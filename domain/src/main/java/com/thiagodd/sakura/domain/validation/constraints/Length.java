@@ -0,0 +1,19 @@
+package com.thiagodd.sakura.domain.validation.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Length of the text once leading and trailing whitespace is ignored. A {@code null} value is skipped unless the
+ * field is also {@link Required}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Length {
+
+    int min() default 0;
+
+    int max() default Integer.MAX_VALUE;
+}
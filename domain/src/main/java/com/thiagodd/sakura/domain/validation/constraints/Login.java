@@ -0,0 +1,15 @@
+package com.thiagodd.sakura.domain.validation.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Letters, digits, dots, underscores and hyphens, as accepted by {@link com.thiagodd.sakura.domain.validation.Formats#isLogin(CharSequence)}. */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Login {
+
+    /** Error message; defaults to {@code "'<field>' is in an invalid format"}. */
+    String message() default "";
+}
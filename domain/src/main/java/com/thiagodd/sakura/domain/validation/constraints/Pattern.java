@@ -0,0 +1,17 @@
+package com.thiagodd.sakura.domain.validation.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** The whole text must match the regular expression, which is compiled once per generated validator. */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Pattern {
+
+    String regexp();
+
+    /** Error message; defaults to {@code "'<field>' is in an invalid format"}. */
+    String message() default "";
+}
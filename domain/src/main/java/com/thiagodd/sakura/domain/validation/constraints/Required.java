@@ -0,0 +1,15 @@
+package com.thiagodd.sakura.domain.validation.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The field must not be {@code null} and, for text, must not be blank. Also makes the format constraints of the
+ * field report a {@code null} value instead of skipping it.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Required {
+}
@@ -7,20 +7,23 @@ import com.thiagodd.sakura.domain.validation.ValidationHandler;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Collects every error instead of stopping at the first. The error list is only allocated when the first error is
+ * appended, so a notification that stays empty costs a single small object.
+ */
 public class Notification  implements ValidationHandler {
 
-    private final List<Error> errors;
+    private List<Error> errors;
 
-    private Notification(final List<Error> errors) {
-        this.errors = errors;
+    private Notification() {
     }
 
     public static Notification create() {
-        return new Notification(new ArrayList<>());
+        return new Notification();
     }
 
     public static Notification create(final Error error){
-        return new Notification(new ArrayList<>()).append(error);
+        return new Notification().append(error);
     }
 
     public static Notification create(final Throwable throwable) {
@@ -29,13 +32,20 @@ public class Notification  implements ValidationHandler {
 
     @Override
     public Notification append(Error error) {
+        if (this.errors == null) {
+            this.errors = new ArrayList<>();
+        }
         this.errors.add(error);
         return this;
     }
 
     @Override
     public Notification append(ValidationHandler handler) {
-        this.errors.addAll(handler.getErrors());
+        if (handler.hasError()) {
+            for (final var error : handler.getErrors()) {
+                append(error);
+            }
+        }
         return this;
     }
 
@@ -44,9 +54,9 @@ public class Notification  implements ValidationHandler {
         try{
             validation.validate();
         }catch (final DomainException exception){
-            this.errors.addAll(exception.getErrors());
+            appendAll(exception);
         }catch (final Throwable throwable){
-            this.errors.add(new Error(throwable.getMessage()));
+            append(new Error(throwable.getMessage()));
         }
 
         return this;
@@ -54,6 +64,17 @@ public class Notification  implements ValidationHandler {
 
     @Override
     public List<Error> getErrors() {
-        return this.errors;
+        return this.errors == null ? List.of() : this.errors;
+    }
+
+    @Override
+    public boolean hasError() {
+        return this.errors != null && !this.errors.isEmpty();
+    }
+
+    private void appendAll(final DomainException exception) {
+        for (final var error : exception.getErrors()) {
+            append(error);
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.thiagodd.sakura.domain.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorStreamTest {
+
+    private final List<Integer> source = IntStream.range(0, 95).boxed().toList();
+    private final List<CursorQuery> fetched = new ArrayList<>();
+
+    private final Function<CursorQuery, CursorPagination<Integer>> fetch = query -> {
+        fetched.add(query);
+        final var from = query.cursor() == null ? 0 : Integer.parseInt(query.cursor());
+        final var to = Math.min(from + query.perPage(), source.size());
+        final var next = to < source.size() ? String.valueOf(to) : null;
+        return new CursorPagination<>(query.perPage(), next, source.subList(from, to));
+    };
+
+    @Test
+    public void givenAFullConsumer_whenCallStream_thenFetchEveryChunkOnce() {
+        final var actualItems = CursorStream.of(CursorQuery.first(10, null, "name", "asc"), fetch).toList();
+
+        assertEquals(source, actualItems);
+        assertEquals(10, fetched.size());
+    }
+
+    @Test
+    public void givenALimitedConsumer_whenCallStream_thenFetchOnlyTheChunksDemanded() {
+        final var actualItems = CursorStream.of(CursorQuery.first(10, null, "name", "asc"), fetch).limit(15).toList();
+
+        assertEquals(15, actualItems.size());
+        assertEquals(2, fetched.size());
+    }
+
+    @Test
+    public void givenAClosedStream_whenCallAdvance_thenStopFetching() {
+        final var stream = CursorStream.of(CursorQuery.first(10, null, "name", "asc"), fetch);
+        final var iterator = stream.iterator();
+        iterator.next();
+
+        stream.close();
+
+        assertFalse(iterator.hasNext());
+        assertEquals(1, fetched.size());
+    }
+}
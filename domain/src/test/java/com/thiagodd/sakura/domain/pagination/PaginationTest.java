@@ -0,0 +1,60 @@
+package com.thiagodd.sakura.domain.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginationTest {
+
+    @Test
+    public void givenAPage_whenCallMapTwice_thenReturnFusedViewWithoutCallingMappersUpFront() {
+        final var calls = new AtomicInteger();
+        final var page = new Pagination<>(0, 3, 10, List.of(1, 2, 3));
+
+        final var actualPage = page
+            .map(i -> {
+                calls.incrementAndGet();
+                return i * 10;
+            })
+            .map(Object::toString);
+
+        assertEquals(0, calls.get());
+        assertEquals(List.of("10", "20", "30"), actualPage.items());
+        assertEquals("20", actualPage.items().get(1));
+        assertEquals(4, calls.get());
+        assertEquals(10, actualPage.total());
+        assertThrows(UnsupportedOperationException.class, () -> actualPage.items().add("40"));
+    }
+
+    @Test
+    public void givenAPage_whenCallMapMemoized_thenMapEachItemAtMostOnce() {
+        final var calls = new AtomicInteger();
+        final var page = new Pagination<>(0, 3, 3, new LinkedList<>(List.of(1, 2, 3)));
+
+        final var actualPage = page.mapMemoized(i -> {
+            calls.incrementAndGet();
+            return i + 1;
+        });
+        actualPage.items().get(2);
+        actualPage.writeTo(i -> {});
+        actualPage.writeTo(i -> {});
+
+        assertEquals(List.of(2, 3, 4), actualPage.items());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void givenAMappedPage_whenCallWriteTo_thenSinkReceivesItemsInOrder() {
+        final var page = new Pagination<>(0, 3, 3, List.of("a", "b", "c"));
+        final var actualItems = new ArrayList<String>();
+
+        page.map(String::toUpperCase).writeTo(actualItems::add);
+
+        assertEquals(List.of("A", "B", "C"), actualItems);
+    }
+}
@@ -0,0 +1,96 @@
+package com.thiagodd.sakura.domain.patient;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateDetectorTest {
+
+    @Test
+    public void givenAnotherSpellingOrASwappedSocialName_whenCallFindLikelyDuplicates_thenMatchTheStoredPatient() {
+        final var stored =
+            newPatient("Maria da Conceição Souza", "Joana Souza", LocalDate.of(1985, 3, 2), "maria@x.com");
+        final var namesake = newPatient("Maria da Conceição Souza", null, LocalDate.of(1962, 7, 30), "outra@x.com");
+        final var detector = DuplicateDetector.create().addAll(List.of(stored, namesake));
+
+        final var bySpelling = detector.findLikelyDuplicates(
+            newPatient("Maria Conceicao Sousa", null, LocalDate.of(1985, 3, 2), "m.souza@x.com"));
+        final var bySocialName = detector.findLikelyDuplicates(
+            newPatient("Joana Souza", null, LocalDate.of(1985, 2, 3), "Maria+admissao@x.com"));
+
+        assertEquals(List.of(stored.getId()), bySpelling.stream().map(PatientMatch::id).toList());
+        assertEquals(List.of(stored.getId()), bySocialName.stream().map(PatientMatch::id).toList());
+        assertTrue(detector.findLikelyDuplicates(stored).stream()
+            .noneMatch(match -> match.id().equals(stored.getId())));
+    }
+
+    @Test
+    public void givenARemovedOrUpdatedPatient_whenCallFindLikelyDuplicates_thenUseWhatIsFiledNow() {
+        final var stored = newPatient("Thiago Ramos", null, LocalDate.of(1990, 5, 15), "thiago@x.com");
+        final var detector = DuplicateDetector.create().add(stored);
+        final var probe = newPatient("Tiago Ramos", null, LocalDate.of(1990, 5, 15), "tiago@x.com");
+
+        assertEquals(1, detector.findLikelyDuplicates(probe).size());
+        detector.add(Patient.with(stored).update(
+            "Thiago Ramos", null, LocalDate.of(1971, 1, 9), "thiago@x.com", null, true, Sex.MALE));
+        assertTrue(detector.findLikelyDuplicates(probe).isEmpty());
+        detector.remove(stored.getId());
+        assertEquals(0, detector.size());
+    }
+
+    @Test
+    public void givenStreamedCandidates_whenCallFindLikelyDuplicates_thenMatchLikeFiledOnesWithoutFilingThem() {
+        final var stored =
+            newPatient("Maria da Conceição Souza", "Joana Souza", LocalDate.of(1985, 3, 2), "maria@x.com");
+        final var namesake = newPatient("Maria da Conceição Souza", null, LocalDate.of(1962, 7, 30), "outra@x.com");
+        final var stranger = newPatient("Pedro Alves", null, LocalDate.of(1970, 1, 1), "pedro@x.com");
+        final var candidates = List.of(stored, namesake, stranger);
+        final var probe = newPatient("Maria Conceicao Sousa", null, LocalDate.of(1985, 3, 2), "m.souza@x.com");
+        final var detector = DuplicateDetector.create();
+
+        final var streamed = detector.findLikelyDuplicates(probe, candidates.stream());
+        final var filed = DuplicateDetector.create().addAll(candidates).findLikelyDuplicates(probe);
+
+        assertEquals(filed, streamed);
+        assertEquals(List.of(stored.getId()), streamed.stream().map(PatientMatch::id).toList());
+        assertEquals(0, detector.size());
+        assertEquals("MR S", DuplicateDetector.nameKeyOf("Maria da Conceição Souza"));
+        assertEquals("mariasouza", DuplicateDetector.emailLocalOf("Maria.Souza+admissao@x.com"));
+    }
+
+    @Test
+    public void givenABaseWithDuplicates_whenCallFindAllDuplicates_thenReportEachPairOnceWhateverThePool() {
+        final var patients = new ArrayList<Patient>();
+        final var expectedPairs = new ArrayList<List<PatientID>>();
+        for (int i = 0; i < 2_000; i++) {
+            final var dateOfBirth = LocalDate.of(1950, 1, 1).plusDays(i * 7L);
+            final var original = newPatient("Paciente Conceição " + i, null, dateOfBirth, "paciente" + i + "@x.com");
+            patients.add(original);
+            if (i % 10 == 0) {
+                final var copy = newPatient("Paciente Conceicao " + i, null, dateOfBirth, "paciente" + i + "@y.com");
+                patients.add(copy);
+                expectedPairs.add(List.of(original.getId(), copy.getId()).stream().sorted().toList());
+            }
+        }
+
+        final var parallel = DuplicateDetector.create().addAll(patients).findAllDuplicates();
+        final var sequential = DuplicateDetector.create().on(new ForkJoinPool(1)).addAll(patients).findAllDuplicates();
+
+        final var actualPairs = parallel.stream().map(pair -> List.of(pair.first(), pair.second())).toList();
+
+        assertEquals(expectedPairs.size(), parallel.size());
+        assertTrue(actualPairs.containsAll(expectedPairs));
+        assertEquals(parallel, sequential);
+    }
+
+    private static Patient newPatient(
+        final String name, final String socialName, final LocalDate dateOfBirth, final String email
+    ) {
+        return Patient.newPatient(name, socialName, dateOfBirth, email, null, true, Sex.FEMALE);
+    }
+}
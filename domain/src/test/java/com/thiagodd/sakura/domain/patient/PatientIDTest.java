@@ -0,0 +1,64 @@
+package com.thiagodd.sakura.domain.patient;
+
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatientIDTest {
+
+    @Test
+    public void givenConsecutiveCalls_whenCallUnique_thenReturnTimeOrderedVersion7Ids() {
+        var previous = PatientID.unique();
+
+        for (int i = 0; i < 100_000; i++) {
+            final var actualID = PatientID.unique();
+
+            assertTrue(actualID.compareTo(previous) > 0);
+            assertTrue(actualID.getValue().compareTo(previous.getValue()) > 0);
+            assertEquals(7, actualID.toUUID().version());
+            assertEquals(2, actualID.toUUID().variant());
+            previous = actualID;
+        }
+    }
+
+    @Test
+    public void givenAnUUIDString_whenCallFrom_thenKeepTheSameValue() {
+        final var expectedUUID = UUID.randomUUID();
+        final var expectedValue = expectedUUID.toString();
+
+        final var actualFromString = PatientID.from(expectedValue);
+        final var actualFromUUID = PatientID.from(expectedUUID);
+
+        assertEquals(expectedValue, actualFromString.getValue());
+        assertEquals(actualFromUUID, actualFromString);
+        assertEquals(actualFromUUID.hashCode(), actualFromString.hashCode());
+        assertEquals(expectedUUID, actualFromString.toUUID());
+    }
+
+    @Test
+    public void givenANullString_whenCallFrom_thenThrowNullPointerException() {
+        final var expectedErrorMessage = "'id' should not be null";
+
+        final var actualException = assertThrows(NullPointerException.class, () -> PatientID.from((String) null));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAMalformedOrUpperCaseString_whenCallFrom_thenRejectOrReadBackInLowerCase() {
+        final var expectedUUID = UUID.randomUUID();
+
+        final var actualUpperCase = PatientID.from(expectedUUID.toString().toUpperCase());
+        final var actualError = assertThrows(DomainException.class, () -> PatientID.from("not-an-id"));
+
+        assertEquals(expectedUUID.toString(), actualUpperCase.getValue());
+        assertEquals("'id' should be a valid UUID", actualError.getMessage());
+        assertTrue(PatientID.tryFrom("1-1-1-1-1").isEmpty());
+        assertTrue(PatientID.tryFrom(expectedUUID.toString().replace('-', '+')).isEmpty());
+        assertTrue(PatientID.tryFrom("\u0661" + expectedUUID.toString().substring(1)).isEmpty());
+        assertThrows(DomainException.class, () -> PatientID.from("\uff11" + expectedUUID.toString().substring(1)));
+    }
+}
@@ -5,7 +5,11 @@ import com.thiagodd.sakura.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -281,4 +285,58 @@ class PatientTest {
         assertTrue(actualPatient.getUpdatedAt().isAfter(updatedAt));
         assertNotNull(actualPatient.getDeletedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenAPatient_whenChangingIt_thenRecordEventsUntilPulled() {
+        final var patient = Patient.newPatient(
+            "João da Silva", null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE);
+
+        final var createdEvents = patient.pullEvents();
+        patient.deactivate().deactivate();
+        final var copy = patient.clone();
+        patient.activate();
+
+        assertEquals(List.of(PatientCreated.class), createdEvents.stream().map(Object::getClass).toList());
+        assertEquals(patient.getId(), createdEvents.get(0).aggregateId());
+        assertEquals(List.of(PatientDeactivated.class), copy.pullEvents().stream().map(Object::getClass).toList());
+        assertEquals(List.of(PatientDeactivated.class, PatientActivated.class),
+            patient.pullEvents().stream().map(Object::getClass).toList());
+        assertTrue(patient.pullEvents().isEmpty());
+        assertTrue(Patient.with(patient).update(patient).pullEvents().isEmpty());
+    }
+
+    @Test
+    public void givenALoadedPatient_whenCallUpdate_thenTrackOnlyTheChangedFields() {
+        final var patient = Patient.with(Patient.newPatient(
+            "João da Silva", null, LocalDate.of(1990, 5, 15), "joao@example.com", "Longa observação", true, Sex.MALE));
+        patient.markClean();
+        final var updatedAt = patient.getUpdatedAt();
+
+        patient.update("João da Silva", null, LocalDate.of(1990, 5, 15), "joao@example.com", "Longa observação", true, Sex.MALE)
+            .activate();
+
+        assertFalse(patient.hasChanges());
+        assertEquals(updatedAt, patient.getUpdatedAt());
+        assertTrue(patient.pullEvents().isEmpty());
+
+        patient.update("João Souza", null, LocalDate.of(1990, 5, 15), "joao@example.com", "Longa observação", true, Sex.MALE);
+
+        assertEquals(Set.of(PatientField.NAME, PatientField.UPDATED_AT), patient.changedFields());
+        assertEquals(List.of(PatientUpdated.class), patient.pullEvents().stream().map(Object::getClass).toList());
+        assertEquals(EnumSet.allOf(PatientField.class), Patient.newPatient(
+            "Maria", null, null, "maria@example.com", null, true, Sex.FEMALE).changedFields());
+    }
+
+    @Test
+    public void givenAPatientBuiltFromValues_whenCallHasChanges_thenEveryFieldIsChangedUntilMarkedClean() {
+        final var patient = Patient.with(PatientID.unique(), "Maria", null, null, "maria@example.com", null, true,
+            Sex.FEMALE, Instant.now(), Instant.now(), null, 3);
+
+        final var copy = Patient.with(patient);
+        patient.markClean();
+
+        assertEquals(EnumSet.allOf(PatientField.class), copy.changedFields());
+        assertFalse(patient.hasChanges());
+        assertFalse(Patient.with(patient).hasChanges());
+    }
+}
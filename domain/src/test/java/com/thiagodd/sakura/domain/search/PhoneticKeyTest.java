@@ -0,0 +1,41 @@
+package com.thiagodd.sakura.domain.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhoneticKeyTest {
+
+    @Test
+    public void givenSpellingsThatSoundAlike_whenCallOf_thenReturnTheSameKey() {
+        final var sameSound = List.of(
+            List.of("Conceição", "Conceicao", "Consseisão"),
+            List.of("Souza", "Sousa"),
+            List.of("Thiago", "Tiago"),
+            List.of("Luiz", "Luis"),
+            List.of("Felipe", "Phelipe", "Fellipe"),
+            List.of("Helena", "Elena"),
+            List.of("Kátia", "Cátia"),
+            List.of("Guilherme", "Guilerme"),
+            List.of("Joaquim", "Joaquin"),
+            List.of("Walter", "Valter")
+        );
+
+        for (final var spellings : sameSound) {
+            final var expectedKey = PhoneticKey.of(spellings.get(0));
+            spellings.forEach(spelling -> assertEquals(expectedKey, PhoneticKey.of(spelling), spelling));
+        }
+        assertNotEquals(PhoneticKey.of("Silva"), PhoneticKey.of("Souza"));
+    }
+
+    @Test
+    public void givenAFullName_whenCallWords_thenKeyEveryWordButConnectives() {
+        final var actualWords = PhoneticKey.words("Maria  da Conceição dos Santos");
+
+        assertEquals(List.of("MR", "KNS", "SNTS"), actualWords);
+        assertEquals("MR KNS SNTS", PhoneticKey.of("MARIA DA CONCEICAO DOS SANTOS"));
+        assertEquals(List.of(), PhoneticKey.words(null));
+    }
+}
@@ -0,0 +1,48 @@
+package com.thiagodd.sakura.domain.user;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthoritiesTest {
+
+    @Test
+    public void givenAStoredString_whenCallFrom_thenParseKnownNamesInAnyCaseAndSkipTheRest() {
+        final var expectedAuthorities = Set.of(Authority.ROLE_USER, Authority.ROLE_ADMIN, Authority.ROLE_DOCTOR);
+
+        final var actualAuthorities = Authorities.from(" role_admin,ROLE_USER  ROLE_UNKNOWN,,ROLE_DOCTOR ");
+
+        assertEquals(expectedAuthorities, actualAuthorities.toSet());
+        assertEquals("ROLE_USER,ROLE_ADMIN,ROLE_DOCTOR", actualAuthorities.toString());
+        assertEquals(actualAuthorities, Authorities.from(actualAuthorities.toString()));
+        assertTrue(Authorities.from(null).isEmpty());
+        assertTrue(Authorities.from("ROLE_UNKNOWN").isEmpty());
+    }
+
+    @Test
+    public void givenAuthorities_whenCallHasAuthorityAnyOrAll_thenCompareTheSets() {
+        final var authorities = Authorities.of(Authority.ROLE_USER, Authority.ROLE_NURSE);
+        final var staff = Authorities.of(Authority.ROLE_DOCTOR, Authority.ROLE_NURSE);
+
+        assertTrue(authorities.hasAuthority(Authority.ROLE_NURSE));
+        assertFalse(authorities.hasAuthority(Authority.ROLE_ADMIN));
+        assertTrue(authorities.hasAny(staff));
+        assertFalse(authorities.hasAll(staff));
+        assertTrue(authorities.with(Authority.ROLE_DOCTOR).hasAll(staff));
+        assertFalse(authorities.without(Authority.ROLE_NURSE).hasAny(staff));
+        assertTrue(authorities.hasAll(Authorities.none()));
+    }
+
+    @Test
+    public void givenAUser_whenCallUpdateWithOtherAuthorities_thenGrantedAuthoritiesFollowTheStoredString() {
+        final var user = User.newUser("Maria", "Souza", "maria.souza", "maria@example.com", null, true, "ROLE_USER");
+
+        user.update("Maria", "Souza", "maria.souza", "maria@example.com", null, true, "ROLE_USER,ROLE_ADMIN");
+
+        assertEquals("ROLE_USER,ROLE_ADMIN", user.getAuthorities());
+        assertTrue(user.hasAuthority(Authority.ROLE_ADMIN));
+        assertTrue(User.with(user).hasAuthority(Authority.ROLE_ADMIN));
+    }
+}
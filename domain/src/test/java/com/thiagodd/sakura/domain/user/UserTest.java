@@ -0,0 +1,41 @@
+package com.thiagodd.sakura.domain.user;
+
+import com.thiagodd.sakura.domain.validation.Error;
+import com.thiagodd.sakura.domain.validation.handler.Notification;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserTest {
+
+    @Test
+    public void givenAShortLastNameAndAValidLogin_whenCallValidate_thenReportTheLastName() {
+        final var expectedMessage = "'lastName' length should be between 3 and 255 characters";
+        final var user = User.newUser("João", "Si", "joao.silva", "joao@example.com", null, true, "ROLE_USER");
+
+        final var actualNotification = Notification.create();
+        user.validate(actualNotification);
+
+        assertEquals(List.of(expectedMessage), actualNotification.getErrors().stream().map(Error::message).toList());
+    }
+
+    @Test
+    public void givenEveryFieldInvalid_whenCallValidate_thenReportErrorsInDeclarationOrder() {
+        final var expectedMessages = List.of(
+            "'firstName' should not be null",
+            "'lastName' should not be empty",
+            "'email' length should be between 3 and 255 characters",
+            "'email' is in an invalid format",
+            "'login' should not be null",
+            "'username' can only contain letters, numbers, dots, underscores, and hyphens"
+        );
+        final var user = User.newUser(null, "   ", null, "a", null, true, "ROLE_USER");
+
+        final var actualNotification = Notification.create();
+        UserValidator.validate(user, actualNotification);
+
+        assertEquals(expectedMessages, actualNotification.getErrors().stream().map(Error::message).toList());
+    }
+}
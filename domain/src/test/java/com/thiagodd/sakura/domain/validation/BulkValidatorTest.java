@@ -0,0 +1,78 @@
+package com.thiagodd.sakura.domain.validation;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.Sex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkValidatorTest {
+
+    @Test
+    public void givenValidAndInvalidPatients_whenCallValidateCollectingAll_thenReturnErrorsOnlyForInvalidOnes() {
+        final var patients = patients(10_000, 100);
+        final var expectedValidCount = 9_900;
+        final var expectedInvalidCount = 100;
+        final var invalid = patients.get(0);
+
+        final var actualResult = BulkValidator.create().batchSize(64).validate(patients);
+
+        assertTrue(actualResult.complete());
+        assertEquals(expectedValidCount, actualResult.validCount());
+        assertEquals(expectedInvalidCount, actualResult.invalidCount());
+        assertEquals("'name' should not be null", actualResult.errorsOf(invalid.getId()).get(0).message());
+        assertTrue(actualResult.errorsOf(patients.get(1).getId()).isEmpty());
+    }
+
+    @Test
+    public void givenInvalidPatients_whenCallValidateFailFast_thenReportOnlyTheFirstInvalid() {
+        final var patients = patients(10_000, 100);
+
+        final var actualResult = BulkValidator.create().failFast().validate(patients.stream());
+
+        assertFalse(actualResult.complete());
+        assertEquals(1, actualResult.invalidCount());
+    }
+
+    @Test
+    public void givenInvalidPatientsInManyBatches_whenCallValidateFailFast_thenReportTheFirstInInputOrder() {
+        final var patients = patients(10_000, 1_000);
+        final var patientsFromTheEnd = new ArrayList<>(patients.subList(1, patients.size()));
+        patientsFromTheEnd.add(patients.get(0));
+        final var expectedId = patientsFromTheEnd.get(999).getId();
+        final var validator = BulkValidator.create().batchSize(1).failFast();
+
+        for (int run = 0; run < 20; run++) {
+            final var actualResult = validator.validate(patientsFromTheEnd);
+
+            assertEquals(1, actualResult.invalidCount());
+            assertFalse(actualResult.errorsOf(expectedId).isEmpty());
+        }
+    }
+
+    @Test
+    public void givenInvalidPatients_whenCallValidateWithMaxErrors_thenStopAfterTheLimit() {
+        final var patients = patients(10_000, 100);
+        final var expectedMaxErrors = 10;
+
+        final var actualResult = BulkValidator.create().batchSize(64).maxErrors(expectedMaxErrors).validate(patients);
+
+        final var actualErrors = actualResult.errors().values().stream().mapToInt(List::size).sum();
+        assertFalse(actualResult.complete());
+        assertEquals(expectedMaxErrors, actualErrors);
+    }
+
+    private static List<Patient> patients(final int total, final int everyInvalid) {
+        final var patients = new ArrayList<Patient>(total);
+        for (int i = 0; i < total; i++) {
+            final var name = i % everyInvalid == 0 ? null : "João da Silva";
+            patients.add(Patient.newPatient(
+                name, "João", LocalDate.of(1990, 5, 15), "joao.silva@example.com", "", true, Sex.MALE));
+        }
+        return patients;
+    }
+}
@@ -0,0 +1,72 @@
+package com.thiagodd.sakura.domain.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormatsTest {
+
+    private static final Pattern EMAIL = Pattern.compile("(?:[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*|\"(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])*\")@(?:(?:[a-z0-9](?:[a-z0-9-]*[a-z0-9])?\\.)+[a-z0-9](?:[a-z0-9-]*[a-z0-9])?|\\[(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?|[a-z0-9-]*[a-z0-9]:(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])+)])", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LOGIN = Pattern.compile("[a-zA-Z0-9._-]+");
+
+    private static final String ALPHABET = "aZ09.-_@\"\\[]:\t \u0000\u007f\u00e7!#2515x";
+    private static final String[] FRAGMENTS = {
+        "a", "b.", "@", "\"", "\\", "[", "]", ":", "1.", "25", "255", "256", ".", "-", "x-y", ".com", "\t", " ",
+        "\"\\\t", "1.2.3.", "IPv6:", "0", "9", "é", "\n", "\u007f", "a@b.c", "[1.2.3.4]"
+    };
+
+    @Test
+    public void givenKnownEmails_whenCallIsEmail_thenMatchRegex() {
+        final var emails = new String[]{
+            "Joao.silva@example.com", "joaosilva@example.com.br", "a@b.c", "a@b", "a..b@c.d", ".a@b.c", "a.@b.c",
+            "\"john doe\"@example.com", "\"a\\\"b\"@x.y", "\"unterminated@x.y", "user@-example.com", "user@example-.com",
+            "user@[192.168.0.1]", "user@[256.1.1.1]", "user@[1.2.3.099]", "user@[1.2.3.IPv6:abc]", "user@[1.2.3.a-:x]",
+            "user@[1.2.3.tag:\\ x]", "user@[1.2.3.tag: x]", "user@[1.2.3.tag:]]", "user@[1.2.3.4", "JOSÉ@example.com",
+            "", "@", "plain", "user@ex ample.com", "user@example..com"
+        };
+
+        for (final var email : emails) {
+            assertEquals(EMAIL.matcher(email).matches(), Formats.isEmail(email), email);
+        }
+    }
+
+    @Test
+    public void givenRandomInputs_whenCallIsEmailAndIsLogin_thenMatchRegex() {
+        final var random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            final var value = randomInput(random);
+
+            assertEquals(EMAIL.matcher(value).matches(), Formats.isEmail(value), value);
+            assertEquals(LOGIN.matcher(value).matches(), Formats.isLogin(value), value);
+        }
+    }
+
+    @Test
+    public void givenANullValue_whenCallFormats_thenReturnFalse() {
+        assertFalse(Formats.isEmail(null));
+        assertFalse(Formats.isLogin(null));
+    }
+
+    private static String randomInput(final Random random) {
+        final var builder = new StringBuilder();
+        switch (random.nextInt(4)) {
+            case 0 -> builder.append("ab@");
+            case 1 -> builder.append("x@[1.22.255.");
+            default -> {
+            }
+        }
+        final var length = random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            if (random.nextBoolean()) {
+                builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            } else {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+        }
+        return builder.toString();
+    }
+}
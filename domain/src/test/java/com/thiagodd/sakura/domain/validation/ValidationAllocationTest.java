@@ -0,0 +1,88 @@
+package com.thiagodd.sakura.domain.validation;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.domain.user.User;
+import com.thiagodd.sakura.domain.validation.handler.Notification;
+import com.thiagodd.sakura.domain.validation.handler.ThrowsValidationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationAllocationTest {
+
+    private static final int ITERATIONS = 200_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    public void givenAValidPatient_whenCallValidate_thenAllocateNothing() {
+        final var patient = Patient.newPatient(
+            "  João da Silva  ", "João", LocalDate.of(1990, 5, 15), "joao.silva@example.com", null, true, Sex.MALE);
+        final var notification = Notification.create();
+        final var throwing = new ThrowsValidationHandler();
+
+        final var actualBytes = bytesPerCall(() -> {
+            patient.validate(notification);
+            patient.validate(throwing);
+        });
+
+        assertFalse(notification.hasError());
+        assertEquals(0, actualBytes);
+    }
+
+    @Test
+    public void givenAValidUser_whenCallValidate_thenAllocateNothing() {
+        final var user = User.newUser("Maria", "Souza", "maria.souza", "maria@example.com", null, true, "ROLE_USER");
+        final var notification = Notification.create();
+
+        final var actualBytes = bytesPerCall(() -> user.validate(notification));
+
+        assertFalse(notification.hasError());
+        assertEquals(0, actualBytes);
+    }
+
+    @Test
+    public void givenAnInvalidPatient_whenCallValidate_thenReportTheSameMessagesAsBefore() {
+        final var patient = Patient.newPatient("  Jo  ", null, null, "not-an-email", null, true, Sex.MALE);
+        final var notification = Notification.create();
+
+        patient.validate(notification);
+
+        assertEquals(2, notification.getErrors().size());
+        assertEquals("'name' length should be between 3 and 255 characters", notification.getErrors().get(0).message());
+        assertEquals("'email' is in an invalid format", notification.getErrors().get(1).message());
+        assertEquals(0, FieldLength.trimmedLength(" \t "));
+        assertEquals(" a b ".trim().length(), FieldLength.trimmedLength(" a b "));
+    }
+
+    private long bytesPerCall(final Runnable validation) {
+        assumeAllocationCounting();
+        for (int i = 0; i < ITERATIONS; i++) {
+            validation.run();
+        }
+        final long baseline = allocatedBytes();
+        final long calibration = allocatedBytes() - baseline;
+        final long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            validation.run();
+        }
+        final long allocated = allocatedBytes() - before - calibration;
+        return Math.max(0, allocated) / ITERATIONS;
+    }
+
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private void assumeAllocationCounting() {
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        assertTrue(threads.isThreadAllocatedMemorySupported());
+    }
+}
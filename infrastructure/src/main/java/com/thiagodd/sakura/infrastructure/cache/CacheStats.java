@@ -0,0 +1,13 @@
+package com.thiagodd.sakura.infrastructure.cache;
+
+public record CacheStats(long hits, long misses, long evictions) {
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        final var requests = requests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,73 @@
+package com.thiagodd.sakura.infrastructure.cache;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one: the first caller runs the loader and every caller that
+ * arrives while it is running waits for that result instead of starting its own. Nothing is kept once the load
+ * finishes, so this is not a cache; a failed load fails every caller that joined it. Results are shared, so load
+ * values that callers cannot mutate or copy them on the way out.
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    public V load(final K key, final Supplier<V> loader) {
+        Objects.requireNonNull(key, "'key' should not be null");
+        final var flight = new CompletableFuture<V>();
+        final var running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            collapsed.increment();
+            return join(running);
+        }
+
+        loads.increment();
+        final V value;
+        try {
+            value = loader.get();
+        } catch (final RuntimeException | Error exception) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(exception);
+            throw exception;
+        }
+        // Leave the map before completing, so a call arriving after the outcome starts a new load.
+        flights.remove(key, flight);
+        flight.complete(value);
+        return value;
+    }
+
+    /** Lets the next load of {@code key} start a new flight; callers already waiting keep the running one. */
+    public void forget(final K key) {
+        flights.remove(key);
+    }
+
+    public void forgetAll() {
+        flights.clear();
+    }
+
+    public SingleFlightStats stats() {
+        return new SingleFlightStats(loads.sum(), collapsed.sum());
+    }
+
+    private static <V> V join(final CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (exception.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        }
+    }
+}
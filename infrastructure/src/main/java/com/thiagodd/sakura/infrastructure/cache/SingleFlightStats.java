@@ -0,0 +1,17 @@
+package com.thiagodd.sakura.infrastructure.cache;
+
+public record SingleFlightStats(long loads, long collapsed) {
+
+    public long requests() {
+        return loads + collapsed;
+    }
+
+    public double collapseRate() {
+        final var requests = requests();
+        return requests == 0 ? 0.0 : (double) collapsed / requests;
+    }
+
+    public SingleFlightStats plus(final SingleFlightStats other) {
+        return new SingleFlightStats(loads + other.loads, collapsed + other.collapsed);
+    }
+}
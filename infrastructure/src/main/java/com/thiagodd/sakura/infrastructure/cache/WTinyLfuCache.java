@@ -0,0 +1,293 @@
+package com.thiagodd.sakura.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache with W-TinyLFU eviction: new entries enter a small LRU window (1% of the capacity), and an entry
+ * leaving the window only displaces the least recently used entry of the probation segment when the frequency
+ * sketch has seen it more often. Probation hits are promoted to the protected segment (80% of the main space).
+ * <p>
+ * Lookups read the map without locking. Reordering on a hit only happens when the policy lock is free; under
+ * contention that bookkeeping is dropped, which costs some accuracy but never blocks a reader. Writes use
+ * {@link #stamp(Object)} and {@link #putIfCurrent(Object, Object, long)} so that a value loaded before an
+ * {@link #invalidate(Object)} is never published after it.
+ */
+public final class WTinyLfuCache<K, V> {
+
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+    private static final byte REMOVED = 3;
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AccessQueue<K, V> window = new AccessQueue<>();
+    private final AccessQueue<K, V> probation = new AccessQueue<>();
+    private final AccessQueue<K, V> protectedQueue = new AccessQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final FrequencySketch sketch;
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final long timeToLiveNanos;
+    private final LongSupplier ticker;
+
+    public WTinyLfuCache(final int maximumSize) {
+        this(maximumSize, Duration.ZERO, System::nanoTime);
+    }
+
+    public WTinyLfuCache(final int maximumSize, final Duration timeToLive, final LongSupplier ticker) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("'maximumSize' should be greater than zero");
+        }
+        Objects.requireNonNull(timeToLive, "'timeToLive' should not be null");
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("'timeToLive' should not be negative");
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.ticker = Objects.requireNonNull(ticker, "'ticker' should not be null");
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    public V get(final K key) {
+        final var node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(node)) {
+            misses.increment();
+            policyLock.lock();
+            try {
+                if (data.remove(key, node)) {
+                    unlink(node);
+                }
+            } finally {
+                policyLock.unlock();
+            }
+            return null;
+        }
+        hits.increment();
+        if (policyLock.tryLock()) {
+            try {
+                sketch.increment(key);
+                onHit(node);
+            } finally {
+                policyLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    public long stamp(final K key) {
+        return generations.get(stripeOf(key));
+    }
+
+    public boolean putIfCurrent(final K key, final V value, final long stamp) {
+        Objects.requireNonNull(value, "'value' should not be null");
+        policyLock.lock();
+        try {
+            if (generations.get(stripeOf(key)) != stamp) {
+                return false;
+            }
+            sketch.increment(key);
+            final var node = new Node<>(key, value, timeToLiveNanos == 0 ? 0 : ticker.getAsLong() + timeToLiveNanos);
+            final var previous = data.put(key, node);
+            if (previous != null) {
+                unlink(previous);
+            }
+            window.addLast(node, WINDOW);
+            evict();
+            return true;
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public void invalidate(final K key) {
+        policyLock.lock();
+        try {
+            generations.incrementAndGet(stripeOf(key));
+            final var node = data.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        policyLock.lock();
+        try {
+            for (int i = 0; i < GENERATION_STRIPES; i++) {
+                generations.incrementAndGet(i);
+            }
+            data.values().forEach(this::unlink);
+            data.clear();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private void onHit(final Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> window.moveToBack(node);
+            case PROTECTED -> protectedQueue.moveToBack(node);
+            case PROBATION -> {
+                probation.remove(node);
+                protectedQueue.addLast(node, PROTECTED);
+                if (protectedQueue.size > protectedMaximum) {
+                    probation.addLast(protectedQueue.pollFirst(), PROBATION);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void evict() {
+        while (window.size > windowMaximum) {
+            probation.addLast(window.pollFirst(), PROBATION);
+        }
+        while (window.size + probation.size + protectedQueue.size > maximumSize) {
+            if (probation.size < 2 && protectedQueue.size > 0) {
+                probation.addFirst(protectedQueue.pollFirst(), PROBATION);
+            }
+            final var victim = probation.head;
+            final var candidate = probation.tail;
+            if (victim == candidate) {
+                evict(victim);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+        }
+    }
+
+    private void evict(final Node<K, V> node) {
+        data.remove(node.key, node);
+        unlink(node);
+        evictions.increment();
+    }
+
+    private void unlink(final Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> protectedQueue.remove(node);
+            default -> {
+            }
+        }
+        node.queue = REMOVED;
+    }
+
+    private boolean isExpired(final Node<K, V> node) {
+        return node.expiresAt != 0 && ticker.getAsLong() - node.expiresAt >= 0;
+    }
+
+    private static int stripeOf(final Object key) {
+        final int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long expiresAt;
+        private byte queue = REMOVED;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(final K key, final V value, final long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class AccessQueue<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private int size;
+
+        private void addLast(final Node<K, V> node, final byte queue) {
+            node.queue = queue;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        private void addFirst(final Node<K, V> node, final byte queue) {
+            node.queue = queue;
+            node.prev = null;
+            node.next = head;
+            if (head == null) {
+                tail = node;
+            } else {
+                head.prev = node;
+            }
+            head = node;
+            size++;
+        }
+
+        private Node<K, V> pollFirst() {
+            final var node = head;
+            remove(node);
+            return node;
+        }
+
+        private void moveToBack(final Node<K, V> node) {
+            if (node != tail) {
+                final var queue = node.queue;
+                remove(node);
+                addLast(node, queue);
+            }
+        }
+
+        private void remove(final Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.thiagodd.sakura.infrastructure.jdbc;
+
+public class JdbcException extends RuntimeException {
+
+    public JdbcException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,242 @@
+package com.thiagodd.sakura.infrastructure.outbox;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local outbox kept in a directory: {@code outbox.log} holds one tab-separated line per message and
+ * {@code outbox.ack} the highest sequence every subscriber has handled, replaced with an atomic rename. Messages
+ * after the acknowledged sequence are {@link #pending()} and get delivered again after a restart. Once everything
+ * appended is acknowledged the log is truncated, so it only grows while subscribers fall behind.
+ * <p>
+ * A line torn by a crash is dropped when the outbox is opened; its event was never acknowledged to the caller.
+ */
+public final class FileOutbox implements Outbox, Closeable {
+
+    private static final String LOG_FILE = "outbox.log";
+    private static final String ACK_FILE = "outbox.ack";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Path acknowledgements;
+    private final Path log;
+    private final FileChannel channel;
+    private final PriorityQueue<Long> handledAhead = new PriorityQueue<>();
+    private boolean sync = true;
+    private long lastSequence;
+    private volatile long acknowledged;
+
+    private FileOutbox(final Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.log = directory.resolve(LOG_FILE);
+        this.acknowledgements = directory.resolve(ACK_FILE);
+        this.acknowledged = Files.exists(acknowledgements)
+            ? Long.parseLong(Files.readString(acknowledgements, StandardCharsets.US_ASCII).trim())
+            : 0;
+        this.channel = FileChannel.open(log, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.lastSequence = Math.max(acknowledged, recover());
+    }
+
+    public static FileOutbox create(final Path directory) {
+        Objects.requireNonNull(directory, "'directory' should not be null");
+        try {
+            return new FileOutbox(directory);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /** Whether each append is forced to the device before it returns. Defaults to {@code true}. */
+    public FileOutbox sync(final boolean sync) {
+        this.sync = sync;
+        return this;
+    }
+
+    @Override
+    public List<OutboxMessage> append(final List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        final var messages = new ArrayList<OutboxMessage>(events.size());
+        final var lines = new StringBuilder(events.size() * 96);
+        lock.lock();
+        try {
+            for (final var event : events) {
+                final var message = OutboxMessage.of(lastSequence + messages.size() + 1, event);
+                messages.add(message);
+                lines.append(message.sequence()).append('\t')
+                    .append(message.type()).append('\t')
+                    .append(message.aggregateId()).append('\t')
+                    .append(message.occurredOn()).append('\n');
+            }
+            final var buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            final long position = channel.size();
+            long written = 0;
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer, position + written);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+            lastSequence += messages.size();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            lock.unlock();
+        }
+        return messages;
+    }
+
+    /** Messages appended but not acknowledged yet, in sequence order. */
+    public List<OutboxMessage> pending() {
+        return pending(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<OutboxMessage> pending(final int limit) {
+        lock.lock();
+        try {
+            final var messages = new ArrayList<OutboxMessage>();
+            final long after = acknowledged;
+            channel.position(0);
+            final var reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            String line;
+            while (messages.size() < limit && (line = reader.readLine()) != null) {
+                final var message = parse(line);
+                if (message.sequence() > after) {
+                    messages.add(message);
+                }
+            }
+            return messages;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acknowledges the contiguous run of handled sequences after {@link #acknowledged()}. Messages handled ahead of
+     * one still in flight wait for it.
+     */
+    @Override
+    public void acknowledge(final List<OutboxMessage> delivered) {
+        lock.lock();
+        try {
+            for (final var message : delivered) {
+                if (message.sequence() > acknowledged) {
+                    handledAhead.add(message.sequence());
+                }
+            }
+            long upTo = acknowledged;
+            while (!handledAhead.isEmpty() && handledAhead.peek() <= upTo + 1) {
+                upTo = Math.max(upTo, handledAhead.poll());
+            }
+            acknowledge(upTo);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Records that every message up to {@code sequence} has been handled. */
+    public void acknowledge(final long sequence) {
+        lock.lock();
+        try {
+            if (sequence <= acknowledged) {
+                return;
+            }
+            if (sequence > lastSequence) {
+                throw new IllegalArgumentException("Sequence %d was never appended".formatted(sequence));
+            }
+            final var temporary = acknowledgements.resolveSibling(ACK_FILE + ".tmp");
+            Files.writeString(temporary, Long.toString(sequence), StandardCharsets.US_ASCII);
+            Files.move(temporary, acknowledgements, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            acknowledged = sequence;
+            if (sequence == lastSequence) {
+                channel.truncate(0);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long acknowledged() {
+        return acknowledged;
+    }
+
+    @Override
+    public long pendingCount() {
+        lock.lock();
+        try {
+            return Math.max(0, lastSequence - acknowledged);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private long recover() throws IOException {
+        long last = 0;
+        long valid = 0;
+        long position = 0;
+        final var reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            position += line.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (position > channel.size()) {
+                break;
+            }
+            last = parse(line).sequence();
+            valid = position;
+        }
+        channel.truncate(valid);
+        return last;
+    }
+
+    private static OutboxMessage parse(final String line) {
+        final int first = line.indexOf('\t');
+        final int second = line.indexOf('\t', first + 1);
+        final int third = line.indexOf('\t', second + 1);
+        return new OutboxMessage(
+            Long.parseLong(line, 0, first, 10),
+            line.substring(first + 1, second),
+            line.substring(second + 1, third),
+            Instant.parse(line.substring(third + 1)));
+    }
+}
@@ -0,0 +1,159 @@
+package com.thiagodd.sakura.infrastructure.outbox;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+import com.thiagodd.sakura.infrastructure.jdbc.JdbcException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outbox in the {@code outbox} table of {@code db/schema.sql}. Gateways write the events of an aggregate with
+ * {@link #append(Connection, List)} on the connection of the transaction that stores it, so the change and its
+ * events commit or roll back together; {@link #append(List)} stores events in a transaction of their own.
+ * <p>
+ * Rows are deleted once acknowledged, so whatever the table holds is pending. Sequences come from an
+ * auto-increment column, and transactions can commit out of sequence order, so the {@link OutboxDispatcher} reading
+ * this outbox has to {@linkplain OutboxDispatcher#pollInterval(java.time.Duration) poll} it.
+ */
+public final class JdbcOutbox implements Outbox {
+
+    private static final int DELETE_CHUNK_SIZE = 500;
+    private static final String INSERT = "INSERT INTO outbox (event_type, aggregate_id, occurred_on) VALUES (?, ?, ?)";
+    private static final String SELECT_PENDING =
+        "SELECT id, event_type, aggregate_id, occurred_on FROM outbox ORDER BY id LIMIT ?";
+    private static final String COUNT_PENDING = "SELECT COUNT(*) FROM outbox";
+
+    private final DataSource dataSource;
+
+    private JdbcOutbox(final DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "'dataSource' should not be null");
+    }
+
+    public static JdbcOutbox create(final DataSource dataSource) {
+        return new JdbcOutbox(dataSource);
+    }
+
+    /** Inserts the events on {@code connection}, leaving the transaction to the caller. */
+    public void append(final Connection connection, final List<? extends DomainEvent> events) throws SQLException {
+        if (events.isEmpty()) {
+            return;
+        }
+        try (var statement = connection.prepareStatement(INSERT)) {
+            for (final var event : events) {
+                bind(statement, event);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @Override
+    public List<OutboxMessage> append(final List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        final var messages = new ArrayList<OutboxMessage>(events.size());
+        try (var connection = dataSource.getConnection()) {
+            final var autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (var statement = connection.prepareStatement(INSERT, new String[]{"id"})) {
+                for (final var event : events) {
+                    bind(statement, event);
+                    statement.executeUpdate();
+                    try (var keys = statement.getGeneratedKeys()) {
+                        keys.next();
+                        messages.add(new OutboxMessage(keys.getLong(1), event.getClass().getSimpleName(),
+                            event.aggregateId().getValue(), event.occurredOn().truncatedTo(ChronoUnit.MICROS)));
+                    }
+                }
+                connection.commit();
+            } catch (final SQLException | RuntimeException exception) {
+                connection.rollback();
+                throw exception;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not append to the outbox", exception);
+        }
+        return messages;
+    }
+
+    @Override
+    public List<OutboxMessage> pending(final int limit) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(SELECT_PENDING)) {
+            statement.setInt(1, limit);
+            final var messages = new ArrayList<OutboxMessage>();
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    messages.add(new OutboxMessage(
+                        resultSet.getLong(1),
+                        resultSet.getString(2),
+                        resultSet.getString(3),
+                        resultSet.getObject(4, LocalDateTime.class).toInstant(ZoneOffset.UTC)));
+                }
+            }
+            return messages;
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not read the outbox", exception);
+        }
+    }
+
+    /** Deletes the delivered rows, in one statement per {@value #DELETE_CHUNK_SIZE} messages. */
+    @Override
+    public void acknowledge(final List<OutboxMessage> delivered) {
+        if (delivered.isEmpty()) {
+            return;
+        }
+        try (var connection = dataSource.getConnection()) {
+            for (int from = 0; from < delivered.size(); from += DELETE_CHUNK_SIZE) {
+                final var chunk = delivered.subList(from, Math.min(delivered.size(), from + DELETE_CHUNK_SIZE));
+                final var sql = new StringBuilder("DELETE FROM outbox WHERE id IN (");
+                for (int i = 0; i < chunk.size(); i++) {
+                    sql.append(i == 0 ? "?" : ", ?");
+                }
+                try (var statement = connection.prepareStatement(sql.append(')').toString())) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setLong(i + 1, chunk.get(i).sequence());
+                    }
+                    statement.executeUpdate();
+                }
+            }
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not acknowledge outbox messages", exception);
+        }
+    }
+
+    @Override
+    public long pendingCount() {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(COUNT_PENDING);
+             var resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not count outbox messages", exception);
+        }
+    }
+
+    private static void bind(final PreparedStatement statement, final DomainEvent event) throws SQLException {
+        statement.setString(1, event.getClass().getSimpleName());
+        statement.setString(2, event.aggregateId().getValue());
+        statement.setObject(3, utcOf(event.occurredOn()), Types.TIMESTAMP);
+    }
+
+    private static LocalDateTime utcOf(final Instant instant) {
+        return LocalDateTime.ofInstant(instant.truncatedTo(ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,24 @@
+package com.thiagodd.sakura.infrastructure.outbox;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Durable store of the messages an {@link OutboxDispatcher} delivers. A message stays {@linkplain #pending(int)
+ * pending} until it is {@linkplain #acknowledge(List) acknowledged}, so whatever was stored survives a restart.
+ */
+public interface Outbox {
+
+    /** Stores the events and returns them as messages, with the sequences they were stored under. */
+    List<OutboxMessage> append(List<? extends DomainEvent> events);
+
+    /** Up to {@code limit} messages not acknowledged yet, in sequence order. */
+    List<OutboxMessage> pending(int limit);
+
+    /** Records that every subscriber has handled the {@code delivered} messages. */
+    void acknowledge(List<OutboxMessage> delivered);
+
+    /** How many stored messages are not acknowledged yet. */
+    long pendingCount();
+}
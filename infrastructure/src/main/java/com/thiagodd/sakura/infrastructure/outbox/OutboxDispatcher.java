@@ -0,0 +1,321 @@
+package com.thiagodd.sakura.infrastructure.outbox;
+
+import com.thiagodd.sakura.domain.AggregateRoot;
+import com.thiagodd.sakura.domain.events.DomainEvent;
+import com.thiagodd.sakura.domain.events.DomainEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers outbox messages to subscribers in batches with at-least-once semantics.
+ * <p>
+ * {@link #publish(List)} appends the events to the {@link Outbox} first and only then hands them to a lock-free
+ * {@link RingBuffer}, blocking while it is full. A single dispatcher thread drains up to {@code batchSize}
+ * messages, gives the batch to every subscriber, retrying a failing one with a fixed backoff up to
+ * {@code maxAttempts} times, and then acknowledges the batch in the outbox. A batch a subscriber still fails on is
+ * parked for that subscriber alone: it goes to the {@linkplain #deadLetters(OutboxSubscriber) dead letter
+ * subscriber}, if any, and the others keep receiving messages. Producers may enqueue slightly out of sequence
+ * order, so each batch is sorted. On {@link #start()} whatever the outbox still holds from a previous run is
+ * delivered before new messages.
+ * <p>
+ * Published events are only as safe as the moment {@link #publish(List)} is called: a use case that stores an
+ * aggregate and publishes afterwards loses the events if it crashes in between. To close that gap, store the events
+ * in the aggregate's own transaction instead, as a
+ * {@link com.thiagodd.sakura.infrastructure.patient.JdbcPatientGateway} given a {@link JdbcOutbox} does, and
+ * dispatch that outbox with a {@link #pollInterval(Duration)}: messages written by others reach the dispatcher only
+ * by polling.
+ */
+public final class OutboxDispatcher implements DomainEventPublisher, AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Comparator<OutboxMessage> BY_SEQUENCE = Comparator.comparingLong(OutboxMessage::sequence);
+
+    private final Outbox outbox;
+    private final List<OutboxSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+    private volatile RingBuffer<OutboxMessage> ring;
+    private int capacity = 8192;
+    private int batchSize = 256;
+    private long retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private long pollIntervalNanos;
+    private int maxAttempts = 10;
+    private volatile OutboxSubscriber deadLetters;
+    private volatile Thread thread;
+    private volatile boolean running;
+    private volatile boolean idle;
+    private volatile long lagNanos;
+    private volatile long startedAt;
+    private long polledUpTo;
+
+    private OutboxDispatcher(final Outbox outbox) {
+        this.outbox = Objects.requireNonNull(outbox, "'outbox' should not be null");
+    }
+
+    public static OutboxDispatcher create(final Outbox outbox) {
+        return new OutboxDispatcher(outbox);
+    }
+
+    public OutboxDispatcher capacity(final int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("'capacity' should be at least 2");
+        }
+        this.capacity = capacity;
+        return this;
+    }
+
+    public OutboxDispatcher batchSize(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'batchSize' should be greater than zero");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public OutboxDispatcher retryBackoff(final Duration backoff) {
+        Objects.requireNonNull(backoff, "'backoff' should not be null");
+        if (backoff.isNegative()) {
+            throw new IllegalArgumentException("'backoff' should not be negative");
+        }
+        this.retryBackoffNanos = backoff.toNanos();
+        return this;
+    }
+
+    /** How many times a subscriber is given the same batch before it is parked for that subscriber. Defaults to 10. */
+    public OutboxDispatcher maxAttempts(final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("'maxAttempts' should be greater than zero");
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /** Receives, once, each batch a subscriber was parked on. Its failures are counted and otherwise ignored. */
+    public OutboxDispatcher deadLetters(final OutboxSubscriber deadLetters) {
+        this.deadLetters = Objects.requireNonNull(deadLetters, "'deadLetters' should not be null");
+        return this;
+    }
+
+    /**
+     * How often an idle dispatcher reads the outbox for messages stored without {@link #publish(List)}, such as
+     * events a gateway wrote in its own transaction. Zero, the default, never polls.
+     */
+    public OutboxDispatcher pollInterval(final Duration interval) {
+        Objects.requireNonNull(interval, "'interval' should not be null");
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("'interval' should not be negative");
+        }
+        this.pollIntervalNanos = interval.toNanos();
+        return this;
+    }
+
+    public OutboxDispatcher subscribe(final OutboxSubscriber subscriber) {
+        subscribers.add(Objects.requireNonNull(subscriber, "'subscriber' should not be null"));
+        return this;
+    }
+
+    public synchronized OutboxDispatcher start() {
+        if (thread != null) {
+            throw new IllegalStateException("Dispatcher already started");
+        }
+        ring();
+        running = true;
+        startedAt = System.nanoTime();
+        thread = new Thread(this::dispatch, "outbox-dispatcher");
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    /** Pulls the events recorded by an aggregate that has just been persisted and publishes them. */
+    public void publish(final AggregateRoot<?> aggregate) {
+        publish(aggregate.pullEvents());
+    }
+
+    /**
+     * Appends the events to the outbox and enqueues them for delivery. Once this returns the events survive a
+     * restart. While the ring is full this waits for the dispatcher, unless it has not been started or has been
+     * closed; then the events that do not fit are left in the outbox, which {@link #start()} replays.
+     */
+    @Override
+    public void publish(final List<? extends DomainEvent> events) {
+        final var ring = ring();
+        for (final var message : outbox.append(events)) {
+            while (!ring.offer(message)) {
+                if (thread == null || !running) {
+                    return;
+                }
+                wakeUp();
+                LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+            }
+            published.incrementAndGet();
+        }
+        if (idle) {
+            wakeUp();
+        }
+    }
+
+    public OutboxMetrics metrics() {
+        final long delivered = this.delivered.get();
+        final long elapsed = startedAt == 0 ? 0 : System.nanoTime() - startedAt;
+        return new OutboxMetrics(
+            published.get(),
+            delivered,
+            outbox.pendingCount(),
+            batches.get(),
+            failures.get(),
+            parked.get(),
+            Duration.ofNanos(lagNanos),
+            elapsed == 0 ? 0 : delivered * 1e9 / elapsed);
+    }
+
+    /**
+     * Stops once everything already enqueued has been delivered, or at the first failed delivery after this call.
+     * Undelivered messages stay in the outbox for the next run. If the calling thread is interrupted while waiting,
+     * this returns at once with the interrupt flag set and the dispatcher still winding down.
+     */
+    @Override
+    public void close() {
+        final var thread = this.thread;
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private RingBuffer<OutboxMessage> ring() {
+        var ring = this.ring;
+        if (ring == null) {
+            synchronized (this) {
+                ring = this.ring;
+                if (ring == null) {
+                    ring = new RingBuffer<>(capacity);
+                    this.ring = ring;
+                }
+            }
+        }
+        return ring;
+    }
+
+    private void park(final List<OutboxMessage> batch) {
+        parked.addAndGet(batch.size());
+        final var deadLetters = this.deadLetters;
+        if (deadLetters != null) {
+            try {
+                deadLetters.onBatch(batch);
+            } catch (Exception exception) {
+                failures.incrementAndGet();
+            }
+        }
+    }
+
+    private void wakeUp() {
+        final var thread = this.thread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void dispatch() {
+        if (!deliverPending()) {
+            return;
+        }
+        long polledAt = System.nanoTime();
+        final var batch = new ArrayList<OutboxMessage>(batchSize);
+        while (true) {
+            batch.clear();
+            ring.drainTo(message -> {
+                if (message.sequence() > polledUpTo) {
+                    batch.add(message);
+                }
+            }, batchSize);
+            if (!batch.isEmpty()) {
+                batch.sort(BY_SEQUENCE);
+                if (!deliver(batch)) {
+                    return;
+                }
+                continue;
+            }
+            if (!running && ring.size() == 0) {
+                return;
+            }
+            if (pollIntervalNanos > 0 && System.nanoTime() - polledAt >= pollIntervalNanos) {
+                if (!deliverPending()) {
+                    return;
+                }
+                polledAt = System.nanoTime();
+                continue;
+            }
+            idle = true;
+            if (ring.size() == 0 && running) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            idle = false;
+        }
+    }
+
+    /**
+     * Delivers what the outbox holds, a batch at a time. Ring messages up to the last sequence read here are then
+     * skipped: they were delivered already, or, in an outbox whose writers commit out of order, are still stored
+     * and come up on the next poll.
+     */
+    private boolean deliverPending() {
+        List<OutboxMessage> pending;
+        do {
+            pending = outbox.pending(batchSize);
+            if (pending.isEmpty()) {
+                break;
+            }
+            if (!deliver(pending)) {
+                return false;
+            }
+            polledUpTo = Math.max(polledUpTo, pending.get(pending.size() - 1).sequence());
+        } while (pending.size() == batchSize);
+        return true;
+    }
+
+    private boolean deliver(final List<OutboxMessage> batch) {
+        final var view = Collections.unmodifiableList(batch);
+        for (final var subscriber : subscribers) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    subscriber.onBatch(view);
+                    break;
+                } catch (Exception exception) {
+                    failures.incrementAndGet();
+                    if (!running) {
+                        return false;
+                    }
+                    if (attempt >= maxAttempts) {
+                        park(view);
+                        break;
+                    }
+                    LockSupport.parkNanos(retryBackoffNanos);
+                }
+            }
+        }
+        lagNanos = Math.max(0, Duration.between(batch.get(0).occurredOn(), Instant.now()).toNanos());
+        delivered.addAndGet(batch.size());
+        batches.incrementAndGet();
+        outbox.acknowledge(batch);
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package com.thiagodd.sakura.infrastructure.outbox;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * Envelope of a domain event as stored in the outbox. The sequence is assigned on append, is strictly increasing
+ * and is what subscribers should use to discard a redelivered message.
+ */
+public record OutboxMessage(long sequence, String type, String aggregateId, Instant occurredOn) {
+
+    static OutboxMessage of(final long sequence, final DomainEvent event) {
+        return new OutboxMessage(
+            sequence, event.getClass().getSimpleName(), event.aggregateId().getValue(), event.occurredOn());
+    }
+}
@@ -0,0 +1,20 @@
+package com.thiagodd.sakura.infrastructure.outbox;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of an {@link OutboxDispatcher}. {@code pending} counts published messages not yet acknowledged by
+ * every subscriber, {@code parked} counts messages a subscriber was given up on after its last attempt, and
+ * {@code lag} is the age of the oldest message of the last delivered batch when it was delivered.
+ */
+public record OutboxMetrics(
+    long published,
+    long delivered,
+    long pending,
+    long batches,
+    long failures,
+    long parked,
+    Duration lag,
+    double deliveredPerSecond
+) {
+}
@@ -0,0 +1,13 @@
+package com.thiagodd.sakura.infrastructure.outbox;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface OutboxSubscriber {
+
+    /**
+     * Handles a batch of messages sorted by sequence. Throwing makes the dispatcher retry the same batch, up to its
+     * {@code maxAttempts}, so handlers must be idempotent.
+     */
+    void onBatch(List<OutboxMessage> batch) throws Exception;
+}
@@ -0,0 +1,168 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.pagination.CursorPagination;
+import com.thiagodd.sakura.domain.pagination.CursorQuery;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.PatientMatch;
+import com.thiagodd.sakura.domain.patient.PatientSummary;
+import com.thiagodd.sakura.infrastructure.cache.CacheStats;
+import com.thiagodd.sakura.infrastructure.cache.WTinyLfuCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of {@link PatientGateway#findById(PatientID)}. The cache keeps its own copy of every
+ * patient and hands each caller a fresh one, so no two callers share a mutable instance. Writes go to the delegate
+ * first and then invalidate the entry; activation and deactivation reach the gateway through {@code update}.
+ */
+public class CachingPatientGateway implements PatientGateway {
+
+    private final PatientGateway delegate;
+    private final WTinyLfuCache<PatientID, Patient> cache;
+
+    public CachingPatientGateway(final PatientGateway delegate, final int maximumSize) {
+        this(delegate, maximumSize, Duration.ZERO, System::nanoTime);
+    }
+
+    public CachingPatientGateway(final PatientGateway delegate, final int maximumSize, final Duration timeToLive) {
+        this(delegate, maximumSize, timeToLive, System::nanoTime);
+    }
+
+    CachingPatientGateway(
+        final PatientGateway delegate,
+        final int maximumSize,
+        final Duration timeToLive,
+        final LongSupplier ticker
+    ) {
+        this.delegate = Objects.requireNonNull(delegate, "'delegate' should not be null");
+        this.cache = new WTinyLfuCache<>(maximumSize, timeToLive, ticker);
+    }
+
+    @Override
+    public Patient create(final Patient patient) {
+        final var created = delegate.create(patient);
+        cache.invalidate(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<Patient> createAll(final Collection<Patient> patients) {
+        final var created = delegate.createAll(patients);
+        created.forEach(patient -> cache.invalidate(patient.getId()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final PatientID id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public Optional<Patient> findById(final PatientID patientID) {
+        final var cached = cache.get(patientID);
+        if (cached != null) {
+            return Optional.of(Patient.with(cached));
+        }
+        final var stamp = cache.stamp(patientID);
+        final var loaded = delegate.findById(patientID);
+        loaded.ifPresent(patient -> cache.putIfCurrent(patientID, Patient.with(patient), stamp));
+        return loaded;
+    }
+
+    /** Serves cached patients from the cache and loads the rest with one delegate call. */
+    @Override
+    public Map<PatientID, Patient> findAllById(final Collection<PatientID> ids) {
+        final var found = new HashMap<PatientID, Patient>(Math.max(16, ids.size() * 4 / 3 + 1));
+        final var missing = new HashMap<PatientID, Long>();
+        for (final var id : ids) {
+            if (found.containsKey(id) || missing.containsKey(id)) {
+                continue;
+            }
+            final var cached = cache.get(id);
+            if (cached != null) {
+                found.put(id, Patient.with(cached));
+            } else {
+                missing.put(id, cache.stamp(id));
+            }
+        }
+        if (!missing.isEmpty()) {
+            delegate.findAllById(missing.keySet()).forEach((id, patient) -> {
+                cache.putIfCurrent(id, Patient.with(patient), missing.get(id));
+                found.put(id, patient);
+            });
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<String> findObservationById(final PatientID patientID) {
+        final var cached = cache.get(patientID);
+        return cached != null ? Optional.ofNullable(cached.getObservation()) : delegate.findObservationById(patientID);
+    }
+
+    @Override
+    public List<PatientMatch> findLikelyDuplicates(final Patient patient) {
+        return delegate.findLikelyDuplicates(patient);
+    }
+
+    @Override
+    public Patient update(final Patient patient) {
+        if (!patient.hasChanges()) {
+            return delegate.update(patient);
+        }
+        try {
+            return delegate.update(patient);
+        } finally {
+            cache.invalidate(patient.getId());
+        }
+    }
+
+    @Override
+    public List<Patient> updateAll(final Collection<Patient> patients) {
+        try {
+            return delegate.updateAll(patients);
+        } finally {
+            patients.forEach(patient -> cache.invalidate(patient.getId()));
+        }
+    }
+
+    @Override
+    public Pagination<Patient> findAll(final SearchQuery query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Patient> findAll(final CursorQuery query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public Pagination<PatientSummary> findAllSummaries(final SearchQuery query) {
+        return delegate.findAllSummaries(query);
+    }
+
+    @Override
+    public Stream<Patient> streamAll(final SearchQuery query) {
+        return delegate.streamAll(query);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,132 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.pagination.CursorPagination;
+import com.thiagodd.sakura.domain.pagination.CursorQuery;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.PatientMatch;
+import com.thiagodd.sakura.domain.patient.PatientSummary;
+import com.thiagodd.sakura.infrastructure.cache.SingleFlight;
+import com.thiagodd.sakura.infrastructure.cache.SingleFlightStats;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Shares one delegate call between concurrent identical {@link #findById(PatientID)} calls, and between concurrent
+ * {@link #findAll(SearchQuery)} calls with equal queries. The loaded result is never handed out itself: every
+ * caller, the one that triggered the load included, gets its own copy. Writes make the next read of the patient,
+ * and of any page, start a new load, so a read that begins after a write never joins one that began before it.
+ */
+public class CoalescingPatientGateway implements PatientGateway {
+
+    private final PatientGateway delegate;
+    private final SingleFlight<PatientID, Optional<Patient>> patients = new SingleFlight<>();
+    private final SingleFlight<SearchQuery, Pagination<Patient>> pages = new SingleFlight<>();
+
+    public CoalescingPatientGateway(final PatientGateway delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "'delegate' should not be null");
+    }
+
+    @Override
+    public Patient create(final Patient patient) {
+        try {
+            return delegate.create(patient);
+        } finally {
+            pages.forgetAll();
+        }
+    }
+
+    @Override
+    public List<Patient> createAll(final Collection<Patient> patients) {
+        try {
+            return delegate.createAll(patients);
+        } finally {
+            pages.forgetAll();
+        }
+    }
+
+    @Override
+    public void deleteById(final PatientID id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            patients.forget(id);
+            pages.forgetAll();
+        }
+    }
+
+    @Override
+    public Optional<Patient> findById(final PatientID patientID) {
+        return patients.load(patientID, () -> delegate.findById(patientID)).map(Patient::with);
+    }
+
+    @Override
+    public Map<PatientID, Patient> findAllById(final Collection<PatientID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<String> findObservationById(final PatientID patientID) {
+        return delegate.findObservationById(patientID);
+    }
+
+    @Override
+    public List<PatientMatch> findLikelyDuplicates(final Patient patient) {
+        return delegate.findLikelyDuplicates(patient);
+    }
+
+    @Override
+    public Patient update(final Patient patient) {
+        try {
+            return delegate.update(patient);
+        } finally {
+            patients.forget(patient.getId());
+            pages.forgetAll();
+        }
+    }
+
+    @Override
+    public List<Patient> updateAll(final Collection<Patient> patients) {
+        try {
+            return delegate.updateAll(patients);
+        } finally {
+            patients.forEach(patient -> this.patients.forget(patient.getId()));
+            pages.forgetAll();
+        }
+    }
+
+    @Override
+    public Pagination<Patient> findAll(final SearchQuery query) {
+        final var page = pages.load(query, () -> delegate.findAll(query));
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(),
+            page.items().stream().map(Patient::with).toList());
+    }
+
+    @Override
+    public CursorPagination<Patient> findAll(final CursorQuery query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public Pagination<PatientSummary> findAllSummaries(final SearchQuery query) {
+        return delegate.findAllSummaries(query);
+    }
+
+    @Override
+    public Stream<Patient> streamAll(final SearchQuery query) {
+        return delegate.streamAll(query);
+    }
+
+    /** Loads and collapsed calls of {@code findById} and {@code findAll(SearchQuery)} together. */
+    public SingleFlightStats stats() {
+        return patients.stats().plus(pages.stats());
+    }
+}
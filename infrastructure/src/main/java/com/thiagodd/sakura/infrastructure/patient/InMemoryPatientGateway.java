@@ -0,0 +1,257 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.exceptions.ConflictException;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.pagination.Cursor;
+import com.thiagodd.sakura.domain.pagination.CursorPagination;
+import com.thiagodd.sakura.domain.pagination.CursorQuery;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.DuplicateDetector;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.PatientMatch;
+import com.thiagodd.sakura.domain.patient.PatientSummary;
+import com.thiagodd.sakura.domain.search.SearchText;
+import com.thiagodd.sakura.domain.validation.Error;
+import com.thiagodd.sakura.infrastructure.search.TrigramIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class InMemoryPatientGateway implements PatientGateway {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int NAME_WEIGHT = 3;
+    private static final int SOCIAL_NAME_WEIGHT = 2;
+    private static final int EMAIL_WEIGHT = 1;
+
+    private final Map<PatientID, Patient> patients = new ConcurrentHashMap<>();
+    private final Map<PatientSort, PatientSortIndex> indexes = new EnumMap<>(PatientSort.class);
+    private final TrigramIndex<PatientID> searchIndex = new TrigramIndex<>(NAME_WEIGHT, SOCIAL_NAME_WEIGHT, EMAIL_WEIGHT);
+    private final DuplicateDetector duplicates = DuplicateDetector.create();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public InMemoryPatientGateway() {
+        for (final var sort : PatientSort.values()) {
+            indexes.put(sort, new PatientSortIndex(sort));
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public Patient create(final Patient patient) {
+        final var id = patient.getId();
+        final Patient stored;
+        synchronized (lockOf(id)) {
+            if (patients.containsKey(id)) {
+                throw DomainException.with(new Error("Patient with ID %s already exists".formatted(id.getValue())));
+            }
+            stored = Patients.stored(patient);
+            store(null, stored);
+        }
+        return Patient.with(stored);
+    }
+
+    @Override
+    public void deleteById(final PatientID id) {
+        synchronized (lockOf(id)) {
+            final var current = patients.remove(id);
+            if (current != null) {
+                unindex(current);
+                searchIndex.remove(id);
+                duplicates.remove(id);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Patient> findById(final PatientID patientID) {
+        return Optional.ofNullable(patients.get(patientID)).map(Patient::with);
+    }
+
+    @Override
+    public Map<PatientID, Patient> findAllById(final Collection<PatientID> ids) {
+        final var found = new HashMap<PatientID, Patient>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            final var patient = patients.get(id);
+            if (patient != null) {
+                found.putIfAbsent(id, Patient.with(patient));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<String> findObservationById(final PatientID patientID) {
+        return Optional.ofNullable(patients.get(patientID)).map(Patient::getObservation);
+    }
+
+    @Override
+    public Patient update(final Patient patient) {
+        final var id = patient.getId();
+        if (!patient.hasChanges()) {
+            requireCurrent(patients.get(id), patient);
+            return Patient.with(patient);
+        }
+        final Patient next;
+        synchronized (lockOf(id)) {
+            final var current = patients.get(id);
+            requireCurrent(current, patient);
+            next = Patients.withVersion(patient, current.getVersion() + 1);
+            store(current, next);
+        }
+        return Patient.with(next);
+    }
+
+    @Override
+    public Pagination<Patient> findAll(final SearchQuery query) {
+        return findPage(query, Patient::with);
+    }
+
+    @Override
+    public List<PatientMatch> findLikelyDuplicates(final Patient patient) {
+        return duplicates.findLikelyDuplicates(patient);
+    }
+
+    @Override
+    public Pagination<PatientSummary> findAllSummaries(final SearchQuery query) {
+        return findPage(query, PatientSummary::from);
+    }
+
+    private <T> Pagination<T> findPage(final SearchQuery query, final Function<Patient, T> mapper) {
+        final var sort = PatientSort.of(query.sort());
+        final var descending = PatientSort.isDescending(query.direction());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var offset = (long) Math.max(query.page(), 0) * perPage;
+
+        if (query.terms() != null && !query.terms().isBlank()) {
+            return search(query, perPage, offset, mapper);
+        }
+
+        final var items = new ArrayList<T>(perPage);
+        long skipped = 0;
+        for (final var entry : indexes.get(sort).ordered(descending)) {
+            if (items.size() == perPage) {
+                break;
+            }
+            final var patient = patients.get(entry.id());
+            if (patient == null) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            items.add(mapper.apply(patient));
+        }
+
+        return new Pagination<>(query.page(), query.perPage(), patients.size(), items);
+    }
+
+    @Override
+    public CursorPagination<Patient> findAll(final CursorQuery query) {
+        final var sort = PatientSort.of(query.sort());
+        final var descending = PatientSort.isDescending(query.direction());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var index = indexes.get(sort);
+        final var terms = SearchText.normalize(query.terms());
+
+        var entries = index.ordered(descending);
+        if (query.cursor() != null) {
+            final var cursor = Cursor.decode(query.cursor());
+            cursor.requireMatches(sort.field(), PatientSort.direction(descending));
+            entries = index.after(cursor, descending);
+        }
+
+        final var items = new ArrayList<Patient>(perPage);
+        PatientSortIndex.Entry last = null;
+        boolean hasNext = false;
+        for (final var entry : entries) {
+            final var patient = patients.get(entry.id());
+            if (patient == null || !matches(patient, terms)) {
+                continue;
+            }
+            if (items.size() == perPage) {
+                hasNext = true;
+                break;
+            }
+            items.add(Patient.with(patient));
+            last = entry;
+        }
+
+        final var nextCursor = hasNext && last != null ? index.cursorOf(last, descending).encode() : null;
+        return new CursorPagination<>(query.perPage(), nextCursor, items);
+    }
+
+    private <T> Pagination<T> search(
+        final SearchQuery query, final int perPage, final long offset, final Function<Patient, T> mapper
+    ) {
+        final var limit = (int) Math.min(Integer.MAX_VALUE, offset + perPage);
+        final var result = searchIndex.search(query.terms(), limit);
+
+        final var items = new ArrayList<T>(perPage);
+        for (final var hit : result.hits().subList((int) Math.min(offset, result.hits().size()), result.hits().size())) {
+            final var patient = patients.get(hit.key());
+            if (patient != null) {
+                items.add(mapper.apply(patient));
+            }
+        }
+
+        return new Pagination<>(query.page(), query.perPage(), result.total(), items);
+    }
+
+    private static void requireCurrent(final Patient current, final Patient patient) {
+        if (current == null) {
+            throw NotFoundException.with(Patient.class, patient.getId());
+        }
+        if (current.getVersion() != patient.getVersion()) {
+            throw ConflictException.with(Patient.class, patient.getId(), patient.getVersion(), current.getVersion());
+        }
+    }
+
+    private void store(final Patient current, final Patient next) {
+        if (current != null) {
+            unindex(current);
+        }
+        patients.put(next.getId(), next);
+        indexes.values().forEach(index -> index.add(next));
+        searchIndex.put(next.getId(), next.getName(), next.getSocialName(), next.getEmail());
+        duplicates.add(next);
+    }
+
+    private void unindex(final Patient patient) {
+        indexes.values().forEach(index -> index.remove(patient));
+    }
+
+    private static boolean matches(final Patient patient, final String terms) {
+        if (terms.isEmpty()) {
+            return true;
+        }
+        final var text = String.join(" ",
+            SearchText.normalize(patient.getName()),
+            SearchText.normalize(patient.getSocialName()),
+            SearchText.normalize(patient.getEmail()));
+        for (final var term : terms.split(" ")) {
+            if (!text.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object lockOf(final PatientID id) {
+        return locks[(id.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+}
@@ -0,0 +1,754 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+import com.thiagodd.sakura.domain.exceptions.ConflictException;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.pagination.Cursor;
+import com.thiagodd.sakura.domain.pagination.CursorPagination;
+import com.thiagodd.sakura.domain.pagination.CursorQuery;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.DuplicateDetector;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientField;
+import com.thiagodd.sakura.domain.patient.PatientGateway;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.PatientMatch;
+import com.thiagodd.sakura.domain.patient.PatientSummary;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.domain.search.SearchText;
+import com.thiagodd.sakura.domain.validation.Error;
+import com.thiagodd.sakura.infrastructure.jdbc.JdbcException;
+import com.thiagodd.sakura.infrastructure.outbox.JdbcOutbox;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link PatientGateway} over plain JDBC against the {@code db/schema.sql} table. Ids are stored as
+ * {@code BINARY(16)} in big-endian order, so their byte order matches {@link PatientID#compareTo}. Timestamps are
+ * stored as UTC {@code DATETIME(6)}, truncated to microseconds before binding so the driver never rounds them.
+ * <p>
+ * {@link #createAll(Collection)} sends multi-row {@code INSERT}s of {@code batchSize} rows as one JDBC batch, and
+ * {@link #updateAll(Collection)} batches single-row {@code UPDATE}s. Both commit every {@code rowsPerTransaction}
+ * rows, so a failure rolls back only the chunk it happened in. Updates compare and set the {@code version} column
+ * and fail with {@link ConflictException} when another writer got there first. They set only the columns of
+ * {@link Patient#changedFields()}, batching rows that changed the same fields together. A patient without changes,
+ * which only a load or a write of this gateway hands out, is neither written nor version-checked. Writes of the
+ * name, social name and email also store their {@link DuplicateDetector} blocking keys, which
+ * {@link #findLikelyDuplicates(Patient)} looks candidates up by.
+ * <p>
+ * Given an {@linkplain #outbox(JdbcOutbox) outbox}, creates and updates pull the events of the patients they write
+ * and insert them in the same transaction, so a stored change never loses its events and a rolled back one never
+ * publishes any. The caller's later {@link Patient#pullEvents()} then returns nothing.
+ * <p>
+ * {@link #findAllSummaries(SearchQuery)} selects only the listing columns, and
+ * {@link #findObservationById(PatientID)} reads the {@code observation} column alone, so a list screen never
+ * transfers clinical notes it does not show.
+ * <p>
+ * On MySQL, enable {@code cachePrepStmts}, {@code useServerPrepStmts} and {@code rewriteBatchedStatements} on the
+ * connection URL so the driver caches statements and sends batches in a single round trip.
+ */
+public class JdbcPatientGateway implements PatientGateway {
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_ROWS_PER_TRANSACTION = 10_000;
+    private static final int MAX_PLACEHOLDERS = 65_535;
+    private static final int COLUMN_COUNT = 15;
+    private static final int DUPLICATE_BLOCK_LIMIT = 1_000;
+
+    private static final String COLUMNS =
+        "id, name, social_name, date_of_birth, email, observation, active, sex, created_at, updated_at, deleted_at,"
+        + " version";
+    private static final String INSERT_COLUMNS = COLUMNS + ", name_key, social_name_key, email_local";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SUMMARY_COLUMNS = "id, name, social_name, date_of_birth, active";
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM patients";
+    private static final String FIND_BY_ID = SELECT + " WHERE id = ?";
+    private static final String SELECT_CANDIDATES = "SELECT id, name, social_name, date_of_birth, email,"
+        + " NULL AS observation, active, sex, created_at, updated_at, deleted_at, version FROM patients";
+    private static final String FIND_OBSERVATION_BY_ID = "SELECT observation FROM patients WHERE id = ?";
+    private static final String FIND_VERSION_BY_ID = "SELECT version FROM patients WHERE id = ?";
+    private static final String DELETE_BY_ID = "DELETE FROM patients WHERE id = ?";
+    private static final Map<Set<PatientField>, String> UPDATE_STATEMENTS = new ConcurrentHashMap<>();
+
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final int rowsPerTransaction;
+    private final JdbcOutbox outbox;
+    private final AtomicReferenceArray<String> insertStatements;
+
+    public JdbcPatientGateway(final DataSource dataSource) {
+        this(dataSource, DEFAULT_BATCH_SIZE, DEFAULT_ROWS_PER_TRANSACTION, null);
+    }
+
+    private JdbcPatientGateway(
+        final DataSource dataSource,
+        final int batchSize,
+        final int rowsPerTransaction,
+        final JdbcOutbox outbox
+    ) {
+        this.dataSource = Objects.requireNonNull(dataSource, "'dataSource' should not be null");
+        this.batchSize = batchSize;
+        this.rowsPerTransaction = rowsPerTransaction;
+        this.outbox = outbox;
+        this.insertStatements = new AtomicReferenceArray<>(batchSize + 1);
+    }
+
+    public JdbcPatientGateway batchSize(final int batchSize) {
+        if (batchSize < 1 || batchSize * COLUMN_COUNT > MAX_PLACEHOLDERS) {
+            throw new IllegalArgumentException(
+                "'batchSize' should be between 1 and %d".formatted(MAX_PLACEHOLDERS / COLUMN_COUNT));
+        }
+        return new JdbcPatientGateway(dataSource, batchSize, rowsPerTransaction, outbox);
+    }
+
+    public JdbcPatientGateway rowsPerTransaction(final int rowsPerTransaction) {
+        if (rowsPerTransaction < 1) {
+            throw new IllegalArgumentException("'rowsPerTransaction' should be greater than zero");
+        }
+        return new JdbcPatientGateway(dataSource, batchSize, rowsPerTransaction, outbox);
+    }
+
+    /** Stores the events of written patients in {@code outbox}, in the transaction that writes them. */
+    public JdbcPatientGateway outbox(final JdbcOutbox outbox) {
+        return new JdbcPatientGateway(dataSource, batchSize, rowsPerTransaction,
+            Objects.requireNonNull(outbox, "'outbox' should not be null"));
+    }
+
+    @Override
+    public Patient create(final Patient patient) {
+        return createAll(List.of(patient)).get(0);
+    }
+
+    @Override
+    public List<Patient> createAll(final Collection<Patient> patients) {
+        final var rows = List.copyOf(patients);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        try (var connection = dataSource.getConnection()) {
+            for (int from = 0; from < rows.size(); from += rowsPerTransaction) {
+                final var chunk = rows.subList(from, Math.min(rows.size(), from + rowsPerTransaction));
+                inTransaction(connection, () -> {
+                    insert(connection, chunk);
+                    appendEvents(connection, chunk);
+                });
+            }
+        } catch (final SQLException exception) {
+            if (isConstraintViolation(exception)) {
+                throw DomainException.with(new Error(rows.size() == 1
+                    ? "Patient with ID %s already exists".formatted(rows.get(0).getId().getValue())
+                    : "One or more patients already exist"));
+            }
+            throw new JdbcException("Could not create patients", exception);
+        }
+        return rows.stream().map(Patients::stored).toList();
+    }
+
+    @Override
+    public void deleteById(final PatientID id) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(DELETE_BY_ID)) {
+            statement.setBytes(1, bytesOf(id));
+            statement.executeUpdate();
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not delete patient", exception);
+        }
+    }
+
+    @Override
+    public Optional<Patient> findById(final PatientID patientID) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(FIND_BY_ID)) {
+            statement.setBytes(1, bytesOf(patientID));
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.of(patientOf(resultSet)) : Optional.empty();
+            }
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not find patient", exception);
+        }
+    }
+
+    /** One {@code IN} query per {@code batchSize} distinct ids. */
+    @Override
+    public Map<PatientID, Patient> findAllById(final Collection<PatientID> ids) {
+        final var distinct = List.copyOf(new LinkedHashSet<>(ids));
+        final var found = new HashMap<PatientID, Patient>(Math.max(16, distinct.size() * 4 / 3 + 1));
+        if (distinct.isEmpty()) {
+            return found;
+        }
+        try (var connection = dataSource.getConnection()) {
+            for (int from = 0; from < distinct.size(); from += batchSize) {
+                final var chunk = distinct.subList(from, Math.min(distinct.size(), from + batchSize));
+                final var sql = new StringBuilder(SELECT).append(" WHERE id IN (");
+                for (int i = 0; i < chunk.size(); i++) {
+                    sql.append(i == 0 ? "?" : ", ?");
+                }
+                try (var statement = connection.prepareStatement(sql.append(')').toString())) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setBytes(i + 1, bytesOf(chunk.get(i)));
+                    }
+                    for (final var patient : patientsOf(statement, chunk.size())) {
+                        found.put(patient.getId(), patient);
+                    }
+                }
+            }
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not find patients", exception);
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<String> findObservationById(final PatientID patientID) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(FIND_OBSERVATION_BY_ID)) {
+            statement.setBytes(1, bytesOf(patientID));
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
+            }
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not find patient observation", exception);
+        }
+    }
+
+    @Override
+    public Patient update(final Patient patient) {
+        return updateAll(List.of(patient)).get(0);
+    }
+
+    @Override
+    public List<Patient> updateAll(final Collection<Patient> patients) {
+        final var rows = List.copyOf(patients);
+        final var changed = rows.stream().filter(Patient::hasChanges).toList();
+        if (!changed.isEmpty()) {
+            try (var connection = dataSource.getConnection()) {
+                for (int from = 0; from < changed.size(); from += rowsPerTransaction) {
+                    final var chunk = changed.subList(from, Math.min(changed.size(), from + rowsPerTransaction));
+                    inTransaction(connection, () -> {
+                        update(connection, chunk);
+                        appendEvents(connection, chunk);
+                    });
+                }
+            } catch (final SQLException exception) {
+                throw new JdbcException("Could not update patients", exception);
+            }
+        }
+        return rows.stream()
+            .map(patient -> patient.hasChanges()
+                ? Patients.withVersion(patient, patient.getVersion() + 1)
+                : Patient.with(patient))
+            .toList();
+    }
+
+    @Override
+    public Pagination<Patient> findAll(final SearchQuery query) {
+        return findPage(query, COLUMNS, JdbcPatientGateway::patientOf);
+    }
+
+    /**
+     * Looks candidates up by each blocking key of {@code patient} on its indexed column and scores only those. A key
+     * shared by more than {@value #DUPLICATE_BLOCK_LIMIT} rows is too common to tell anyone apart and is skipped, and
+     * the {@code observation} column is not read.
+     */
+    @Override
+    public List<PatientMatch> findLikelyDuplicates(final Patient patient) {
+        final var lookups = new LinkedHashSet<Map.Entry<String, Object>>();
+        if (patient.getDateOfBirth() != null) {
+            lookups.add(Map.entry("date_of_birth", patient.getDateOfBirth()));
+        }
+        for (final var name : new String[]{patient.getName(), patient.getSocialName()}) {
+            final var key = DuplicateDetector.nameKeyOf(name);
+            if (key != null) {
+                lookups.add(Map.entry("name_key", key));
+                lookups.add(Map.entry("social_name_key", key));
+            }
+        }
+        final var emailLocal = DuplicateDetector.emailLocalOf(patient.getEmail());
+        if (emailLocal != null) {
+            lookups.add(Map.entry("email_local", emailLocal));
+        }
+
+        final var candidates = new LinkedHashMap<PatientID, Patient>();
+        try (var connection = dataSource.getConnection()) {
+            for (final var lookup : lookups) {
+                final var sql = SELECT_CANDIDATES + " WHERE " + lookup.getKey() + " = ? LIMIT ?";
+                try (var statement = connection.prepareStatement(sql)) {
+                    bindKey(statement, 1, lookup.getValue());
+                    statement.setInt(2, DUPLICATE_BLOCK_LIMIT + 1);
+                    final var rows = patientsOf(statement, 16);
+                    if (rows.size() <= DUPLICATE_BLOCK_LIMIT) {
+                        rows.forEach(row -> candidates.putIfAbsent(row.getId(), row));
+                    }
+                }
+            }
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not find duplicate candidates", exception);
+        }
+        return DuplicateDetector.create().findLikelyDuplicates(patient, candidates.values().stream());
+    }
+
+    @Override
+    public Pagination<PatientSummary> findAllSummaries(final SearchQuery query) {
+        return findPage(query, SUMMARY_COLUMNS, JdbcPatientGateway::summaryOf);
+    }
+
+    private <T> Pagination<T> findPage(final SearchQuery query, final String columns, final RowMapper<T> mapper) {
+        final var sort = PatientSort.of(query.sort());
+        final var descending = PatientSort.isDescending(query.direction());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var offset = (long) Math.max(query.page(), 0) * perPage;
+        final var words = wordsOf(query.terms());
+        final var where = whereOf(words);
+
+        try (var connection = dataSource.getConnection()) {
+            final long total;
+            try (var statement = connection.prepareStatement("SELECT COUNT(*) FROM patients" + where)) {
+                bindWords(statement, 1, words);
+                try (var resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    total = resultSet.getLong(1);
+                }
+            }
+
+            final var sql = "SELECT " + columns + " FROM patients" + where + orderBy(sort, descending)
+                + " LIMIT ? OFFSET ?";
+            try (var statement = connection.prepareStatement(sql)) {
+                int index = bindWords(statement, 1, words);
+                statement.setInt(index++, perPage);
+                statement.setLong(index, offset);
+                return new Pagination<>(query.page(), query.perPage(), total, rowsOf(statement, perPage, mapper));
+            }
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not list patients", exception);
+        }
+    }
+
+    @Override
+    public CursorPagination<Patient> findAll(final CursorQuery query) {
+        final var sort = PatientSort.of(query.sort());
+        final var descending = PatientSort.isDescending(query.direction());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var words = wordsOf(query.terms());
+        final var column = columnOf(sort);
+
+        final var conditions = new ArrayList<String>();
+        final var where = whereOf(words);
+        if (!where.isEmpty()) {
+            conditions.add(where.substring(" WHERE ".length()));
+        }
+
+        Object afterKey = null;
+        PatientID afterId = null;
+        if (query.cursor() != null) {
+            final var cursor = Cursor.decode(query.cursor());
+            cursor.requireMatches(sort.field(), PatientSort.direction(descending));
+            try {
+                afterKey = sort.parse(cursor.key());
+                afterId = PatientID.from(cursor.id());
+            } catch (final DateTimeParseException | IllegalArgumentException | DomainException exception) {
+                throw DomainException.with(new Error("'cursor' is invalid"));
+            }
+            conditions.add(afterCondition(column, afterKey == null, descending));
+        }
+
+        final var sql = SELECT + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+            + orderBy(sort, descending) + " LIMIT ?";
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(sql)) {
+            int index = bindWords(statement, 1, words);
+            if (afterId != null) {
+                if (afterKey != null) {
+                    bindKey(statement, index++, afterKey);
+                    bindKey(statement, index++, afterKey);
+                }
+                statement.setBytes(index++, bytesOf(afterId));
+            }
+            statement.setInt(index, perPage + 1);
+
+            final var items = patientsOf(statement, perPage + 1);
+            String nextCursor = null;
+            if (items.size() > perPage) {
+                items.remove(perPage);
+                if (perPage > 0) {
+                    final var last = items.get(perPage - 1);
+                    nextCursor = new Cursor(sort.field(), PatientSort.direction(descending),
+                        sort.format(sort.keyOf(last)), last.getId().getValue()).encode();
+                }
+            }
+            return new CursorPagination<>(query.perPage(), nextCursor, items);
+        } catch (final SQLException exception) {
+            throw new JdbcException("Could not list patients", exception);
+        }
+    }
+
+    private void insert(final Connection connection, final List<Patient> rows) throws SQLException {
+        final int fullBatches = rows.size() / batchSize;
+        if (fullBatches > 0) {
+            try (var statement = connection.prepareStatement(insertStatement(batchSize))) {
+                for (int batch = 0; batch < fullBatches; batch++) {
+                    int index = 1;
+                    for (final var patient : rows.subList(batch * batchSize, (batch + 1) * batchSize)) {
+                        index = bindRow(statement, index, patient);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        final int remaining = rows.size() - fullBatches * batchSize;
+        if (remaining > 0) {
+            try (var statement = connection.prepareStatement(insertStatement(remaining))) {
+                int index = 1;
+                for (final var patient : rows.subList(fullBatches * batchSize, rows.size())) {
+                    index = bindRow(statement, index, patient);
+                }
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private void appendEvents(final Connection connection, final List<Patient> rows) throws SQLException {
+        if (outbox == null) {
+            return;
+        }
+        final var events = new ArrayList<DomainEvent>();
+        for (final var patient : rows) {
+            events.addAll(patient.pullEvents());
+        }
+        outbox.append(connection, events);
+    }
+
+    private void update(final Connection connection, final List<Patient> rows) throws SQLException {
+        final var groups = new LinkedHashMap<Set<PatientField>, List<Patient>>();
+        for (final var patient : rows) {
+            groups.computeIfAbsent(patient.changedFields(), fields -> new ArrayList<>()).add(patient);
+        }
+        for (final var group : groups.entrySet()) {
+            update(connection, group.getKey(), group.getValue());
+        }
+    }
+
+    private void update(final Connection connection, final Set<PatientField> fields, final List<Patient> rows)
+        throws SQLException {
+        try (var statement = connection.prepareStatement(updateStatement(fields))) {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                final var batch = rows.subList(from, Math.min(rows.size(), from + batchSize));
+                for (final var patient : batch) {
+                    int index = 1;
+                    for (final var field : fields) {
+                        index = bindField(statement, index, field, patient);
+                    }
+                    statement.setBytes(index++, bytesOf(patient.getId()));
+                    statement.setLong(index, patient.getVersion());
+                    statement.addBatch();
+                }
+                final var counts = statement.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] == 0) {
+                        throw missingOrConflicting(connection, batch.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    private static DomainException missingOrConflicting(final Connection connection, final Patient patient)
+        throws SQLException {
+        try (var statement = connection.prepareStatement(FIND_VERSION_BY_ID)) {
+            statement.setBytes(1, bytesOf(patient.getId()));
+            try (var resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return NotFoundException.with(Patient.class, patient.getId());
+                }
+                return ConflictException.with(Patient.class, patient.getId(), patient.getVersion(), resultSet.getLong(1));
+            }
+        }
+    }
+
+    private String insertStatement(final int rows) {
+        var sql = insertStatements.get(rows);
+        if (sql == null) {
+            final var builder = new StringBuilder("INSERT INTO patients (")
+                .append(INSERT_COLUMNS)
+                .append(") VALUES ");
+            for (int i = 0; i < rows; i++) {
+                builder.append(i == 0 ? "" : ", ").append(ROW);
+            }
+            sql = builder.toString();
+            insertStatements.set(rows, sql);
+        }
+        return sql;
+    }
+
+    private static String updateStatement(final Set<PatientField> fields) {
+        return UPDATE_STATEMENTS.computeIfAbsent(fields, key -> {
+            final var builder = new StringBuilder("UPDATE patients SET ");
+            for (final var field : key) {
+                builder.append(assignmentOf(field)).append(", ");
+            }
+            return builder.append("version = version + 1 WHERE id = ? AND version = ?").toString();
+        });
+    }
+
+    /** The assignments for a changed field; name, social name and email also rewrite their blocking key. */
+    private static String assignmentOf(final PatientField field) {
+        return switch (field) {
+            case NAME -> "name = ?, name_key = ?";
+            case SOCIAL_NAME -> "social_name = ?, social_name_key = ?";
+            case DATE_OF_BIRTH -> "date_of_birth = ?";
+            case EMAIL -> "email = ?, email_local = ?";
+            case OBSERVATION -> "observation = ?";
+            case ACTIVE -> "active = ?";
+            case SEX -> "sex = ?";
+            case UPDATED_AT -> "updated_at = ?";
+            case DELETED_AT -> "deleted_at = ?";
+        };
+    }
+
+    /** Binds the parameters of {@link #assignmentOf(PatientField)} from {@code index} and returns the next one. */
+    private static int bindField(
+        final PreparedStatement statement, final int index, final PatientField field, final Patient patient
+    ) throws SQLException {
+        switch (field) {
+            case NAME -> {
+                statement.setString(index, patient.getName());
+                statement.setString(index + 1, DuplicateDetector.nameKeyOf(patient.getName()));
+                return index + 2;
+            }
+            case SOCIAL_NAME -> {
+                statement.setString(index, patient.getSocialName());
+                statement.setString(index + 1, DuplicateDetector.nameKeyOf(patient.getSocialName()));
+                return index + 2;
+            }
+            case DATE_OF_BIRTH -> statement.setObject(index, patient.getDateOfBirth(), Types.DATE);
+            case EMAIL -> {
+                statement.setString(index, patient.getEmail());
+                statement.setString(index + 1, DuplicateDetector.emailLocalOf(patient.getEmail()));
+                return index + 2;
+            }
+            case OBSERVATION -> statement.setString(index, patient.getObservation());
+            case ACTIVE -> statement.setBoolean(index, patient.isActive());
+            case SEX -> statement.setString(index, patient.getSex() == null ? null : patient.getSex().name());
+            case UPDATED_AT -> statement.setObject(index, utcOf(patient.getUpdatedAt()), Types.TIMESTAMP);
+            case DELETED_AT -> statement.setObject(index, utcOf(patient.getDeletedAt()), Types.TIMESTAMP);
+        }
+        return index + 1;
+    }
+
+    private static int bindRow(final PreparedStatement statement, final int first, final Patient patient)
+        throws SQLException {
+        int index = first;
+        statement.setBytes(index++, bytesOf(patient.getId()));
+        statement.setString(index++, patient.getName());
+        statement.setString(index++, patient.getSocialName());
+        statement.setObject(index++, patient.getDateOfBirth(), Types.DATE);
+        statement.setString(index++, patient.getEmail());
+        statement.setString(index++, patient.getObservation());
+        statement.setBoolean(index++, patient.isActive());
+        statement.setString(index++, patient.getSex() == null ? null : patient.getSex().name());
+        statement.setObject(index++, utcOf(patient.getCreatedAt()), Types.TIMESTAMP);
+        statement.setObject(index++, utcOf(patient.getUpdatedAt()), Types.TIMESTAMP);
+        statement.setObject(index++, utcOf(patient.getDeletedAt()), Types.TIMESTAMP);
+        statement.setLong(index++, patient.getVersion());
+        statement.setString(index++, DuplicateDetector.nameKeyOf(patient.getName()));
+        statement.setString(index++, DuplicateDetector.nameKeyOf(patient.getSocialName()));
+        statement.setString(index++, DuplicateDetector.emailLocalOf(patient.getEmail()));
+        return index;
+    }
+
+    private static List<Patient> patientsOf(final PreparedStatement statement, final int expected) throws SQLException {
+        return rowsOf(statement, expected, JdbcPatientGateway::patientOf);
+    }
+
+    private static <T> List<T> rowsOf(final PreparedStatement statement, final int expected, final RowMapper<T> mapper)
+        throws SQLException {
+        final var rows = new ArrayList<T>(Math.max(expected, 0));
+        try (var resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows.add(mapper.map(resultSet));
+            }
+        }
+        return rows;
+    }
+
+    private static PatientSummary summaryOf(final ResultSet resultSet) throws SQLException {
+        return new PatientSummary(
+            idOf(resultSet.getBytes("id")),
+            resultSet.getString("name"),
+            resultSet.getString("social_name"),
+            resultSet.getObject("date_of_birth", LocalDate.class),
+            resultSet.getBoolean("active")
+        );
+    }
+
+    private static Patient patientOf(final ResultSet resultSet) throws SQLException {
+        final var sex = resultSet.getString("sex");
+        final var patient = Patient.with(
+            idOf(resultSet.getBytes("id")),
+            resultSet.getString("name"),
+            resultSet.getString("social_name"),
+            resultSet.getObject("date_of_birth", LocalDate.class),
+            resultSet.getString("email"),
+            resultSet.getString("observation"),
+            resultSet.getBoolean("active"),
+            sex == null ? null : Sex.valueOf(sex),
+            instantOf(resultSet.getObject("created_at", LocalDateTime.class)),
+            instantOf(resultSet.getObject("updated_at", LocalDateTime.class)),
+            instantOf(resultSet.getObject("deleted_at", LocalDateTime.class)),
+            resultSet.getLong("version")
+        );
+        patient.markClean();
+        return patient;
+    }
+
+    private static List<String> wordsOf(final String terms) {
+        final var normalized = SearchText.normalize(terms);
+        return normalized.isEmpty() ? List.of() : List.of(normalized.split(" "));
+    }
+
+    private static String whereOf(final List<String> words) {
+        if (words.isEmpty()) {
+            return "";
+        }
+        final var conditions = new ArrayList<String>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            conditions.add("(name LIKE ? OR social_name LIKE ? OR email LIKE ?)");
+        }
+        return " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static int bindWords(final PreparedStatement statement, final int first, final List<String> words)
+        throws SQLException {
+        int index = first;
+        for (final var word : words) {
+            final var pattern = "%" + word + "%";
+            statement.setString(index++, pattern);
+            statement.setString(index++, pattern);
+            statement.setString(index++, pattern);
+        }
+        return index;
+    }
+
+    private static String afterCondition(final String column, final boolean nullKey, final boolean descending) {
+        if (descending) {
+            return nullKey
+                ? "(%1$s IS NULL AND id < ?)".formatted(column)
+                : "(%1$s < ? OR %1$s IS NULL OR (%1$s = ? AND id < ?))".formatted(column);
+        }
+        return nullKey
+            ? "(%1$s IS NOT NULL OR id > ?)".formatted(column)
+            : "(%1$s > ? OR (%1$s = ? AND id > ?))".formatted(column);
+    }
+
+    private static void bindKey(final PreparedStatement statement, final int index, final Object key)
+        throws SQLException {
+        if (key instanceof Instant instant) {
+            statement.setObject(index, utcOf(instant), Types.TIMESTAMP);
+        } else if (key instanceof LocalDate date) {
+            statement.setObject(index, date, Types.DATE);
+        } else {
+            statement.setString(index, key.toString());
+        }
+    }
+
+    private static String orderBy(final PatientSort sort, final boolean descending) {
+        final var direction = descending ? " DESC" : " ASC";
+        return " ORDER BY " + columnOf(sort) + direction + ", id" + direction;
+    }
+
+    private static String columnOf(final PatientSort sort) {
+        return switch (sort) {
+            case NAME -> "name";
+            case EMAIL -> "email";
+            case DATE_OF_BIRTH -> "date_of_birth";
+            case CREATED_AT -> "created_at";
+        };
+    }
+
+    private static void inTransaction(final Connection connection, final SqlAction action) throws SQLException {
+        final var autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            action.run();
+            connection.commit();
+        } catch (final SQLException | RuntimeException exception) {
+            connection.rollback();
+            throw exception;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static boolean isConstraintViolation(final SQLException exception) {
+        for (Throwable current = exception; current != null; current = current.getCause()) {
+            if (current instanceof SQLException sqlException) {
+                final var state = sqlException.getSQLState();
+                if (state != null && state.startsWith("23")) {
+                    return true;
+                }
+                final var next = sqlException.getNextException();
+                if (next != null && next != current.getCause() && isConstraintViolation(next)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] bytesOf(final PatientID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+    private static PatientID idOf(final byte[] bytes) {
+        final var buffer = ByteBuffer.wrap(bytes);
+        return PatientID.from(new UUID(buffer.getLong(), buffer.getLong()));
+    }
+
+    private static LocalDateTime utcOf(final Instant instant) {
+        return instant == null ? null : LocalDateTime.ofInstant(instant.truncatedTo(ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+
+    private static Instant instantOf(final LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    @FunctionalInterface
+    private interface SqlAction {
+        void run() throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+}
@@ -0,0 +1,75 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+
+enum PatientSort {
+    NAME("name", Patient::getName, String.CASE_INSENSITIVE_ORDER, Function.identity()),
+    EMAIL("email", Patient::getEmail, String.CASE_INSENSITIVE_ORDER, Function.identity()),
+    DATE_OF_BIRTH("dateOfBirth", Patient::getDateOfBirth, Comparator.naturalOrder(), LocalDate::parse),
+    CREATED_AT("createdAt", Patient::getCreatedAt, Comparator.naturalOrder(), Instant::parse);
+
+    private final String field;
+    private final Function<Patient, ?> extractor;
+    private final Comparator<Object> comparator;
+    private final Function<String, ?> parser;
+
+    @SuppressWarnings("unchecked")
+    <T> PatientSort(
+        final String field,
+        final Function<Patient, T> extractor,
+        final Comparator<? super T> comparator,
+        final Function<String, T> parser
+    ) {
+        this.field = field;
+        this.extractor = extractor;
+        this.comparator = Comparator.nullsFirst((Comparator<Object>) comparator);
+        this.parser = parser;
+    }
+
+    static PatientSort of(final String sort) {
+        if (sort == null || sort.isBlank()) {
+            return CREATED_AT;
+        }
+        final var normalized = sort.replace("_", "").toLowerCase(Locale.ROOT);
+        for (final var value : values()) {
+            if (value.field.toLowerCase(Locale.ROOT).equals(normalized)) {
+                return value;
+            }
+        }
+        return CREATED_AT;
+    }
+
+    static boolean isDescending(final String direction) {
+        return "desc".equalsIgnoreCase(direction);
+    }
+
+    static String direction(final boolean descending) {
+        return descending ? "desc" : "asc";
+    }
+
+    String field() {
+        return field;
+    }
+
+    Object keyOf(final Patient patient) {
+        return extractor.apply(patient);
+    }
+
+    Comparator<Object> comparator() {
+        return comparator;
+    }
+
+    String format(final Object key) {
+        return key == null ? null : key.toString();
+    }
+
+    Object parse(final String key) {
+        return key == null ? null : parser.apply(key);
+    }
+}
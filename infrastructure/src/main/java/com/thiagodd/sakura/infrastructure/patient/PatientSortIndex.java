@@ -0,0 +1,58 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.pagination.Cursor;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.validation.Error;
+
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+final class PatientSortIndex {
+
+    record Entry(Object key, PatientID id) {
+    }
+
+    private final PatientSort sort;
+    private final ConcurrentSkipListSet<Entry> entries;
+
+    PatientSortIndex(final PatientSort sort) {
+        this.sort = sort;
+        this.entries = new ConcurrentSkipListSet<>(
+            Comparator.comparing(Entry::key, sort.comparator()).thenComparing(Entry::id)
+        );
+    }
+
+    void add(final Patient patient) {
+        entries.add(entryOf(patient));
+    }
+
+    void remove(final Patient patient) {
+        entries.remove(entryOf(patient));
+    }
+
+    NavigableSet<Entry> ordered(final boolean descending) {
+        return descending ? entries.descendingSet() : entries;
+    }
+
+    NavigableSet<Entry> after(final Cursor cursor, final boolean descending) {
+        final Entry from;
+        try {
+            from = new Entry(sort.parse(cursor.key()), PatientID.from(cursor.id()));
+        } catch (final DateTimeParseException | IllegalArgumentException | DomainException exception) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+        return ordered(descending).tailSet(from, false);
+    }
+
+    Cursor cursorOf(final Entry entry, final boolean descending) {
+        return new Cursor(sort.field(), PatientSort.direction(descending), sort.format(entry.key()), entry.id().getValue());
+    }
+
+    Entry entryOf(final Patient patient) {
+        return new Entry(sort.keyOf(patient), patient.getId());
+    }
+}
@@ -0,0 +1,36 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+
+final class Patients {
+
+    private Patients() {
+    }
+
+    /** A copy of {@code patient} as it is stored, without changes. */
+    static Patient stored(final Patient patient) {
+        final var copy = Patient.with(patient);
+        copy.markClean();
+        return copy;
+    }
+
+    /** A copy of {@code patient} as stored under {@code version}, without changes. */
+    static Patient withVersion(final Patient patient, final long version) {
+        final var copy = Patient.with(
+            patient.getId(),
+            patient.getName(),
+            patient.getSocialName(),
+            patient.getDateOfBirth(),
+            patient.getEmail(),
+            patient.getObservation(),
+            patient.isActive(),
+            patient.getSex(),
+            patient.getCreatedAt(),
+            patient.getUpdatedAt(),
+            patient.getDeletedAt(),
+            version
+        );
+        copy.markClean();
+        return copy;
+    }
+}
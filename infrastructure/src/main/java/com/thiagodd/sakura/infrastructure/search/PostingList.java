@@ -0,0 +1,80 @@
+package com.thiagodd.sakura.infrastructure.search;
+
+import java.util.Arrays;
+
+final class PostingList {
+
+    private int[] documents = new int[4];
+    private int size;
+
+    synchronized void add(final int document) {
+        if (size > 0 && documents[size - 1] < document) {
+            append(document);
+            return;
+        }
+        final int position = Arrays.binarySearch(documents, 0, size, document);
+        if (position >= 0) {
+            return;
+        }
+        final int insertion = -position - 1;
+        ensureCapacity();
+        System.arraycopy(documents, insertion, documents, insertion + 1, size - insertion);
+        documents[insertion] = document;
+        size++;
+    }
+
+    synchronized void remove(final int document) {
+        final int position = Arrays.binarySearch(documents, 0, size, document);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(documents, position + 1, documents, position, size - position - 1);
+        size--;
+    }
+
+    synchronized boolean contains(final int document) {
+        return Arrays.binarySearch(documents, 0, size, document) >= 0;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized int[] snapshot() {
+        return Arrays.copyOf(documents, size);
+    }
+
+    synchronized int[] retain(final int[] candidates) {
+        final var result = new int[candidates.length];
+        int retained = 0;
+        int from = 0;
+        for (final int candidate : candidates) {
+            int bound = 1;
+            while (from + bound < size && documents[from + bound] < candidate) {
+                bound <<= 1;
+            }
+            final int position = Arrays.binarySearch(documents, from, Math.min(from + bound + 1, size), candidate);
+            if (position >= 0) {
+                result[retained++] = candidate;
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+            if (from >= size) {
+                break;
+            }
+        }
+        return retained == result.length ? result : Arrays.copyOf(result, retained);
+    }
+
+    private void append(final int document) {
+        ensureCapacity();
+        documents[size++] = document;
+    }
+
+    private void ensureCapacity() {
+        if (size == documents.length) {
+            documents = Arrays.copyOf(documents, size + (size >> 1) + 1);
+        }
+    }
+}
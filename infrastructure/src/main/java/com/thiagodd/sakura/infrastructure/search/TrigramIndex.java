@@ -0,0 +1,305 @@
+package com.thiagodd.sakura.infrastructure.search;
+
+import com.thiagodd.sakura.domain.search.SearchText;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram posting-list index over a fixed set of weighted text fields per key. Field values are folded with
+ * {@link SearchText} when written; every word is padded like {@code "  word "} so one and two letter terms can
+ * still be answered as word prefixes. Candidates come from intersecting the two rarest posting lists of every
+ * query word and are then verified against the folded text, so queries are AND-ed over their words. Hits are
+ * ranked by the weight of the best field each word matched, with a bonus for word-prefix matches; ties keep
+ * document-id order. Ids of removed keys are handed out again, so the index does not grow with churn.
+ * <p>
+ * The rarest posting list is intersected with the others a chunk at a time, and a limited search stops once its
+ * page is settled: when it holds {@code limit} hits that all have the best possible score, or after
+ * {@code limit * RANK_WINDOW} hits. Ranking is then exact within the hits seen so far only, and
+ * {@link Result#total()} is extrapolated from the chunks intersected and the share of verified candidates that
+ * matched, with {@link Result#estimated()} set.
+ */
+public final class TrigramIndex<K> {
+
+    public record Hit<K>(K key, int score) {
+    }
+
+    public record Result<K>(int total, List<Hit<K>> hits, boolean estimated) {
+    }
+
+    private record Document<K>(K key, int id, String[] fields, long[] grams) {
+    }
+
+    private record Scored(Document<?> document, int score) {
+    }
+
+    private static final int SELECTIVE_GRAMS_PER_TOKEN = 2;
+    private static final int RANK_WINDOW = 4;
+    private static final int CANDIDATE_CHUNK = 1_024;
+
+    private static final Comparator<Scored> RANK =
+        Comparator.comparingInt(Scored::score).reversed().thenComparingInt(scored -> scored.document().id());
+
+    private final int[] weights;
+    private final Map<K, Document<K>> byKey = new ConcurrentHashMap<>();
+    private final Map<Long, PostingList> postings = new ConcurrentHashMap<>();
+    private volatile Document<?>[] byId = new Document<?>[1024];
+    private int sequence;
+    private int[] freeIds = new int[16];
+    private int freeCount;
+
+    public TrigramIndex(final int... weights) {
+        this.weights = weights.clone();
+    }
+
+    public void put(final K key, final String... values) {
+        if (values.length != weights.length) {
+            throw new IllegalArgumentException("expected %d fields but got %d".formatted(weights.length, values.length));
+        }
+        final var fields = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            fields[i] = SearchText.normalize(values[i]);
+        }
+        byKey.compute(key, (k, current) -> {
+            if (current != null && Arrays.equals(current.fields(), fields)) {
+                return current;
+            }
+            if (current != null) {
+                unlink(current);
+            }
+            final int id = current != null ? current.id() : nextId();
+            final var document = new Document<>(k, id, fields, gramsOf(fields));
+            link(document);
+            return document;
+        });
+    }
+
+    public void remove(final K key) {
+        byKey.computeIfPresent(key, (k, current) -> {
+            unlink(current);
+            publish(current.id(), null);
+            release(current.id());
+            return null;
+        });
+    }
+
+    public int size() {
+        return byKey.size();
+    }
+
+    public List<Hit<K>> search(final String terms) {
+        return search(terms, Integer.MAX_VALUE).hits();
+    }
+
+    public Result<K> search(final String terms, final int limit) {
+        final var words = SearchText.normalize(terms);
+        if (words.isEmpty() || limit <= 0) {
+            return new Result<>(0, List.of(), false);
+        }
+        final var tokens = words.split(" ");
+        final var lists = selectiveLists(tokens);
+        if (lists.isEmpty()) {
+            return new Result<>(0, List.of(), false);
+        }
+
+        final var documents = byId;
+        final var rarest = lists.get(0).snapshot();
+        final var top = new PriorityQueue<>(Math.min(limit, Math.max(rarest.length, 1)), RANK.reversed());
+        final int bestScore = bestScore(tokens);
+        final long window = (long) limit * RANK_WINDOW;
+        int total = 0;
+        int verified = 0;
+        int candidates = 0;
+        int intersected = 0;
+        boolean settled = false;
+        while (intersected < rarest.length && !settled) {
+            var chunk = Arrays.copyOfRange(rarest, intersected, Math.min(rarest.length, intersected + CANDIDATE_CHUNK));
+            intersected += chunk.length;
+            for (int i = 1; i < lists.size() && chunk.length > 0; i++) {
+                chunk = lists.get(i).retain(chunk);
+            }
+            candidates += chunk.length;
+            for (final int candidate : chunk) {
+                if (top.size() == limit && (top.peek().score() == bestScore || total >= window)) {
+                    settled = true;
+                    break;
+                }
+                verified++;
+                final var document = candidate < documents.length ? documents[candidate] : null;
+                if (document == null) {
+                    continue;
+                }
+                final int score = score(document, tokens);
+                if (score == 0) {
+                    continue;
+                }
+                total++;
+                final var scored = new Scored(document, score);
+                if (top.size() < limit) {
+                    top.add(scored);
+                } else if (RANK.compare(scored, top.peek()) < 0) {
+                    top.poll();
+                    top.add(scored);
+                }
+            }
+        }
+
+        final var ranked = new ArrayList<>(top);
+        ranked.sort(RANK);
+        final var hits = new ArrayList<Hit<K>>(ranked.size());
+        for (final var scored : ranked) {
+            @SuppressWarnings("unchecked") final var document = (Document<K>) scored.document();
+            hits.add(new Hit<>(document.key(), scored.score()));
+        }
+        if (!settled) {
+            return new Result<>(total, hits, false);
+        }
+        final double estimatedCandidates = (double) candidates / intersected * rarest.length;
+        final var estimate = (int) Math.round(total / (double) verified * estimatedCandidates);
+        return new Result<>(Math.max(estimate, total), hits, true);
+    }
+
+    private int bestScore(final String[] tokens) {
+        int best = 0;
+        for (final int weight : weights) {
+            best = Math.max(best, weight * 2 + 1);
+        }
+        return best * tokens.length;
+    }
+
+    /** The posting lists a query has to intersect, rarest first; empty when some gram has no list at all. */
+    private List<PostingList> selectiveLists(final String[] tokens) {
+        final var lists = new ArrayList<PostingList>();
+        for (final var token : tokens) {
+            final var tokenLists = new ArrayList<PostingList>();
+            for (final long gram : queryGrams(token)) {
+                final var list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                tokenLists.add(list);
+            }
+            tokenLists.sort(Comparator.comparingInt(PostingList::size));
+            for (final var list : tokenLists.subList(0, Math.min(SELECTIVE_GRAMS_PER_TOKEN, tokenLists.size()))) {
+                if (!lists.contains(list)) {
+                    lists.add(list);
+                }
+            }
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        return lists;
+    }
+
+    private static long[] queryGrams(final String token) {
+        if (token.length() < 3) {
+            return new long[]{pack(' ', token.length() == 1 ? ' ' : token.charAt(0), token.charAt(token.length() - 1))};
+        }
+        final var grams = new long[token.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = pack(token.charAt(i), token.charAt(i + 1), token.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private int score(final Document<?> document, final String[] tokens) {
+        int total = 0;
+        for (final var token : tokens) {
+            int best = 0;
+            for (int field = 0; field < weights.length; field++) {
+                final var text = document.fields()[field];
+                final int position = text.indexOf(token);
+                if (position < 0) {
+                    continue;
+                }
+                final boolean prefix = startsAnyWord(text, token, position);
+                if (!prefix && token.length() < 3) {
+                    continue;
+                }
+                best = Math.max(best, weights[field] * 2 + (prefix ? 1 : 0));
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private static boolean startsAnyWord(final String text, final String token, final int first) {
+        int position = first;
+        while (position >= 0) {
+            if (position == 0 || text.charAt(position - 1) == ' ') {
+                return true;
+            }
+            position = text.indexOf(token, position + 1);
+        }
+        return false;
+    }
+
+    private synchronized int nextId() {
+        return freeCount > 0 ? freeIds[--freeCount] : sequence++;
+    }
+
+    private synchronized void release(final int id) {
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    private void link(final Document<K> document) {
+        for (final long gram : document.grams()) {
+            postings.computeIfAbsent(gram, g -> new PostingList()).add(document.id());
+        }
+        publish(document.id(), document);
+    }
+
+    private void unlink(final Document<K> document) {
+        for (final long gram : document.grams()) {
+            final var list = postings.get(gram);
+            if (list != null) {
+                list.remove(document.id());
+            }
+        }
+    }
+
+    private synchronized void publish(final int id, final Document<K> document) {
+        var documents = byId;
+        if (id >= documents.length) {
+            documents = Arrays.copyOf(documents, Math.max(id + 1, documents.length * 2));
+        }
+        documents[id] = document;
+        byId = documents;
+    }
+
+    private static long[] gramsOf(final String[] fields) {
+        final var grams = new HashSet<Long>();
+        for (final var field : fields) {
+            if (field.isEmpty()) {
+                continue;
+            }
+            for (final var word : field.split(" ")) {
+                final var padded = "  " + word + " ";
+                for (int i = 0; i + 3 <= padded.length(); i++) {
+                    grams.add(pack(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2)));
+                }
+            }
+        }
+        final var result = new long[grams.size()];
+        int i = 0;
+        for (final long gram : grams) {
+            result[i++] = gram;
+        }
+        return result;
+    }
+
+    private static long pack(final char first, final char second, final char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+}
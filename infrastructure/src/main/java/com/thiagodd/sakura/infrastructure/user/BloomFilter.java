@@ -0,0 +1,99 @@
+package com.thiagodd.sakura.infrastructure.user;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Set membership with false positives but no false negatives: {@link #mightContain(String)} returning {@code false}
+ * means the key was never added. Bits are set with atomic ORs, so adds and lookups can run concurrently. Keys cannot
+ * be removed; once more keys than expected were added the false positive rate climbs, and {@link #isSaturated()}
+ * tells the owner to rebuild a larger filter.
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+
+    private BloomFilter(final long bits, final int hashes, final long expectedInsertions) {
+        this.words = new AtomicLongArray((int) ((bits + 63) >>> 6));
+        this.bits = bits;
+        this.hashes = hashes;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    static BloomFilter create(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("'expectedInsertions' should be greater than zero");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("'falsePositiveRate' should be between 0 and 1");
+        }
+        final long bits = Math.max(64,
+            (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        final int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * LN2));
+        return new BloomFilter(bits, hashes, expectedInsertions);
+    }
+
+    void put(final String key) {
+        final long hash = hash(key);
+        final long step = mix(hash) | 1;
+        long combined = hash;
+        for (int i = 0; i < hashes; i++) {
+            final long bit = Math.floorMod(combined, bits);
+            final int index = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0) {
+                final long witness = words.compareAndExchange(index, word, word | mask);
+                if (witness == word) {
+                    break;
+                }
+                word = witness;
+            }
+            combined += step;
+        }
+        insertions.increment();
+    }
+
+    boolean mightContain(final String key) {
+        final long hash = hash(key);
+        final long step = mix(hash) | 1;
+        long combined = hash;
+        for (int i = 0; i < hashes; i++) {
+            final long bit = Math.floorMod(combined, bits);
+            if ((words.get((int) (bit >>> 6)) & 1L << bit) == 0) {
+                return false;
+            }
+            combined += step;
+        }
+        return true;
+    }
+
+    boolean isSaturated() {
+        return insertions.sum() > expectedInsertions;
+    }
+
+    long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /** 64-bit FNV-1a over the UTF-16 code units, finished with a bit mixer so nearby keys spread out. */
+    private static long hash(final String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,316 @@
+package com.thiagodd.sakura.infrastructure.user;
+
+import com.thiagodd.sakura.domain.exceptions.ConflictException;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.search.SearchText;
+import com.thiagodd.sakura.domain.user.User;
+import com.thiagodd.sakura.domain.user.UserGateway;
+import com.thiagodd.sakura.domain.user.UserID;
+import com.thiagodd.sakura.domain.validation.Error;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Users in a concurrent map, with case-insensitive hash indexes on login and email. {@link #existsByLogin(String)}
+ * and {@link #existsByEmail(String)} first ask a Bloom filter, so the usual answer for a free login or email, "not
+ * taken", never reaches the indexes. Writes are serialized so that uniqueness holds; reads take no lock, so an
+ * update adds the new keys before it drops the old ones it changed, and a lookup by a key the user keeps never
+ * misses.
+ */
+public class InMemoryUserGateway implements UserGateway {
+
+    private static final Map<String, Comparator<User>> SORTS = Map.of(
+        "firstName", nullsLast(User::getFirstName),
+        "lastName", nullsLast(User::getLastName),
+        "login", nullsLast(User::getLogin),
+        "email", nullsLast(User::getEmail),
+        "createdAt", Comparator.comparing(User::getCreatedAt)
+    );
+    private static final int DEFAULT_EXPECTED_USERS = 1_024;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final Map<UserID, User> users = new ConcurrentHashMap<>();
+    private final Map<String, UserID> logins = new ConcurrentHashMap<>();
+    private final Map<String, UserID> emails = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final LongAdder indexLookups = new LongAdder();
+    private final int expectedUsers;
+    private volatile BloomFilter loginFilter;
+    private volatile BloomFilter emailFilter;
+
+    public InMemoryUserGateway() {
+        this(DEFAULT_EXPECTED_USERS);
+    }
+
+    public InMemoryUserGateway(final int expectedUsers) {
+        this.expectedUsers = expectedUsers;
+        this.loginFilter = BloomFilter.create(expectedUsers, FALSE_POSITIVE_RATE);
+        this.emailFilter = BloomFilter.create(expectedUsers, FALSE_POSITIVE_RATE);
+    }
+
+    @Override
+    public User create(final User user) {
+        final var stored = withVersion(user, user.getVersion());
+        synchronized (writeLock) {
+            if (users.containsKey(user.getId())) {
+                throw DomainException.with(
+                    new Error("User with ID %s already exists".formatted(user.getId().getValue())));
+            }
+            requireUnique(user);
+            users.put(stored.getId(), stored);
+            index(null, stored);
+        }
+        return User.with(stored);
+    }
+
+    @Override
+    public void deleteById(final UserID id) {
+        synchronized (writeLock) {
+            final var removed = users.remove(id);
+            if (removed != null) {
+                unindex(removed);
+            }
+        }
+    }
+
+    @Override
+    public Optional<User> findById(final UserID userID) {
+        return Optional.ofNullable(users.get(userID)).map(User::with);
+    }
+
+    @Override
+    public Optional<User> findByLogin(final String login) {
+        return findBy(logins, keyOf(login), User::getLogin);
+    }
+
+    @Override
+    public Optional<User> findByEmail(final String email) {
+        return findBy(emails, keyOf(email), User::getEmail);
+    }
+
+    @Override
+    public boolean existsByLogin(final String login) {
+        return exists(loginFilter, logins, keyOf(login));
+    }
+
+    @Override
+    public boolean existsByEmail(final String email) {
+        return exists(emailFilter, emails, keyOf(email));
+    }
+
+    @Override
+    public Map<UserID, User> findAllById(final Collection<UserID> ids) {
+        final var found = new HashMap<UserID, User>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            final var user = users.get(id);
+            if (user != null) {
+                found.putIfAbsent(id, User.with(user));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public User update(final User user) {
+        final var id = user.getId();
+        if (!user.hasChanges()) {
+            requireCurrent(users.get(id), user);
+            return User.with(user);
+        }
+        final User next;
+        synchronized (writeLock) {
+            final var current = users.get(id);
+            requireCurrent(current, user);
+            requireUnique(user);
+            next = withVersion(user, current.getVersion() + 1);
+            index(current, next);
+            users.put(id, next);
+            unindexChanged(current, next);
+        }
+        return User.with(next);
+    }
+
+    @Override
+    public Pagination<User> findAll(final SearchQuery query) {
+        final var terms = SearchText.normalize(query.terms());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var offset = (long) Math.max(query.page(), 0) * perPage;
+        var sort = SORTS.getOrDefault(query.sort() == null ? "firstName" : query.sort(), SORTS.get("firstName"));
+        if ("desc".equalsIgnoreCase(query.direction())) {
+            sort = sort.reversed();
+        }
+
+        final var matching = users.values().stream()
+            .filter(user -> terms.isEmpty() || matches(user, terms))
+            .toList();
+        final var items = matching.stream()
+            .sorted(sort.thenComparing(User::getId))
+            .skip(offset)
+            .limit(perPage)
+            .map(User::with)
+            .toList();
+
+        return new Pagination<>(query.page(), query.perPage(), matching.size(), items);
+    }
+
+    /** How many uniqueness checks got past the Bloom filters and had to look at the indexes. */
+    long indexLookups() {
+        return indexLookups.sum();
+    }
+
+    /** How many keys the larger of the two Bloom filters is currently sized for. */
+    long filterCapacity() {
+        return Math.max(loginFilter.expectedInsertions(), emailFilter.expectedInsertions());
+    }
+
+    private Optional<User> findBy(
+        final Map<String, UserID> index, final String key, final Function<User, String> field
+    ) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        final var id = index.get(key);
+        final var user = id == null ? null : users.get(id);
+        if (user == null || !key.equals(keyOf(field.apply(user)))) {
+            return Optional.empty();
+        }
+        return Optional.of(User.with(user));
+    }
+
+    private boolean exists(final BloomFilter filter, final Map<String, UserID> index, final String key) {
+        if (key == null || !filter.mightContain(key)) {
+            return false;
+        }
+        indexLookups.increment();
+        return index.containsKey(key);
+    }
+
+    private static void requireCurrent(final User current, final User user) {
+        if (current == null) {
+            throw NotFoundException.with(User.class, user.getId());
+        }
+        if (current.getVersion() != user.getVersion()) {
+            throw ConflictException.with(User.class, user.getId(), user.getVersion(), current.getVersion());
+        }
+    }
+
+    private void requireUnique(final User user) {
+        final var login = keyOf(user.getLogin());
+        final var loginOwner = login == null ? null : logins.get(login);
+        if (loginOwner != null && !loginOwner.equals(user.getId())) {
+            throw DomainException.with(new Error("'login' is already taken"));
+        }
+        final var email = keyOf(user.getEmail());
+        final var emailOwner = email == null ? null : emails.get(email);
+        if (emailOwner != null && !emailOwner.equals(user.getId())) {
+            throw DomainException.with(new Error("'email' is already taken"));
+        }
+    }
+
+    /**
+     * Indexes the keys of {@code user}, adding to the Bloom filters only the ones {@code previous} did not have, so
+     * updates that keep their login and email do not fill the filters up.
+     */
+    private void index(final User previous, final User user) {
+        final var login = keyOf(user.getLogin());
+        if (login != null) {
+            if (previous == null || !login.equals(keyOf(previous.getLogin()))) {
+                loginFilter.put(login);
+            }
+            logins.put(login, user.getId());
+        }
+        final var email = keyOf(user.getEmail());
+        if (email != null) {
+            if (previous == null || !email.equals(keyOf(previous.getEmail()))) {
+                emailFilter.put(email);
+            }
+            emails.put(email, user.getId());
+        }
+        if (loginFilter.isSaturated()) {
+            loginFilter = rebuilt(logins);
+        }
+        if (emailFilter.isSaturated()) {
+            emailFilter = rebuilt(emails);
+        }
+    }
+
+    private void unindex(final User user) {
+        final var login = keyOf(user.getLogin());
+        if (login != null) {
+            logins.remove(login, user.getId());
+        }
+        final var email = keyOf(user.getEmail());
+        if (email != null) {
+            emails.remove(email, user.getId());
+        }
+    }
+
+    /** Drops the keys of {@code previous} that {@code next} no longer has, leaving the unchanged ones in place. */
+    private void unindexChanged(final User previous, final User next) {
+        final var login = keyOf(previous.getLogin());
+        if (login != null && !login.equals(keyOf(next.getLogin()))) {
+            logins.remove(login, previous.getId());
+        }
+        final var email = keyOf(previous.getEmail());
+        if (email != null && !email.equals(keyOf(next.getEmail()))) {
+            emails.remove(email, previous.getId());
+        }
+    }
+
+    /**
+     * A filter sized for twice the keys the index holds now, never below the configured size, holding those keys. It
+     * also drops the bits of removed ones, so churn does not make the filters grow.
+     */
+    private BloomFilter rebuilt(final Map<String, UserID> index) {
+        final var expected = Math.max(expectedUsers, 2L * index.size());
+        final var next = BloomFilter.create(expected, FALSE_POSITIVE_RATE);
+        index.keySet().forEach(next::put);
+        return next;
+    }
+
+    private static String keyOf(final String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean matches(final User user, final String terms) {
+        return SearchText.normalize(user.getFirstName()).contains(terms)
+            || SearchText.normalize(user.getLastName()).contains(terms)
+            || SearchText.normalize(user.getLogin()).contains(terms)
+            || SearchText.normalize(user.getEmail()).contains(terms);
+    }
+
+    private static Comparator<User> nullsLast(final Function<User, String> field) {
+        return Comparator.comparing(field, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+    }
+
+    /** A copy of {@code user} as stored under {@code version}, without changes. */
+    private static User withVersion(final User user, final long version) {
+        final var copy = User.with(
+            user.getId(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getLogin(),
+            user.getEmail(),
+            user.getImageUrl(),
+            user.isActive(),
+            user.getAuthorities(),
+            user.getCreatedAt(),
+            user.getUpdatedAt(),
+            user.getDeletedAt(),
+            version
+        );
+        copy.markClean();
+        return copy;
+    }
+}
@@ -0,0 +1,37 @@
+-- Text columns rely on a case-insensitive collation (MySQL default utf8mb4_0900_ai_ci) for sorting and search.
+CREATE TABLE IF NOT EXISTS patients (
+    id            BINARY(16)    NOT NULL,
+    name          VARCHAR(255)  NOT NULL,
+    social_name   VARCHAR(255)  NULL,
+    date_of_birth DATE          NULL,
+    email         VARCHAR(255)  NULL,
+    observation   VARCHAR(4000) NULL,
+    active        BOOLEAN       NOT NULL,
+    sex           VARCHAR(16)   NULL,
+    created_at    DATETIME(6)   NOT NULL,
+    updated_at    DATETIME(6)   NOT NULL,
+    deleted_at    DATETIME(6)   NULL,
+    version       BIGINT        NOT NULL DEFAULT 0,
+    name_key        VARCHAR(255) NULL,
+    social_name_key VARCHAR(255) NULL,
+    email_local     VARCHAR(255) NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_patients_name ON patients (name, id);
+CREATE INDEX idx_patients_email ON patients (email, id);
+CREATE INDEX idx_patients_date_of_birth ON patients (date_of_birth, id);
+CREATE INDEX idx_patients_created_at ON patients (created_at, id);
+-- name_key, social_name_key and email_local are the duplicate-detection blocking keys, derived on every write.
+CREATE INDEX idx_patients_name_key ON patients (name_key, id);
+CREATE INDEX idx_patients_social_name_key ON patients (social_name_key, id);
+CREATE INDEX idx_patients_email_local ON patients (email_local, id);
+
+-- Domain events written in the transaction of the aggregate they belong to; rows are deleted once delivered.
+CREATE TABLE IF NOT EXISTS outbox (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type   VARCHAR(255) NOT NULL,
+    aggregate_id VARCHAR(64)  NOT NULL,
+    occurred_on  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,210 @@
+package com.thiagodd.sakura.infrastructure.outbox;
+
+import com.thiagodd.sakura.domain.events.DomainEvent;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.PatientUpdated;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxDispatcherTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void givenConcurrentProducers_whenPublishing_thenDeliverEveryMessageInBoundedBatches() throws Exception {
+        final var sequences = new ConcurrentSkipListSet<Long>();
+        final var batchSizes = new CopyOnWriteArrayList<Integer>();
+        final var outbox = FileOutbox.create(directory).sync(false);
+        final var dispatcher = OutboxDispatcher.create(outbox).capacity(64).batchSize(50)
+            .subscribe(batch -> {
+                batchSizes.add(batch.size());
+                batch.forEach(message -> assertTrue(sequences.add(message.sequence())));
+            })
+            .start();
+
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var producers = new ArrayList<Future<?>>();
+            for (int t = 0; t < 4; t++) {
+                producers.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        dispatcher.publish(List.of(updated()));
+                    }
+                }));
+            }
+            for (final var producer : producers) {
+                producer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        dispatcher.close();
+
+        final var actualMetrics = dispatcher.metrics();
+        assertEquals(2_000, sequences.size());
+        assertEquals(2_000, (long) sequences.last());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 50));
+        assertEquals(2_000, actualMetrics.published());
+        assertEquals(2_000, actualMetrics.delivered());
+        assertEquals(0, actualMetrics.pending());
+        assertEquals(2_000, outbox.acknowledged());
+        assertEquals(0, Files.size(directory.resolve("outbox.log")));
+    }
+
+    @Test
+    public void givenAFailingSubscriber_whenDispatching_thenRetryTheSameBatch() throws Exception {
+        final var attempts = new AtomicInteger();
+        final var received = new CopyOnWriteArrayList<Long>();
+        final var dispatcher = OutboxDispatcher.create(FileOutbox.create(directory).sync(false))
+            .retryBackoff(Duration.ZERO)
+            .subscribe(batch -> {
+                if (attempts.incrementAndGet() <= 2) {
+                    throw new IllegalStateException("search index unavailable");
+                }
+                batch.forEach(message -> received.add(message.sequence()));
+            })
+            .start();
+
+        dispatcher.publish(List.of(updated(), updated(), updated()));
+        while (dispatcher.metrics().delivered() < 3) {
+            Thread.sleep(1);
+        }
+        dispatcher.close();
+
+        assertEquals(List.of(1L, 2L, 3L), received);
+        assertEquals(2, dispatcher.metrics().failures());
+    }
+
+    @Test
+    public void givenASubscriberThatKeepsFailing_whenDispatching_thenParkItsBatchAndKeepDeliveringToTheOthers()
+        throws Exception {
+        final var healthy = new CopyOnWriteArrayList<Long>();
+        final var deadLetters = new CopyOnWriteArrayList<List<OutboxMessage>>();
+        final var outbox = FileOutbox.create(directory).sync(false);
+        final var dispatcher = OutboxDispatcher.create(outbox)
+            .retryBackoff(Duration.ZERO)
+            .maxAttempts(3)
+            .subscribe(batch -> {
+                throw new IllegalStateException("malformed payload");
+            })
+            .subscribe(batch -> batch.forEach(message -> healthy.add(message.sequence())))
+            .deadLetters(batch -> deadLetters.add(List.copyOf(batch)))
+            .start();
+
+        dispatcher.publish(List.of(updated(), updated(), updated()));
+        while (dispatcher.metrics().delivered() < 3) {
+            Thread.sleep(1);
+        }
+        dispatcher.close();
+
+        final var actualMetrics = dispatcher.metrics();
+        assertEquals(List.of(1L, 2L, 3L), healthy);
+        assertEquals(List.of(1L, 2L, 3L),
+            deadLetters.stream().flatMap(List::stream).map(OutboxMessage::sequence).toList());
+        assertEquals(3L * deadLetters.size(), actualMetrics.failures());
+        assertEquals(3, actualMetrics.parked());
+        assertEquals(3, outbox.acknowledged());
+    }
+
+    @Test
+    public void givenUnacknowledgedMessages_whenRestarting_thenDeliverThemAgain() throws Exception {
+        final var first = OutboxDispatcher.create(FileOutbox.create(directory).sync(false))
+            .retryBackoff(Duration.ofMinutes(1))
+            .subscribe(batch -> {
+                throw new IllegalStateException("billing unavailable");
+            })
+            .start();
+        first.publish(List.of(updated(), updated()));
+        first.close();
+        Files.writeString(directory.resolve("outbox.log"), "3\tPatientUpd", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        final var received = new CopyOnWriteArrayList<OutboxMessage>();
+        final var outbox = FileOutbox.create(directory).sync(false);
+        final var second = OutboxDispatcher.create(outbox).subscribe(received::addAll).start();
+        second.publish(List.of(updated()));
+        second.close();
+
+        assertEquals(List.of(1L, 2L, 3L), received.stream().map(OutboxMessage::sequence).toList());
+        assertEquals("PatientUpdated", received.get(0).type());
+        assertEquals(3, outbox.acknowledged());
+    }
+
+    @Test
+    public void givenManyProducers_whenOfferingToTheRingBuffer_thenTheConsumerSeesEveryElementOnce() throws Exception {
+        final var ring = new RingBuffer<Integer>(16);
+        final var seen = new boolean[40_000];
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int t = 0; t < 4; t++) {
+                final int producer = t;
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        while (!ring.offer(producer * 10_000 + i)) {
+                            Thread.yield();
+                        }
+                    }
+                });
+            }
+            int received = 0;
+            while (received < seen.length) {
+                final var element = ring.poll();
+                if (element == null) {
+                    Thread.yield();
+                    continue;
+                }
+                assertFalse(seen[element]);
+                seen[element] = true;
+                received++;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertNull(ring.poll());
+        assertEquals(16, ring.capacity());
+    }
+
+    @Test
+    public void givenNoStartedDispatcher_whenPublishingPastCapacity_thenReturnAndDeliverOnStart() throws Exception {
+        final var received = new CopyOnWriteArrayList<OutboxMessage>();
+        final var outbox = FileOutbox.create(directory).sync(false);
+        final var dispatcher = OutboxDispatcher.create(outbox).capacity(4).subscribe(received::addAll);
+        final var events = new ArrayList<DomainEvent>();
+        for (int i = 0; i < 10; i++) {
+            events.add(updated());
+        }
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> dispatcher.publish(events)).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        dispatcher.start().close();
+
+        assertEquals(10, received.size());
+        assertEquals(10, outbox.acknowledged());
+    }
+
+    private static DomainEvent updated() {
+        return new PatientUpdated(PatientID.unique(), Instant.now());
+    }
+}
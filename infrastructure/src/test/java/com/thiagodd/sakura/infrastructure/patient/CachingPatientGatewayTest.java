@@ -0,0 +1,157 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.Sex;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingPatientGatewayTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final InMemoryPatientGateway delegate = new InMemoryPatientGateway() {
+        @Override
+        public Optional<Patient> findById(final PatientID patientID) {
+            loads.incrementAndGet();
+            return super.findById(patientID);
+        }
+    };
+
+    @Test
+    public void givenACachedPatient_whenCallFindByIdAgain_thenReturnANewCopyWithoutLoading() {
+        final var gateway = new CachingPatientGateway(delegate, 100);
+        final var patient = delegate.create(newPatient("João da Silva"));
+
+        final var firstPatient = gateway.findById(patient.getId()).orElseThrow();
+        final var secondPatient = gateway.findById(patient.getId()).orElseThrow();
+        secondPatient.update("Outro Nome", null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE);
+        final var thirdPatient = gateway.findById(patient.getId()).orElseThrow();
+
+        assertEquals(1, loads.get());
+        assertNotSame(firstPatient, secondPatient);
+        assertNotSame(secondPatient, thirdPatient);
+        assertEquals("João da Silva", thirdPatient.getName());
+        assertEquals(2, gateway.stats().hits());
+        assertEquals(1, gateway.stats().misses());
+    }
+
+    @Test
+    public void givenACachedPatient_whenCallUpdateOrDelete_thenNextFindByIdLoadsAgain() {
+        final var gateway = new CachingPatientGateway(delegate, 100);
+        final var patient = gateway.create(newPatient("João da Silva"));
+        gateway.findById(patient.getId());
+
+        gateway.update(Patient.with(patient).deactivate());
+        final var actualPatient = gateway.findById(patient.getId()).orElseThrow();
+        gateway.deleteById(patient.getId());
+
+        assertFalse(actualPatient.isActive());
+        assertTrue(gateway.findById(patient.getId()).isEmpty());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void givenSomeCachedPatients_whenCallFindAllById_thenLoadOnlyTheMissingOnesInOneCall() {
+        final var batches = new ArrayList<Collection<PatientID>>();
+        final var gateway = new CachingPatientGateway(new InMemoryPatientGateway() {
+            @Override
+            public Map<PatientID, Patient> findAllById(final Collection<PatientID> ids) {
+                batches.add(List.copyOf(ids));
+                return super.findAllById(ids);
+            }
+        }, 100);
+        final var cached = gateway.create(newPatient("João da Silva"));
+        final var missing = gateway.create(newPatient("Maria Souza"));
+        gateway.findById(cached.getId());
+
+        final var actualPatients = gateway.findAllById(List.of(cached.getId(), missing.getId()));
+        gateway.findAllById(List.of(cached.getId(), missing.getId()));
+
+        assertEquals(2, actualPatients.size());
+        assertEquals(List.of(List.of(missing.getId())), batches);
+    }
+
+    @Test
+    public void givenATimeToLive_whenEntryExpires_thenFindByIdLoadsAgain() {
+        final var now = new AtomicLong();
+        final var gateway = new CachingPatientGateway(delegate, 100, Duration.ofSeconds(30), now::get);
+        final var patient = delegate.create(newPatient("João da Silva"));
+
+        gateway.findById(patient.getId());
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        gateway.findById(patient.getId());
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        gateway.findById(patient.getId());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenFrequentPatients_whenScanningManyOthers_thenFrequentOnesStayCached() {
+        final var gateway = new CachingPatientGateway(delegate, 100);
+        final var hot = new ArrayList<PatientID>();
+        for (int i = 0; i < 50; i++) {
+            hot.add(delegate.create(newPatient("Paciente " + i)).getId());
+        }
+        for (int round = 0; round < 10; round++) {
+            hot.forEach(gateway::findById);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            gateway.findById(delegate.create(newPatient("Varredura " + i)).getId());
+            if (i % 100 == 99) {
+                hot.forEach(gateway::findById);
+            }
+        }
+
+        loads.set(0);
+        hot.forEach(gateway::findById);
+
+        assertEquals(0, loads.get());
+        assertTrue(gateway.stats().evictions() >= 900);
+    }
+
+    @Test
+    public void givenConcurrentReadsAndUpdates_whenCallFindById_thenNeverReturnStaleAfterUpdate() throws Exception {
+        final var gateway = new CachingPatientGateway(delegate, 10);
+        final var patient = gateway.create(newPatient("Versão 0"));
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final var readers = new ArrayList<Future<?>>();
+            for (int t = 0; t < 7; t++) {
+                readers.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        assertNotNull(gateway.findById(patient.getId()).orElseThrow().getName());
+                    }
+                }));
+            }
+            for (int version = 1; version <= 200; version++) {
+                final var expectedName = "Versão " + version;
+                gateway.update(gateway.findById(patient.getId()).orElseThrow().update(
+                    expectedName, null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE));
+                assertEquals(expectedName, gateway.findById(patient.getId()).orElseThrow().getName());
+            }
+            for (final Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Patient newPatient(final String name) {
+        return Patient.newPatient(name, null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE);
+    }
+}
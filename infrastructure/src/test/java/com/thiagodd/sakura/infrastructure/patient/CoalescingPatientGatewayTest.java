@@ -0,0 +1,187 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.pagination.Pagination;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.Sex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingPatientGatewayTest {
+
+    private static final int CALLERS = 16;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean blocking = true;
+    private volatile boolean failing;
+    private final InMemoryPatientGateway delegate = new InMemoryPatientGateway() {
+        @Override
+        public Optional<Patient> findById(final PatientID patientID) {
+            loads.incrementAndGet();
+            await();
+            if (failing) {
+                throw new IllegalStateException("database is down");
+            }
+            return super.findById(patientID);
+        }
+
+        @Override
+        public Pagination<Patient> findAll(final SearchQuery query) {
+            loads.incrementAndGet();
+            await();
+            return super.findAll(query);
+        }
+    };
+    private final CoalescingPatientGateway gateway = new CoalescingPatientGateway(delegate);
+
+    @Test
+    public void givenConcurrentFindByIdCalls_whenTheLoadIsInFlight_thenShareOneLoadAndReturnCopies() throws Exception {
+        final var patient = delegate.create(newPatient("João da Silva"));
+
+        final var actualPatients = concurrently(() -> gateway.findById(patient.getId()).orElseThrow());
+
+        final var distinct = Collections.newSetFromMap(new IdentityHashMap<Patient, Boolean>());
+        distinct.addAll(actualPatients);
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS, distinct.size());
+        actualPatients.forEach(actualPatient -> assertEquals("João da Silva", actualPatient.getName()));
+        assertEquals(1, gateway.stats().loads());
+        assertEquals(CALLERS - 1, gateway.stats().collapsed());
+    }
+
+    @Test
+    public void givenConcurrentEqualQueries_whenCallFindAll_thenShareOneLoadAndCopyEveryItem() throws Exception {
+        delegate.create(newPatient("João da Silva"));
+        delegate.create(newPatient("Maria Souza"));
+
+        final var actualPages = concurrently(() -> gateway.findAll(new SearchQuery(0, 10, "", "name", "asc")));
+        final var first = actualPages.get(0).items().get(0);
+        first.update("Outro Nome", null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE);
+
+        assertEquals(1, loads.get());
+        for (final var actualPage : actualPages.subList(1, CALLERS)) {
+            assertEquals(2, actualPage.total());
+            assertNotSame(first, actualPage.items().get(0));
+            assertEquals("João da Silva", actualPage.items().get(0).getName());
+        }
+    }
+
+    @Test
+    public void givenAFailingLoad_whenOthersJoinedIt_thenEveryCallerSeesTheFailureAndTheNextCallRetries() {
+        final var patient = delegate.create(newPatient("João da Silva"));
+        failing = true;
+
+        final var actualError = assertThrows(ExecutionException.class,
+            () -> concurrently(() -> gateway.findById(patient.getId())));
+        failing = false;
+
+        assertInstanceOf(IllegalStateException.class, actualError.getCause());
+        assertEquals(1, loads.get());
+        assertTrue(gateway.findById(patient.getId()).isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenReadersAndAWriter_whenRunningConcurrently_thenCollapseCallsAndNeverReadStaleAfterAWrite()
+        throws Exception {
+        blocking = false;
+        release.countDown();
+        final var ids = new ArrayList<PatientID>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(delegate.create(newPatient("Paciente " + i)).getId());
+        }
+        final var executor = Executors.newFixedThreadPool(8);
+        final var calls = new AtomicInteger();
+        try {
+            final var readers = new ArrayList<Future<?>>();
+            for (int t = 0; t < 7; t++) {
+                readers.add(executor.submit(() -> {
+                    final var random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 5_000; i++) {
+                        if (random.nextInt(10) == 0) {
+                            assertEquals(8L, gateway.findAll(new SearchQuery(0, 10, "", "name", "asc")).total());
+                        } else {
+                            assertNotNull(gateway.findById(ids.get(random.nextInt(ids.size()))).orElseThrow().getName());
+                        }
+                        calls.incrementAndGet();
+                    }
+                }));
+            }
+            final var target = ids.get(0);
+            for (int version = 1; version <= 100; version++) {
+                final var expectedName = "Versão " + version;
+                gateway.update(gateway.findById(target).orElseThrow().update(
+                    expectedName, null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE));
+                assertEquals(expectedName, gateway.findById(target).orElseThrow().getName());
+                calls.addAndGet(2);
+            }
+            for (final Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final var actualStats = gateway.stats();
+        assertEquals(calls.get(), actualStats.requests());
+        assertEquals(loads.get(), actualStats.loads());
+        assertTrue(actualStats.collapsed() > 0);
+    }
+
+    private <T> List<T> concurrently(final Callable<T> call) throws Exception {
+        final var executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            final var futures = new ArrayList<Future<T>>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(call));
+            }
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (gateway.stats().collapsed() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            final var results = new ArrayList<T>();
+            for (final var future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void await() {
+        if (!blocking) {
+            LockSupport.parkNanos(20_000);
+            return;
+        }
+        try {
+            release.await();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Patient newPatient(final String name) {
+        return Patient.newPatient(name, null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.MALE);
+    }
+}
@@ -0,0 +1,280 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.exceptions.ConflictException;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.pagination.Cursor;
+import com.thiagodd.sakura.domain.pagination.CursorQuery;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientID;
+import com.thiagodd.sakura.domain.patient.PatientSummary;
+import com.thiagodd.sakura.domain.patient.Sex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryPatientGatewayTest {
+
+    private final InMemoryPatientGateway gateway = new InMemoryPatientGateway();
+
+    @Test
+    public void givenAValidPatient_whenCallCreate_thenFindByIdReturnsACopy() {
+        final var patient = newPatient("João da Silva", "joao@example.com", LocalDate.of(1990, 5, 15));
+
+        gateway.create(patient);
+        final var actualPatient = gateway.findById(patient.getId()).orElseThrow();
+
+        assertEquals(patient.getId(), actualPatient.getId());
+        assertEquals(patient.getName(), actualPatient.getName());
+        assertNotSame(patient, actualPatient);
+        assertNotSame(actualPatient, gateway.findById(patient.getId()).orElseThrow());
+    }
+
+    @Test
+    public void givenAnExistingPatient_whenCallCreateAgain_thenThrowDomainException() {
+        final var patient = gateway.create(newPatient("João da Silva", "joao@example.com", LocalDate.of(1990, 5, 15)));
+
+        assertThrows(DomainException.class, () -> gateway.create(patient));
+    }
+
+    @Test
+    public void givenKnownAndUnknownIds_whenCallFindAllById_thenReturnCopiesOfTheKnownOnesKeyedById() {
+        final var first = gateway.create(newPatient("João da Silva", "joao@example.com", LocalDate.of(1990, 5, 15)));
+        final var second = gateway.create(newPatient("Maria Souza", "maria@example.com", LocalDate.of(1990, 5, 15)));
+
+        final var actualPatients =
+            gateway.findAllById(List.of(first.getId(), PatientID.unique(), second.getId(), first.getId()));
+
+        assertEquals(Set.of(first.getId(), second.getId()), actualPatients.keySet());
+        assertEquals("Maria Souza", actualPatients.get(second.getId()).getName());
+        assertNotSame(actualPatients.get(first.getId()), gateway.findAllById(List.of(first.getId())).get(first.getId()));
+    }
+
+    @Test
+    public void givenAnUnknownPatient_whenCallUpdate_thenThrowNotFoundException() {
+        final var patient = newPatient("João da Silva", "joao@example.com", LocalDate.of(1990, 5, 15));
+
+        assertThrows(NotFoundException.class, () -> gateway.update(patient));
+    }
+
+    @Test
+    public void givenAStaleCopy_whenCallUpdate_thenThrowConflictExceptionAndKeepTheWinner() {
+        final var patient = gateway.create(newPatient("João da Silva", "joao@example.com", LocalDate.of(1990, 5, 15)));
+        final var first = gateway.findById(patient.getId()).orElseThrow();
+        final var second = gateway.findById(patient.getId()).orElseThrow();
+
+        final var updated = gateway.update(first.update(
+            "João Souza", null, LocalDate.of(1990, 5, 15), "joao@example.com", null, true, Sex.UNKNOWN));
+        final var actualException = assertThrows(ConflictException.class, () -> gateway.update(second.deactivate()));
+
+        assertEquals(0, patient.getVersion());
+        assertEquals(1, updated.getVersion());
+        assertEquals(1, gateway.findById(patient.getId()).orElseThrow().getVersion());
+        assertEquals("João Souza", gateway.findById(patient.getId()).orElseThrow().getName());
+        assertTrue(actualException.getMessage().contains("expected version 0 but was 1"));
+    }
+
+    @Test
+    public void givenPatients_whenCallFindAllSortedByName_thenReturnPagesInOrder() {
+        gateway.create(newPatient("Carla Souza", "carla@example.com", LocalDate.of(1985, 1, 1)));
+        gateway.create(newPatient("ana Lima", "ana@example.com", LocalDate.of(1999, 1, 1)));
+        gateway.create(newPatient("Bruno Alves", "bruno@example.com", LocalDate.of(1970, 1, 1)));
+
+        final var firstPage = gateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+        final var secondPage = gateway.findAll(new SearchQuery(1, 2, "", "name", "asc"));
+        final var byBirthDesc = gateway.findAll(new SearchQuery(0, 3, null, "dateOfBirth", "desc"));
+
+        assertEquals(3, firstPage.total());
+        assertEquals(List.of("ana Lima", "Bruno Alves"), names(firstPage.items()));
+        assertEquals(List.of("Carla Souza"), names(secondPage.items()));
+        assertEquals(List.of("ana Lima", "Carla Souza", "Bruno Alves"), names(byBirthDesc.items()));
+    }
+
+    @Test
+    public void givenAnIdenticalUpdate_whenCallUpdateRepeatedly_thenNothingIsWritten() {
+        final var patient = gateway.create(newPatient("João da Silva", "joao@example.com", LocalDate.of(1990, 5, 15)));
+        final var loaded = gateway.findById(patient.getId()).orElseThrow();
+
+        for (int i = 0; i < 3; i++) {
+            loaded.update(loaded.getName(), null, loaded.getDateOfBirth(), loaded.getEmail(), null, true, Sex.UNKNOWN);
+            assertEquals(0, gateway.update(loaded).getVersion());
+        }
+        final var actualPatient = gateway.findById(patient.getId()).orElseThrow();
+
+        assertFalse(loaded.hasChanges());
+        assertEquals(0, actualPatient.getVersion());
+        assertEquals(patient.getUpdatedAt(), actualPatient.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAPatientRebuiltFromValues_whenCallUpdate_thenItIsWrittenOrRejected() {
+        final var patient = gateway.create(newPatient("João da Silva", "joao@example.com", LocalDate.of(1990, 5, 15)));
+        final var rebuilt = Patient.with(patient.getId(), "João Souza", null, patient.getDateOfBirth(),
+            patient.getEmail(), null, true, Sex.UNKNOWN, patient.getCreatedAt(), patient.getUpdatedAt(), null, 0);
+        final var missing = Patient.with(PatientID.unique(), "Ana", null, null, null, null, true, Sex.UNKNOWN,
+            patient.getCreatedAt(), patient.getUpdatedAt(), null, 0);
+
+        final var actualPatient = gateway.update(rebuilt);
+        final var stale = gateway.findById(patient.getId()).orElseThrow();
+        gateway.update(Patient.with(stale).deactivate());
+
+        assertEquals(1, actualPatient.getVersion());
+        assertEquals("João Souza", gateway.findById(patient.getId()).orElseThrow().getName());
+        assertThrows(NotFoundException.class, () -> gateway.update(missing));
+        assertThrows(ConflictException.class, () -> gateway.update(stale));
+    }
+
+    @Test
+    public void givenAnUpdatedPatient_whenCallFindAll_thenIndexesReflectTheNewValues() {
+        final var patient = gateway.create(newPatient("Zélia Duarte", "zelia@example.com", LocalDate.of(1985, 1, 1)));
+        gateway.create(newPatient("Marcos Pinto", "marcos@example.com", LocalDate.of(1985, 1, 1)));
+
+        patient.update("Alice Duarte", null, patient.getDateOfBirth(), patient.getEmail(), null, true, Sex.FEMALE);
+        gateway.update(patient);
+        final var actualPage = gateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        assertEquals(List.of("Alice Duarte", "Marcos Pinto"), names(actualPage.items()));
+    }
+
+    @Test
+    public void givenPatients_whenCallFindAllSummaries_thenReturnTheSamePageAsSummaries() {
+        final var patient = gateway.create(Patient.newPatient(
+            "Bruno Alves", "Bruno", LocalDate.of(1985, 1, 1), "bruno@example.com", "Notas clínicas", true, Sex.MALE));
+        gateway.create(newPatient("ana Lima", "ana@example.com", LocalDate.of(1990, 5, 15)));
+        final var query = new SearchQuery(0, 10, "", "name", "asc");
+
+        final var actualPage = gateway.findAllSummaries(query);
+
+        assertEquals(gateway.findAll(query).total(), actualPage.total());
+        assertEquals(List.of("ana Lima", "Bruno Alves"), actualPage.items().stream().map(PatientSummary::name).toList());
+        assertEquals(PatientSummary.from(patient), actualPage.items().get(1));
+        assertEquals("Notas clínicas", gateway.findObservationById(patient.getId()).orElseThrow());
+        assertTrue(gateway.findObservationById(PatientID.unique()).isEmpty());
+    }
+
+    @Test
+    public void givenTerms_whenCallFindAll_thenFilterByNameSocialNameAndEmail() {
+        gateway.create(newPatient("João da Silva", "joao@example.com", LocalDate.of(1990, 5, 15)));
+        gateway.create(newPatient("Maria Souza", "maria@example.com", LocalDate.of(1990, 5, 15)));
+
+        final var actualPage = gateway.findAll(new SearchQuery(0, 10, "SILVA", "name", "asc"));
+
+        assertEquals(1, actualPage.total());
+        assertEquals(List.of("João da Silva"), names(actualPage.items()));
+    }
+
+    @Test
+    public void givenAccentedNames_whenCallFindAllWithUnaccentedTerms_thenReturnRankedMatches() {
+        gateway.create(newPatient("Ana Conceição", "ana@example.com", LocalDate.of(1990, 5, 15)));
+        final var byEmail = gateway.create(newPatient("Pedro Reis", "conceicao.pedro@example.com", LocalDate.of(1990, 5, 15)));
+        gateway.create(newPatient("Maria Souza", "maria@example.com", LocalDate.of(1990, 5, 15)));
+
+        final var actualPage = gateway.findAll(new SearchQuery(0, 10, "conceicao", "name", "asc"));
+
+        assertEquals(2, actualPage.total());
+        assertEquals(List.of("Ana Conceição", "Pedro Reis"), names(actualPage.items()));
+
+        gateway.deleteById(byEmail.getId());
+
+        assertEquals(1, gateway.findAll(new SearchQuery(0, 10, "conceicao", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenAnExistingPatient_whenCallDeleteById_thenRemoveItFromIndexes() {
+        final var patient = gateway.create(newPatient("João da Silva", "joao@example.com", LocalDate.of(1990, 5, 15)));
+
+        gateway.deleteById(patient.getId());
+        gateway.deleteById(PatientID.unique());
+
+        assertTrue(gateway.findById(patient.getId()).isEmpty());
+        assertEquals(0, gateway.findAll(new SearchQuery(0, 10, "", "name", "asc")).items().size());
+    }
+
+    @Test
+    public void givenConcurrentWriters_whenCallCreateAndUpdate_thenKeepIndexesConsistent() throws Exception {
+        final var executor = Executors.newFixedThreadPool(8);
+        final var futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < 2_000; i++) {
+            final var index = i;
+            futures.add(executor.submit(() -> {
+                final var patient = gateway.create(newPatient("Paciente " + index, index + "@example.com", LocalDate.of(1990, 1, 1)));
+                patient.update("Atualizado " + index, null, patient.getDateOfBirth(), patient.getEmail(), null, true, Sex.UNKNOWN);
+                gateway.update(patient);
+            }));
+        }
+        for (final var future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        final var actualPage = gateway.findAll(new SearchQuery(0, 5_000, "", "name", "asc"));
+
+        assertEquals(2_000, actualPage.total());
+        assertEquals(2_000, actualPage.items().size());
+        assertTrue(actualPage.items().stream().allMatch(patient -> patient.getName().startsWith("Atualizado")));
+    }
+
+    @Test
+    public void givenManyPatients_whenCallFindAllWithCursor_thenVisitEveryPatientOnceInOrder() {
+        for (int i = 0; i < 25; i++) {
+            gateway.create(newPatient("Paciente %02d".formatted(i), i + "@example.com", LocalDate.of(1990, 1, 1 + i % 3)));
+        }
+
+        final var actualNames = new ArrayList<String>();
+        var query = CursorQuery.first(10, null, "dateOfBirth", "desc");
+        var pages = 0;
+        while (true) {
+            final var page = gateway.findAll(query);
+            actualNames.addAll(names(page.items()));
+            pages++;
+            if (!page.hasNext()) {
+                break;
+            }
+            query = query.next(page.nextCursor());
+        }
+
+        final var expectedNames = gateway.findAll(new SearchQuery(0, 25, null, "dateOfBirth", "desc")).items();
+        assertEquals(3, pages);
+        assertEquals(names(expectedNames), actualNames);
+    }
+
+    @Test
+    public void givenACursorForAnotherSort_whenCallFindAll_thenThrowDomainException() {
+        gateway.create(newPatient("Ana Lima", "ana@example.com", LocalDate.of(1990, 1, 1)));
+        gateway.create(newPatient("Bruno Alves", "bruno@example.com", LocalDate.of(1990, 1, 1)));
+        final var page = gateway.findAll(CursorQuery.first(1, null, "name", "asc"));
+
+        final var actualException = assertThrows(DomainException.class,
+            () -> gateway.findAll(new CursorQuery(page.nextCursor(), 1, null, "email", "asc")));
+        assertThrows(DomainException.class, () -> gateway.findAll(new CursorQuery("not-a-cursor", 1, null, "name", "asc")));
+
+        assertEquals("'cursor' was created for a different sort or direction", actualException.getMessage());
+    }
+
+    @Test
+    public void givenACursorWithAnInvalidId_whenCallFindAll_thenThrowInvalidCursor() {
+        gateway.create(newPatient("Ana Lima", "ana@example.com", LocalDate.of(1990, 1, 1)));
+        final var cursor = new Cursor("name", "asc", "Ana Lima", "not-an-id").encode();
+
+        final var actualException = assertThrows(DomainException.class,
+            () -> gateway.findAll(new CursorQuery(cursor, 1, null, "name", "asc")));
+
+        assertEquals("'cursor' is invalid", actualException.getMessage());
+    }
+
+    private static List<String> names(final List<Patient> patients) {
+        return patients.stream().map(Patient::getName).toList();
+    }
+
+    private static Patient newPatient(final String name, final String email, final LocalDate dateOfBirth) {
+        return Patient.newPatient(name, null, dateOfBirth, email, null, true, Sex.UNKNOWN);
+    }
+}
@@ -0,0 +1,328 @@
+package com.thiagodd.sakura.infrastructure.patient;
+
+import com.thiagodd.sakura.domain.exceptions.ConflictException;
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.exceptions.NotFoundException;
+import com.thiagodd.sakura.domain.pagination.Cursor;
+import com.thiagodd.sakura.domain.pagination.CursorQuery;
+import com.thiagodd.sakura.domain.pagination.SearchQuery;
+import com.thiagodd.sakura.domain.patient.Patient;
+import com.thiagodd.sakura.domain.patient.PatientMatch;
+import com.thiagodd.sakura.domain.patient.PatientSummary;
+import com.thiagodd.sakura.domain.patient.Sex;
+import com.thiagodd.sakura.infrastructure.outbox.JdbcOutbox;
+import com.thiagodd.sakura.infrastructure.outbox.OutboxDispatcher;
+import com.thiagodd.sakura.infrastructure.outbox.OutboxMessage;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcPatientGatewayTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcPatientGateway gateway;
+
+    @BeforeEach
+    public void setUp() throws IOException, SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:%s;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1"
+            .formatted(UUID.randomUUID()));
+        try (var schema = getClass().getResourceAsStream("/db/schema.sql");
+             var connection = dataSource.getConnection();
+             var statement = connection.createStatement()) {
+            final var script = new String(schema.readAllBytes(), StandardCharsets.UTF_8).replaceAll("(?m)^--.*$", "");
+            for (final var sql : script.split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+        gateway = new JdbcPatientGateway(dataSource);
+    }
+
+    @Test
+    public void givenManyPatients_whenCallCreateAllInChunks_thenEveryRowIsPersisted() {
+        final var patients = new ArrayList<Patient>();
+        for (int i = 0; i < 53; i++) {
+            patients.add(newPatient("Paciente %02d".formatted(i), "paciente%d@example.com".formatted(i)));
+        }
+        final var expected = patients.get(17);
+
+        gateway.batchSize(7).rowsPerTransaction(20).createAll(patients);
+        final var actualPatient = gateway.findById(expected.getId()).orElseThrow();
+
+        assertEquals(53, gateway.findAll(new SearchQuery(0, 10, null, "name", "asc")).total());
+        assertEquals(expected.getId(), actualPatient.getId());
+        assertEquals(expected.getName(), actualPatient.getName());
+        assertEquals(expected.getEmail(), actualPatient.getEmail());
+        assertEquals(expected.getDateOfBirth(), actualPatient.getDateOfBirth());
+        assertEquals(expected.getSex(), actualPatient.getSex());
+        assertEquals(expected.isActive(), actualPatient.isActive());
+        assertEquals(expected.getCreatedAt().truncatedTo(ChronoUnit.MICROS), actualPatient.getCreatedAt());
+        assertNull(actualPatient.getDeletedAt());
+    }
+
+    @Test
+    public void givenAnExistingPatient_whenCallCreateAllWithIt_thenThrowDomainExceptionAndRollBack() {
+        final var existing = gateway.create(newPatient("João da Silva", "joao@example.com"));
+        final var fresh = newPatient("Maria Souza", "maria@example.com");
+
+        assertThrows(DomainException.class, () -> gateway.createAll(List.of(fresh, existing)));
+        assertThrows(DomainException.class, () -> gateway.create(existing));
+        assertTrue(gateway.findById(fresh.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenAnUnknownPatient_whenCallUpdateAll_thenThrowNotFoundExceptionAndRollBack() {
+        final var existing = gateway.create(newPatient("João da Silva", "joao@example.com"));
+        final var unknown = newPatient("Maria Souza", "maria@example.com");
+
+        final var updated = Patient.with(existing).deactivate();
+        assertThrows(NotFoundException.class, () -> gateway.updateAll(List.of(updated, unknown)));
+        assertTrue(gateway.findById(existing.getId()).orElseThrow().isActive());
+
+        gateway.update(updated);
+        assertFalse(gateway.findById(existing.getId()).orElseThrow().isActive());
+    }
+
+    @Test
+    public void givenAStaleCopy_whenCallUpdate_thenThrowConflictException() {
+        final var existing = gateway.create(newPatient("João da Silva", "joao@example.com"));
+        final var stale = Patient.with(existing).deactivate();
+
+        final var actualPatient = gateway.update(Patient.with(existing).deactivate());
+
+        assertEquals(1, actualPatient.getVersion());
+        assertEquals(1, gateway.findById(existing.getId()).orElseThrow().getVersion());
+        assertThrows(ConflictException.class, () -> gateway.update(stale));
+        assertThrows(ConflictException.class, () -> gateway.updateAll(List.of(stale)));
+    }
+
+    @Test
+    public void givenAStaleCopyInsideABatch_whenCallUpdateAll_thenThrowConflictExceptionAndRollBackTheChunk() {
+        final var patients = new ArrayList<Patient>();
+        for (int i = 0; i < 6; i++) {
+            patients.add(newPatient("Paciente %02d".formatted(i), "paciente%d@example.com".formatted(i)));
+        }
+        gateway.createAll(patients);
+        final var stale = Patient.with(patients.get(3)).deactivate();
+        gateway.update(Patient.with(patients.get(3)).deactivate());
+        final var updates = new ArrayList<Patient>();
+        for (final var patient : patients) {
+            updates.add(patient == patients.get(3) ? stale : Patient.with(patient).deactivate());
+        }
+
+        assertThrows(ConflictException.class, () -> gateway.batchSize(4).rowsPerTransaction(6).updateAll(updates));
+        for (final var patient : patients) {
+            final var actualPatient = gateway.findById(patient.getId()).orElseThrow();
+            assertEquals(patient == patients.get(3), !actualPatient.isActive(), patient.getName());
+        }
+    }
+
+    @Test
+    public void givenManyIds_whenCallFindAllByIdInChunks_thenReturnTheStoredOnesKeyedById() {
+        final var patients = new ArrayList<Patient>();
+        for (int i = 0; i < 12; i++) {
+            patients.add(newPatient("Paciente %02d".formatted(i), "paciente%d@example.com".formatted(i)));
+        }
+        gateway.createAll(patients);
+        final var ids = new ArrayList<>(patients.stream().map(Patient::getId).toList());
+        ids.add(newPatient("Maria", "maria@example.com").getId());
+
+        final var actualPatients = gateway.batchSize(5).findAllById(ids);
+
+        assertEquals(12, actualPatients.size());
+        assertEquals("Paciente 07", actualPatients.get(patients.get(7).getId()).getName());
+    }
+
+    @Test
+    public void givenAnIdenticalUpdate_whenCallUpdateRepeatedly_thenNoConnectionIsOpened() {
+        final var existing = gateway.create(newPatient("João da Silva", "joao@example.com"));
+        final var connections = new AtomicInteger();
+        final var countingGateway = new JdbcPatientGateway((DataSource) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[]{DataSource.class}, (proxy, method, arguments) -> {
+                if (method.getName().equals("getConnection")) {
+                    connections.incrementAndGet();
+                }
+                try {
+                    return method.invoke(dataSource, arguments);
+                } catch (InvocationTargetException exception) {
+                    throw exception.getCause();
+                }
+            }));
+        final var loaded = countingGateway.findById(existing.getId()).orElseThrow();
+
+        connections.set(0);
+        for (int i = 0; i < 3; i++) {
+            loaded.update(loaded.getName(), null, loaded.getDateOfBirth(), loaded.getEmail(), null, true, Sex.FEMALE);
+            countingGateway.update(loaded);
+        }
+        assertEquals(0, connections.get());
+
+        loaded.update("João Souza", null, loaded.getDateOfBirth(), loaded.getEmail(), null, true, Sex.FEMALE);
+        final var actualPatient = countingGateway.update(loaded);
+
+        assertEquals(1, connections.get());
+        assertEquals(1, actualPatient.getVersion());
+        assertEquals("João Souza", gateway.findById(existing.getId()).orElseThrow().getName());
+        assertEquals("joao@example.com", gateway.findById(existing.getId()).orElseThrow().getEmail());
+    }
+
+    @Test
+    public void givenPatients_whenCallFindAllSummaries_thenSelectTheListingColumnsOnly() {
+        final var patient = gateway.create(Patient.newPatient(
+            "Carla Souza", "Carla", LocalDate.of(1990, 5, 15), "carla@example.com", "Notas clínicas", true, Sex.FEMALE));
+        gateway.create(newPatient("ana Souza", "ana@example.com"));
+
+        final var actualPage = gateway.findAllSummaries(new SearchQuery(0, 10, "souza", "name", "asc"));
+
+        assertEquals(2, actualPage.total());
+        assertEquals(List.of("ana Souza", "Carla Souza"), actualPage.items().stream().map(PatientSummary::name).toList());
+        assertEquals(PatientSummary.from(patient), actualPage.items().get(1));
+        assertEquals("Notas clínicas", gateway.findObservationById(patient.getId()).orElseThrow());
+        assertTrue(gateway.findObservationById(newPatient("Maria", "maria@example.com").getId()).isEmpty());
+    }
+
+    @Test
+    public void givenPatients_whenCallFindAllByTermsAndSort_thenReturnFilteredPage() {
+        gateway.createAll(List.of(
+            newPatient("Carla Souza", "carla@example.com"),
+            newPatient("ana Souza", "ana@example.com"),
+            newPatient("Bruno Alves", "bruno@example.com")));
+
+        final var actualPage = gateway.findAll(new SearchQuery(0, 10, "souza", "name", "asc"));
+
+        assertEquals(2, actualPage.total());
+        assertEquals(List.of("ana Souza", "Carla Souza"), actualPage.items().stream().map(Patient::getName).toList());
+
+        final var secondPage = gateway.findAll(new SearchQuery(1, 1, "SOUZA", "name", "asc"));
+
+        assertEquals(2, secondPage.total());
+        assertEquals(List.of("Carla Souza"), secondPage.items().stream().map(Patient::getName).toList());
+    }
+
+    @Test
+    public void givenPatients_whenWalkingCursorPages_thenVisitEveryPatientOnceInOrder() {
+        final var patients = new ArrayList<Patient>();
+        for (int i = 0; i < 25; i++) {
+            patients.add(newPatient("Paciente " + (char) ('a' + (i * 7) % 25), i % 3 == 0 ? null : "p%d@example.com".formatted(i)));
+        }
+        gateway.createAll(patients);
+
+        for (final var sort : List.of("name", "email", "createdAt")) {
+            for (final var direction : List.of("asc", "desc")) {
+                final var expectedIds = gateway.findAll(new SearchQuery(0, 25, null, sort, direction)).items().stream()
+                    .map(Patient::getId).toList();
+                final var actualIds = gateway.streamAll(new SearchQuery(0, 4, null, sort, direction))
+                    .map(Patient::getId).toList();
+                assertEquals(expectedIds, actualIds, sort + " " + direction);
+            }
+        }
+        assertNull(gateway.findAll(CursorQuery.first(25, null, "name", "asc")).nextCursor());
+
+        final var badCursor = new Cursor("name", "asc", "Paciente a", "not-an-id").encode();
+        final var actualException = assertThrows(DomainException.class,
+            () -> gateway.findAll(new CursorQuery(badCursor, 4, null, "name", "asc")));
+        assertEquals("'cursor' is invalid", actualException.getMessage());
+    }
+
+    @Test
+    public void givenStoredPatients_whenCallFindLikelyDuplicates_thenMatchByTheBlockingKeysKeptOnWrite() {
+        final var stored = gateway.create(Patient.newPatient("Bruno Costa", null, LocalDate.of(1971, 1, 9),
+            "bruno@example.com", "Notas clínicas", true, Sex.MALE));
+        gateway.create(Patient.newPatient(
+            "Pedro Alves", null, LocalDate.of(1980, 2, 2), "pedro@example.com", null, true, Sex.MALE));
+        final var probe = Patient.newPatient("Tiago Ramos", null, null, "tramos@example.org", null, true, Sex.MALE);
+
+        final var beforeUpdate = gateway.findLikelyDuplicates(probe);
+        gateway.update(gateway.findById(stored.getId()).orElseThrow().update(
+            "Thiago Ramos", null, LocalDate.of(1971, 1, 9), "t.ramos@example.com", null, true, Sex.MALE));
+        final var afterUpdate = gateway.findLikelyDuplicates(probe);
+
+        assertTrue(beforeUpdate.isEmpty());
+        assertEquals(List.of(stored.getId()), afterUpdate.stream().map(PatientMatch::id).toList());
+    }
+
+    @Test
+    public void givenABlockingKeySharedByTooManyRows_whenCallFindLikelyDuplicates_thenSkipThatBlockOnly() {
+        final var commonBirth = LocalDate.of(1985, 3, 3);
+        final var crowd = new ArrayList<Patient>();
+        for (int i = 0; i <= 1_000; i++) {
+            crowd.add(Patient.newPatient("Paciente %04d".formatted(i), null, commonBirth,
+                "paciente%d@example.com".formatted(i), null, true, Sex.FEMALE));
+        }
+        gateway.createAll(crowd);
+        final var stored = gateway.create(Patient.newPatient(
+            "Bruno Costa", null, commonBirth, "bruno.costa@example.com", null, true, Sex.MALE));
+        final var probe = Patient.newPatient(
+            "Bruno Costa", null, commonBirth, "bruno.costa@example.org", null, true, Sex.MALE);
+
+        final var actualMatches = gateway.findLikelyDuplicates(probe);
+
+        assertEquals(List.of(stored.getId()), actualMatches.stream().map(PatientMatch::id).toList());
+    }
+
+    @Test
+    public void givenAnOutbox_whenWritingPatients_thenStoreTheirEventsInTheSameTransaction() throws Exception {
+        final var outbox = JdbcOutbox.create(dataSource);
+        final var outboxGateway = gateway.outbox(outbox);
+        final var patient = newPatient("João da Silva", "joao@example.com");
+        final var stale = Patient.with(outboxGateway.create(patient)).deactivate();
+        final var loaded = outboxGateway.findById(patient.getId()).orElseThrow().deactivate();
+
+        outboxGateway.update(loaded);
+        assertThrows(ConflictException.class, () -> outboxGateway.update(stale));
+
+        assertTrue(patient.pullEvents().isEmpty());
+        assertTrue(loaded.pullEvents().isEmpty());
+        assertEquals(List.of("PatientCreated", "PatientDeactivated"),
+            outbox.pending(10).stream().map(OutboxMessage::type).toList());
+
+        final var received = new CopyOnWriteArrayList<OutboxMessage>();
+        final var dispatcher = OutboxDispatcher.create(outbox).pollInterval(Duration.ofMillis(5))
+            .subscribe(received::addAll)
+            .start();
+        outboxGateway.update(outboxGateway.findById(patient.getId()).orElseThrow().activate());
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        dispatcher.close();
+
+        assertEquals(List.of("PatientCreated", "PatientDeactivated", "PatientActivated"),
+            received.stream().map(OutboxMessage::type).toList());
+        assertEquals(patient.getId().getValue(), received.get(0).aggregateId());
+        assertEquals(0, outbox.pendingCount());
+    }
+
+    @Test
+    public void givenAPatient_whenCallDeleteById_thenItIsGone() {
+        final var patient = gateway.create(newPatient("João da Silva", "joao@example.com"));
+
+        gateway.deleteById(patient.getId());
+
+        assertTrue(gateway.findById(patient.getId()).isEmpty());
+    }
+
+    private static Patient newPatient(final String name, final String email) {
+        return Patient.newPatient(name, null, LocalDate.of(1990, 5, 15), email, null, true, Sex.FEMALE);
+    }
+}
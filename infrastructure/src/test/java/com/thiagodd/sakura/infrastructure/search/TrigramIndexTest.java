@@ -0,0 +1,118 @@
+package com.thiagodd.sakura.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private final TrigramIndex<String> index = new TrigramIndex<>(3, 2, 1);
+
+    @Test
+    public void givenAccentedNames_whenCallSearchWithoutAccents_thenFindThem() {
+        index.put("1", "José da Conceição", "Zé", "jose@example.com");
+        index.put("2", "Maria Aparecida", null, "maria@example.com");
+
+        assertEquals(List.of("1"), keys(index.search("conceicao")));
+        assertEquals(List.of("1"), keys(index.search("JOSÉ CONCEIÇÃO")));
+        assertEquals(List.of("1"), keys(index.search("ze")));
+        assertTrue(index.search("joana").isEmpty());
+    }
+
+    @Test
+    public void givenMatchesInDifferentFields_whenCallSearch_thenRankNameAboveEmail() {
+        index.put("email", "Carlos Lima", null, "silva.carlos@example.com");
+        index.put("name", "Ana Silva", null, "ana@example.com");
+        index.put("social", "Bruno Costa", "Silvana", "bruno@example.com");
+
+        assertEquals(List.of("name", "social", "email"), keys(index.search("silv")));
+    }
+
+    @Test
+    public void givenShortTerms_whenCallSearch_thenMatchOnlyWordPrefixes() {
+        index.put("1", "Ana Lima", null, null);
+        index.put("2", "Joana Reis", null, null);
+
+        assertEquals(List.of("1"), keys(index.search("an")));
+        assertEquals(List.of("1", "2"), keys(index.search("ana")).stream().sorted().toList());
+    }
+
+    @Test
+    public void givenAnUpdatedOrRemovedKey_whenCallSearch_thenReflectTheChange() {
+        index.put("1", "Ana Lima", null, null);
+        index.put("1", "Beatriz Lima", null, null);
+        index.put("2", "Ana Souza", null, null);
+        index.remove("2");
+
+        assertTrue(index.search("ana").isEmpty());
+        assertEquals(List.of("1"), keys(index.search("beatriz")));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void givenManyMatches_whenCallSearchWithALimit_thenStopEarlyAndEstimateTheTotal() {
+        for (int i = 0; i < 1_000; i++) {
+            index.put("name" + i, "Ana Lima " + i, null, null);
+            index.put("email" + i, "Bruno Costa " + i, null, "ana" + i + "@example.com");
+        }
+
+        final var actualResult = index.search("ana", 10);
+
+        assertEquals(10, actualResult.hits().size());
+        assertTrue(actualResult.hits().stream().allMatch(hit -> hit.key().startsWith("name")));
+        assertTrue(actualResult.estimated());
+        assertTrue(actualResult.total() >= 1_000 && actualResult.total() <= 2_000, "total: " + actualResult.total());
+        assertFalse(index.search("ana lima 999", 10).estimated());
+    }
+
+    @Test
+    public void givenRemovedKeys_whenAddingOthers_thenReuseTheirIdsWithoutLeakingOldText() {
+        for (int round = 0; round < 100; round++) {
+            index.put("old" + round, "Carlos Lima", null, null);
+            index.remove("old" + round);
+            index.put("new" + round, "Beatriz Souza", null, null);
+        }
+
+        assertTrue(index.search("carlos").isEmpty());
+        assertEquals(100, index.search("beatriz").size());
+        assertEquals(100, index.size());
+    }
+
+    @Test
+    public void givenIdsReusedDuringASearch_whenCallSearch_thenEveryHitIsADocumentThatMatched() throws Exception {
+        for (int i = 0; i < 200; i++) {
+            index.put("maria" + i, "Maria Souza " + i, null, null);
+        }
+        final var done = new AtomicBoolean();
+        final var writer = new Thread(() -> {
+            for (int round = 0; !done.get(); round++) {
+                final var key = "maria" + round % 200;
+                index.remove(key);
+                index.put("joao" + round, "João Lima", null, null);
+                index.remove("joao" + round);
+                index.put(key, "Maria Souza", null, null);
+            }
+        });
+        writer.start();
+
+        try {
+            final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+            while (System.nanoTime() < deadline) {
+                for (final var key : keys(index.search("maria souza"))) {
+                    assertTrue(key.startsWith("maria"), key);
+                }
+            }
+        } finally {
+            done.set(true);
+            writer.join();
+        }
+    }
+
+    private static List<String> keys(final List<TrigramIndex.Hit<String>> hits) {
+        return hits.stream().map(TrigramIndex.Hit::key).toList();
+    }
+}
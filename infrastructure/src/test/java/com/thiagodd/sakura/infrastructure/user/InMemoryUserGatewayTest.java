@@ -0,0 +1,121 @@
+package com.thiagodd.sakura.infrastructure.user;
+
+import com.thiagodd.sakura.domain.exceptions.DomainException;
+import com.thiagodd.sakura.domain.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryUserGatewayTest {
+
+    private final InMemoryUserGateway gateway = new InMemoryUserGateway();
+
+    @Test
+    public void givenAUser_whenCallFindByLoginOrEmailInAnotherCase_thenReturnACopyOfTheUser() {
+        final var user = gateway.create(newUser("maria.souza", "maria@example.com"));
+
+        final var byLogin = gateway.findByLogin("Maria.Souza").orElseThrow();
+        final var byEmail = gateway.findByEmail("MARIA@example.com").orElseThrow();
+
+        assertEquals(user.getId(), byLogin.getId());
+        assertEquals(user.getId(), byEmail.getId());
+        assertNotSame(byLogin, gateway.findByLogin("maria.souza").orElseThrow());
+        assertTrue(gateway.existsByLogin("MARIA.SOUZA"));
+        assertTrue(gateway.findByLogin("ana.souza").isEmpty());
+    }
+
+    @Test
+    public void givenATakenLoginOrEmail_whenCallCreateOrUpdate_thenThrowDomainException() {
+        gateway.create(newUser("maria.souza", "maria@example.com"));
+        final var other = gateway.create(newUser("ana.souza", "ana@example.com"));
+
+        final var loginError = assertThrows(DomainException.class,
+            () -> gateway.create(newUser("Maria.Souza", "outra@example.com")));
+        final var emailError = assertThrows(DomainException.class, () -> gateway.update(User.with(other).update(
+            "Ana", "Souza", "ana.souza", "Maria@Example.com", null, true, "ROLE_USER")));
+
+        assertEquals("'login' is already taken", loginError.getErrors().get(0).message());
+        assertEquals("'email' is already taken", emailError.getErrors().get(0).message());
+        assertEquals("ana@example.com", gateway.findById(other.getId()).orElseThrow().getEmail());
+    }
+
+    @Test
+    public void givenAnUpdatedAndADeletedUser_whenCallFindByLogin_thenIndexesFollowTheWrites() {
+        final var updated = gateway.create(newUser("maria.souza", "maria@example.com"));
+        final var deleted = gateway.create(newUser("ana.souza", "ana@example.com"));
+
+        gateway.update(User.with(updated).update(
+            "Maria", "Souza", "maria.s", "maria@example.com", null, true, "ROLE_USER"));
+        gateway.deleteById(deleted.getId());
+
+        assertTrue(gateway.findByLogin("maria.souza").isEmpty());
+        assertEquals(updated.getId(), gateway.findByLogin("maria.s").orElseThrow().getId());
+        assertFalse(gateway.existsByLogin("maria.souza"));
+        assertFalse(gateway.existsByEmail("ana@example.com"));
+        gateway.create(newUser("ana.souza", "ana@example.com"));
+    }
+
+    @Test
+    public void givenUpdatesKeepingTheLogin_whenCallFindByLoginConcurrently_thenTheUserIsNeverMissing() throws Exception {
+        final var created = gateway.create(newUser("maria.souza", "maria@example.com"));
+        final var misses = new AtomicInteger();
+        final var done = new AtomicBoolean();
+        final var reader = new Thread(() -> {
+            while (!done.get()) {
+                if (gateway.findByLogin("maria.souza").isEmpty()) misses.incrementAndGet();
+            }
+        });
+        reader.start();
+
+        var current = created;
+        for (int i = 0; i < 20_000; i++) {
+            current = gateway.update(User.with(current).update(
+                "Maria " + i, "Souza", "maria.souza", "maria" + i + "@example.com", null, true, "ROLE_USER"));
+        }
+        done.set(true);
+        reader.join();
+
+        assertEquals(0, misses.get());
+        assertTrue(gateway.findByEmail("maria@example.com").isEmpty());
+        assertEquals(created.getId(), gateway.findByEmail("maria19999@example.com").orElseThrow().getId());
+    }
+
+    @Test
+    public void givenManyUsers_whenCallExistsByLoginForFreeLogins_thenMostAnswersNeverTouchTheIndex() {
+        final var gateway = new InMemoryUserGateway(16);
+        for (int i = 0; i < 2_000; i++) {
+            gateway.create(newUser("usuario" + i, "usuario" + i + "@example.com"));
+        }
+
+        int taken = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (gateway.existsByLogin("livre" + i)) taken++;
+        }
+
+        assertEquals(0, taken);
+        assertTrue(gateway.indexLookups() < 50, "index lookups: " + gateway.indexLookups());
+        assertTrue(gateway.existsByLogin("USUARIO1999"));
+    }
+
+    @Test
+    public void givenManyUpdatesOfOneUser_whenCallFilterCapacity_thenTheFiltersKeepTheConfiguredSize() {
+        final var gateway = new InMemoryUserGateway(16);
+        var current = gateway.create(newUser("maria.souza", "maria@example.com"));
+        for (int i = 0; i < 2_000; i++) {
+            current = gateway.update(User.with(current).update(
+                "Maria " + i, "Souza", "maria.souza", "maria" + i + "@example.com", null, true, "ROLE_USER"));
+        }
+
+        assertEquals(16, gateway.filterCapacity());
+        assertTrue(gateway.existsByLogin("maria.souza"));
+        assertTrue(gateway.existsByEmail("maria1999@example.com"));
+        assertFalse(gateway.existsByEmail("maria@example.com"));
+    }
+
+    private static User newUser(final String login, final String email) {
+        return User.newUser("Maria", "Souza", login, email, null, true, "ROLE_USER");
+    }
+}
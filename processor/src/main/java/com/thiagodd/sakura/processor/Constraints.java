@@ -0,0 +1,20 @@
+package com.thiagodd.sakura.processor;
+
+/**
+ * Names of the constraint annotations declared in the domain module. They are matched by name so that the
+ * processor does not depend on the module it runs on.
+ */
+final class Constraints {
+
+    static final String PACKAGE = "com.thiagodd.sakura.domain.validation.constraints";
+    static final String REQUIRED = PACKAGE + ".Required";
+    static final String LENGTH = PACKAGE + ".Length";
+    static final String EMAIL = PACKAGE + ".Email";
+    static final String LOGIN = PACKAGE + ".Login";
+    static final String PATTERN = PACKAGE + ".Pattern";
+
+    static final String VALIDATION = "com.thiagodd.sakura.domain.validation";
+
+    private Constraints() {
+    }
+}
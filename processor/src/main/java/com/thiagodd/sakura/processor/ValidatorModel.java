@@ -0,0 +1,146 @@
+package com.thiagodd.sakura.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/** What the generated validator of one type checks, read from its annotated fields. */
+record ValidatorModel(
+    String packageName,
+    String entityName,
+    List<Field> fields,
+    List<Problem> errors
+) {
+
+    enum Format { EMAIL, LOGIN, PATTERN }
+
+    record Check(Format format, String message, String regexp) {
+    }
+
+    record Field(
+        String name,
+        String accessor,
+        boolean text,
+        boolean required,
+        Integer minLength,
+        Integer maxLength,
+        List<Check> checks
+    ) {
+        boolean hasLength() {
+            return minLength != null;
+        }
+    }
+
+    record Problem(String message, Element element) {
+    }
+
+    static ValidatorModel of(final TypeElement type, final ProcessingEnvironment environment) {
+        final var packageName = environment.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final var charSequence = environment.getElementUtils().getTypeElement(CharSequence.class.getName()).asType();
+        final var fields = new ArrayList<Field>();
+        final var errors = new ArrayList<Problem>();
+
+        for (final var field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            boolean required = false;
+            Integer minLength = null;
+            Integer maxLength = null;
+            final var checks = new ArrayList<Check>();
+            for (final var mirror : field.getAnnotationMirrors()) {
+                final var values = valuesOf(mirror, environment);
+                switch (mirror.getAnnotationType().toString()) {
+                    case Constraints.REQUIRED -> required = true;
+                    case Constraints.LENGTH -> {
+                        minLength = (Integer) values.get("min");
+                        maxLength = (Integer) values.get("max");
+                        if (minLength < 0 || maxLength < minLength) {
+                            errors.add(new Problem("@Length needs 0 <= min <= max", field));
+                        }
+                    }
+                    case Constraints.EMAIL -> checks.add(new Check(Format.EMAIL, (String) values.get("message"), null));
+                    case Constraints.LOGIN -> checks.add(new Check(Format.LOGIN, (String) values.get("message"), null));
+                    case Constraints.PATTERN -> {
+                        final var regexp = (String) values.get("regexp");
+                        try {
+                            Pattern.compile(regexp);
+                        } catch (PatternSyntaxException exception) {
+                            errors.add(new Problem("Invalid @Pattern: " + exception.getDescription(), field));
+                        }
+                        checks.add(new Check(Format.PATTERN, (String) values.get("message"), regexp));
+                    }
+                    default -> {
+                    }
+                }
+            }
+            if (!required && minLength == null && checks.isEmpty()) {
+                continue;
+            }
+
+            final boolean text = environment.getTypeUtils().isAssignable(field.asType(), charSequence);
+            if (field.asType().getKind().isPrimitive()) {
+                errors.add(new Problem("Constraints cannot be declared on primitive fields", field));
+            } else if (!text && (minLength != null || !checks.isEmpty())) {
+                errors.add(new Problem("@Length, @Email, @Login and @Pattern need a text field", field));
+            }
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                errors.add(new Problem("Constraints cannot be declared on static fields", field));
+            }
+
+            final var accessor = accessorOf(type, field);
+            if (accessor == null) {
+                errors.add(new Problem("No getter found for constrained field '" + field.getSimpleName() + "'", field));
+                continue;
+            }
+            fields.add(new Field(field.getSimpleName().toString(), accessor, text, required, minLength, maxLength, checks));
+        }
+
+        return new ValidatorModel(packageName, type.getSimpleName().toString(), fields, errors);
+    }
+
+    String validatorName() {
+        return entityName + "Validator";
+    }
+
+    String qualifiedName() {
+        return packageName.isEmpty() ? validatorName() : packageName + "." + validatorName();
+    }
+
+    boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    private static String accessorOf(final TypeElement type, final VariableElement field) {
+        final var name = field.getSimpleName().toString();
+        final var capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            final var methodName = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty()
+                && !method.getModifiers().contains(Modifier.PRIVATE)
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && (methodName.equals("get" + capitalized) || methodName.equals("is" + capitalized))) {
+                return methodName + "()";
+            }
+        }
+        return field.getModifiers().contains(Modifier.PRIVATE) ? null : name;
+    }
+
+    private static Map<String, Object> valuesOf(final AnnotationMirror mirror, final ProcessingEnvironment environment) {
+        final var values = new HashMap<String, Object>();
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : environment.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        return values;
+    }
+}
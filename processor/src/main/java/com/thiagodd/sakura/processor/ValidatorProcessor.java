@@ -0,0 +1,65 @@
+package com.thiagodd.sakura.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Generates a {@code <Type>Validator} next to every class with constraint-annotated fields. The generated class is a
+ * {@code Validator} subclass whose static {@code validate(entity, handler)} checks the fields in declaration order
+ * with straight-line code: no reflection at run time, and every error message is a constant built once.
+ */
+@SupportedAnnotationTypes({
+    Constraints.REQUIRED,
+    Constraints.LENGTH,
+    Constraints.EMAIL,
+    Constraints.LOGIN,
+    Constraints.PATTERN
+})
+public class ValidatorProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round) {
+        final Set<TypeElement> types = new LinkedHashSet<>();
+        for (final var annotation : annotations) {
+            for (final var element : round.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        types.forEach(this::generate);
+        return true;
+    }
+
+    private void generate(final TypeElement type) {
+        final var model = ValidatorModel.of(type, processingEnv);
+        if (model.hasErrors()) {
+            model.errors().forEach(error ->
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, error.message(), error.element()));
+            return;
+        }
+        try {
+            final var file = processingEnv.getFiler().createSourceFile(model.qualifiedName(), type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(ValidatorWriter.write(model, getClass().getName()));
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR, "Could not write " + model.qualifiedName() + ": " + exception.getMessage(), type);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.thiagodd.sakura.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/** Renders a {@link ValidatorModel} as Java source laid out like the hand-written validators it replaces. */
+final class ValidatorWriter {
+
+    private final ValidatorModel model;
+    private final String generator;
+    private final List<String> constants = new ArrayList<>();
+    private final List<String> body = new ArrayList<>();
+    private final TreeSet<String> imports = new TreeSet<>();
+
+    private ValidatorWriter(final ValidatorModel model, final String generator) {
+        this.model = model;
+        this.generator = generator;
+    }
+
+    static String write(final ValidatorModel model, final String generator) {
+        return new ValidatorWriter(model, generator).render();
+    }
+
+    private String render() {
+        final var variable = Character.toLowerCase(model.entityName().charAt(0)) + model.entityName().substring(1);
+        imports.add(Constraints.VALIDATION + ".ValidationHandler");
+        imports.add(Constraints.VALIDATION + ".Validator");
+        imports.add("javax.annotation.processing.Generated");
+        for (final var field : model.fields()) {
+            writeField(field, variable);
+        }
+
+        final var source = new StringBuilder(2048);
+        if (!model.packageName().isEmpty()) {
+            source.append("package ").append(model.packageName()).append(";\n\n");
+        }
+        for (final var type : imports) {
+            source.append("import ").append(type).append(";\n");
+        }
+        source.append('\n')
+            .append("@Generated(\"").append(generator).append("\")\n")
+            .append("public class ").append(model.validatorName()).append(" extends Validator {\n\n");
+        for (final var constant : constants) {
+            source.append("    ").append(constant).append('\n');
+        }
+        if (!constants.isEmpty()) {
+            source.append('\n');
+        }
+        source.append("    private final ").append(model.entityName()).append(' ').append(variable).append(";\n\n")
+            .append("    public ").append(model.validatorName()).append("(final ").append(model.entityName())
+            .append(' ').append(variable).append(", final ValidationHandler handler) {\n")
+            .append("        super(handler);\n")
+            .append("        this.").append(variable).append(" = ").append(variable).append(";\n")
+            .append("    }\n\n")
+            .append("    public static void validate(final ").append(model.entityName()).append(' ').append(variable)
+            .append(", final ValidationHandler handler) {\n");
+        for (final var line : body) {
+            source.append(line.isEmpty() ? "" : "        " + line).append('\n');
+        }
+        source.append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void validate() {\n")
+            .append("        validate(").append(variable).append(", validationHandler());\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private void writeField(final ValidatorModel.Field field, final String variable) {
+        final var constant = constantName(field.name());
+        final var local = field.name();
+        if (!body.isEmpty()) {
+            body.add("");
+        }
+        body.add("final var " + local + " = " + variable + "." + field.accessor() + ";");
+
+        if (field.text() && (field.required() || field.hasLength())) {
+            imports.add(Constraints.VALIDATION + ".FieldLength");
+            final int min = field.hasLength() ? field.minLength() : 0;
+            final int max = field.hasLength() ? field.maxLength() : Integer.MAX_VALUE;
+            constants.add("private static final FieldLength " + constant + "_LENGTH = FieldLength.of("
+                + literal(field.name()) + ", " + min + ", " + (max == Integer.MAX_VALUE ? "Integer.MAX_VALUE" : max) + ");");
+            body.add(constant + "_LENGTH." + (field.required() ? "check" : "checkIfPresent") + "(" + local + ", handler);");
+        } else if (field.required()) {
+            imports.add(Constraints.VALIDATION + ".Error");
+            constants.add("private static final Error " + constant + "_NULL = new Error("
+                + literal("'" + field.name() + "' should not be null") + ");");
+            body.add("if (" + local + " == null) {");
+            body.add("    handler.append(" + constant + "_NULL);");
+            body.add("}");
+        }
+
+        int index = 0;
+        for (final var check : field.checks()) {
+            imports.add(Constraints.VALIDATION + ".Error");
+            final var suffix = index++ == 0 ? "" : "_" + index;
+            final var error = "INVALID_" + constant + suffix;
+            final var message = check.message().isEmpty() ? "'" + field.name() + "' is in an invalid format" : check.message();
+            constants.add("private static final Error " + error + " = new Error(" + literal(message) + ");");
+
+            final String test;
+            switch (check.format()) {
+                case EMAIL -> {
+                    imports.add(Constraints.VALIDATION + ".Formats");
+                    test = "!Formats.isEmail(" + local + ")";
+                }
+                case LOGIN -> {
+                    imports.add(Constraints.VALIDATION + ".Formats");
+                    test = "!Formats.isLogin(" + local + ")";
+                }
+                default -> {
+                    imports.add("java.util.regex.Pattern");
+                    final var pattern = constant + "_PATTERN" + suffix;
+                    constants.add("private static final Pattern " + pattern + " = Pattern.compile(" + literal(check.regexp()) + ");");
+                    test = (field.required() ? local + " == null || " : "") + "!" + pattern + ".matcher(" + local + ").matches()";
+                }
+            }
+            body.add("if (" + (field.required() ? test : local + " != null && " + test) + ") {");
+            body.add("    handler.append(" + error + ");");
+            body.add("}");
+        }
+    }
+
+    private static String constantName(final String field) {
+        final var name = new StringBuilder(field.length() + 4);
+        for (int i = 0; i < field.length(); i++) {
+            final char c = field.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                name.append('_');
+            }
+            name.append(Character.toUpperCase(c));
+        }
+        return name.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static String literal(final String text) {
+        final var literal = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,126 @@
+package com.thiagodd.sakura.processor;
+
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorProcessorTest {
+
+    private static final String CONSTRAINTS = "package com.thiagodd.sakura.domain.validation.constraints;\n";
+
+    @Test
+    public void givenOptionalAndPatternFields_whenCompile_thenGenerateGuardedChecks() {
+        final var actualSources = compile("Sample", """
+            package sample;
+            import com.thiagodd.sakura.domain.validation.constraints.*;
+            public class Sample {
+                @Length(max = 10) @Pattern(regexp = "[A-Z]+", message = "'code' must be upper case")
+                private String code;
+                @Required
+                private Integer count;
+                public String getCode() { return code; }
+                public Integer getCount() { return count; }
+            }
+            """);
+
+        final var actualValidator = actualSources.get("sample.SampleValidator");
+        assertNotNull(actualValidator);
+        assertTrue(actualValidator.contains("CODE_LENGTH = FieldLength.of(\"code\", 0, 10);"));
+        assertTrue(actualValidator.contains("CODE_LENGTH.checkIfPresent(code, handler);"));
+        assertTrue(actualValidator.contains("CODE_PATTERN = Pattern.compile(\"[A-Z]+\");"));
+        assertTrue(actualValidator.contains("if (code != null && !CODE_PATTERN.matcher(code).matches()) {"));
+        assertTrue(actualValidator.contains("COUNT_NULL = new Error(\"'count' should not be null\");"));
+        assertTrue(actualValidator.indexOf("getCode()") < actualValidator.indexOf("getCount()"));
+    }
+
+    @Test
+    public void givenAConstraintOnAPrimitiveField_whenCompile_thenReportAnError() {
+        final var actualError = assertThrows(IllegalStateException.class, () -> compile("Broken", """
+            package sample;
+            import com.thiagodd.sakura.domain.validation.constraints.*;
+            public class Broken {
+                @Required
+                private int age;
+                public int getAge() { return age; }
+            }
+            """));
+
+        assertTrue(actualError.getMessage().contains("Constraints cannot be declared on primitive fields"));
+    }
+
+    private static Map<String, String> compile(final String entityName, final String entity) {
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final var generated = new HashMap<String, StringWriter>();
+        final var sources = new ArrayList<JavaFileObject>(List.of(
+            source("Required", CONSTRAINTS + "public @interface Required {}"),
+            source("Length", CONSTRAINTS + "public @interface Length { int min() default 0; int max() default Integer.MAX_VALUE; }"),
+            source("Email", CONSTRAINTS + "public @interface Email { String message() default \"\"; }"),
+            source("Login", CONSTRAINTS + "public @interface Login { String message() default \"\"; }"),
+            source("Pattern", CONSTRAINTS + "public @interface Pattern { String regexp(); String message() default \"\"; }"),
+            source(entityName, entity)
+        ));
+
+        final JavaFileManager files = new ForwardingJavaFileManager<>(compiler.getStandardFileManager(diagnostics, null, null)) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(
+                final Location location, final String className, final JavaFileObject.Kind kind, final FileObject sibling
+            ) {
+                return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+                    @Override
+                    public Writer openWriter() {
+                        return generated.computeIfAbsent(className, name -> new StringWriter());
+                    }
+
+                    @Override
+                    public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                        return generated.get(className).toString();
+                    }
+                };
+            }
+        };
+
+        // generated validators refer to domain types that are not on this classpath, so only errors raised
+        // against the hand-written sources count
+        final var task = compiler.getTask(null, files, diagnostics, List.of("-proc:only"), null, sources);
+        task.setProcessors(List.of(new ValidatorProcessor()));
+        task.call();
+
+        final var errors = diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .filter(diagnostic -> diagnostic.getSource() == null || !"mem".equals(diagnostic.getSource().toUri().getScheme()))
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .toList();
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException(String.join("\n", errors));
+        }
+        final var result = new HashMap<String, String>();
+        generated.forEach((name, writer) -> result.put(name, writer.toString()));
+        return result;
+    }
+
+    private static JavaFileObject source(final String name, final String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}